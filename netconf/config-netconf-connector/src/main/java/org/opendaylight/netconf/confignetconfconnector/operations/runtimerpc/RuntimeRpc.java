@@ -83,6 +83,12 @@ public class RuntimeRpc extends AbstractConfigNetconfOperation {
                 "This should not be used since it is not possible to provide check with these attributes");
     }
 
+    @Override
+    public Optional<OperationKey> getOperationKey() {
+        // handles any rpc, that can be resolved
+        return Optional.absent();
+    }
+
     @Override
     protected String getOperationName() {
         throw new UnsupportedOperationException("Runtime rpc does not have a stable name");
@@ -92,6 +92,12 @@ public class RuntimeRpc extends AbstractSingletonNetconfOperation {
 
     }
 
+    @Override
+    public Optional<OperationKey> getOperationKey() {
+        // handles any rpc, that can be resolved
+        return Optional.absent();
+    }
+
     @Override
     protected String getOperationName() {
         throw new UnsupportedOperationException("Runtime rpc does not have a stable name");
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.netconf.mdsal.connector.ops.get;
 
+import com.google.common.base.Optional;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.ArrayDeque;
@@ -14,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.opendaylight.controller.config.util.xml.DocumentedException;
@@ -22,12 +24,16 @@ import org.opendaylight.controller.config.util.xml.XmlElement;
 import org.opendaylight.netconf.mdsal.connector.CurrentSchemaContext;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.impl.codec.TypeDefinitionAwareCodec;
 import org.opendaylight.yangtools.yang.model.api.ChoiceCaseNode;
 import org.opendaylight.yangtools.yang.model.api.ChoiceSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.DataNodeContainer;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
+import org.opendaylight.yangtools.yang.model.api.LeafSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.ListSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.Module;
+import org.opendaylight.yangtools.yang.model.api.TypeDefinition;
+import org.opendaylight.yangtools.yang.model.api.type.UnionTypeDefinition;
 
 /**
  * Class validates filter content against schema context.
@@ -110,6 +116,9 @@ public class FilterContentValidator {
                         subtree = subtree.addChild(dataSchemaNode);
                 }
                 final DataSchemaNode childSchema = path.getLast();
+                if (childSchema instanceof ListSchemaNode) {
+                    subtree.addKeyValues(getKeyValues(childElement, (ListSchemaNode) childSchema));
+                }
                 validateNode(childElement, childSchema, subtree);
             } catch (URISyntaxException | MissingNameSpaceException e) {
                 throw new RuntimeException("Wrong namespace in element + " + childElement.toString());
@@ -118,10 +127,55 @@ public class FilterContentValidator {
         return tree;
     }
 
+    /**
+     * Returns values of all keys of a list entry, if they are specified as content match nodes in the filter.
+     * @param element list entry element
+     * @param listSchema list schema
+     * @return key values or null if some of the keys are not specified or cannot be parsed
+     */
+    private static Map<QName, Object> getKeyValues(final XmlElement element, final ListSchemaNode listSchema) {
+        final Map<QName, Object> keyValues = new LinkedHashMap<>();
+        for (final QName keyName : listSchema.getKeyDefinition()) {
+            final Optional<XmlElement> keyElement =
+                    element.getOnlyChildElementOptionally(keyName.getLocalName(), keyName.getNamespace().toString());
+            if (!keyElement.isPresent()) {
+                return null;
+            }
+            final Optional<String> keyText = keyElement.get().getOnlyTextContentOptionally();
+            final DataSchemaNode keySchema = listSchema.getDataChildByName(keyName);
+            if (!keyText.isPresent() || !(keySchema instanceof LeafSchemaNode)) {
+                return null;
+            }
+            final Object keyValue = parseKeyValue(((LeafSchemaNode) keySchema).getType(), keyText.get());
+            if (keyValue == null) {
+                return null;
+            }
+            keyValues.put(keyName, keyValue);
+        }
+        return keyValues;
+    }
+
+    private static Object parseKeyValue(final TypeDefinition<?> type, final String text) {
+        // Types whose values depend on context (leafref, identityref, instance-identifier, union) are not handled
+        if (type instanceof UnionTypeDefinition) {
+            return null;
+        }
+        final TypeDefinitionAwareCodec<Object, ?> codec = TypeDefinitionAwareCodec.from(type);
+        if (codec == null) {
+            return null;
+        }
+        try {
+            return codec.deserialize(text);
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * Searches for YangInstanceIdentifier of node, which can be used as root for data selection.
      * It goes as deep in tree as possible. Method stops traversing, when there are multiple child elements
-     * or when it encounters list node.
+     * or when it encounters list node. If the filter selects a single list entry by its keys, only that entry
+     * is read.
      * @param tree QName tree
      * @param builder builder
      * @return YangInstanceIdentifier
@@ -136,6 +190,9 @@ public class FilterContentValidator {
             }
             builder.node(child.getName());
             if (child.getType() == Type.LIST) {
+                if (child.getKeyValues() != null) {
+                    builder.nodeWithKey(child.getName(), child.getKeyValues());
+                }
                 return builder.build();
             }
             tree = child;
@@ -204,6 +261,8 @@ public class FilterContentValidator {
         private final QName name;
         private final Type type;
         private final Map<QName, FilterTree> children;
+        private Map<QName, Object> keyValues;
+        private boolean keyValuesAdded;
 
         FilterTree(final QName name, final Type type) {
             this.name = name;
@@ -240,6 +299,18 @@ public class FilterContentValidator {
         Type getType() {
             return type;
         }
+
+        /**
+         * Key values are usable only if there is exactly one entry of this list in the filter.
+         */
+        void addKeyValues(final Map<QName, Object> keyValues) {
+            this.keyValues = keyValuesAdded ? null : keyValues;
+            keyValuesAdded = true;
+        }
+
+        Map<QName, Object> getKeyValues() {
+            return keyValues;
+        }
     }
 
     private enum Type {
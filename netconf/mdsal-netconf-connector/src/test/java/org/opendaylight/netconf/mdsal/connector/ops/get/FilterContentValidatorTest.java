@@ -36,7 +36,7 @@ import org.xml.sax.SAXException;
 @RunWith(value = Parameterized.class)
 public class FilterContentValidatorTest {
 
-    private static final int TEST_CASE_COUNT = 8;
+    private static final int TEST_CASE_COUNT = 9;
     private final XmlElement filterContent;
     private final String expected;
     private FilterContentValidator validator;
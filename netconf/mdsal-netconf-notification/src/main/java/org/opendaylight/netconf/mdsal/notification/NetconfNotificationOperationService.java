@@ -10,6 +10,7 @@ package org.opendaylight.netconf.mdsal.notification;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import org.opendaylight.netconf.mapping.api.NetconfOperation;
 import org.opendaylight.netconf.mapping.api.NetconfOperationService;
 import org.opendaylight.netconf.notifications.NetconfNotificationRegistry;
@@ -18,8 +19,10 @@ import org.opendaylight.netconf.notifications.impl.ops.CreateSubscription;
 public class NetconfNotificationOperationService implements NetconfOperationService {
     private final Set<NetconfOperation> netconfOperations;
 
-    public NetconfNotificationOperationService(String netconfSessionIdForReporting, NetconfNotificationRegistry netconfNotificationRegistry) {
-        this.netconfOperations = Collections.singleton(new CreateSubscription(netconfSessionIdForReporting, netconfNotificationRegistry));
+    public NetconfNotificationOperationService(String netconfSessionIdForReporting, NetconfNotificationRegistry netconfNotificationRegistry,
+                                               ScheduledExecutorService stopTimeExecutor) {
+        this.netconfOperations = Collections.singleton(new CreateSubscription(netconfSessionIdForReporting, netconfNotificationRegistry,
+                stopTimeExecutor));
     }
 
 
@@ -10,6 +10,7 @@ package org.opendaylight.netconf.mdsal.notification;
 
 import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import org.opendaylight.controller.config.util.capability.Capability;
 import org.opendaylight.controller.sal.common.util.NoopAutoCloseable;
 import org.opendaylight.netconf.api.monitoring.CapabilityListener;
@@ -17,11 +18,13 @@ import org.opendaylight.netconf.mapping.api.NetconfOperationService;
 import org.opendaylight.netconf.mapping.api.NetconfOperationServiceFactory;
 import org.opendaylight.netconf.mapping.api.NetconfOperationServiceFactoryListener;
 import org.opendaylight.netconf.notifications.NetconfNotificationRegistry;
+import org.opendaylight.netconf.notifications.impl.ops.CreateSubscription;
 
 public class NetconfNotificationOperationServiceFactory implements NetconfOperationServiceFactory, AutoCloseable {
 
     private final NetconfNotificationRegistry netconfNotificationRegistry;
     private final NetconfOperationServiceFactoryListener netconfOperationServiceFactoryListener;
+    private final ScheduledExecutorService stopTimeExecutor = CreateSubscription.createStopTimeExecutor();
 
     public NetconfNotificationOperationServiceFactory(final NetconfNotificationRegistry netconfNotificationRegistry,
                                                       final NetconfOperationServiceFactoryListener netconfOperationServiceFactoryListener) {
@@ -41,7 +44,8 @@ public class NetconfNotificationOperationServiceFactory implements NetconfOperat
 
     @Override
     public NetconfOperationService createService(String netconfSessionIdForReporting) {
-        return new NetconfNotificationOperationService(netconfSessionIdForReporting, netconfNotificationRegistry);
+        return new NetconfNotificationOperationService(netconfSessionIdForReporting, netconfNotificationRegistry,
+                stopTimeExecutor);
     }
 
     @Override
@@ -52,5 +56,6 @@ public class NetconfNotificationOperationServiceFactory implements NetconfOperat
     @Override
     public void close() {
         this.netconfOperationServiceFactoryListener.onRemoveNetconfOperationServiceFactory(this);
+        stopTimeExecutor.shutdownNow();
     }
 }
@@ -9,6 +9,8 @@
 package org.opendaylight.netconf.api;
 
 import java.io.StringWriter;
+import java.util.Objects;
+import java.util.function.Function;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerConfigurationException;
@@ -40,6 +42,7 @@ public class NetconfMessage {
     }
 
     private final Document doc;
+    private volatile byte[] serialized;
 
     public NetconfMessage(final Document doc) {
         this.doc = doc;
@@ -49,6 +52,39 @@ public class NetconfMessage {
         return this.doc;
     }
 
+    /**
+     * @return true if the same instance of this message is sent to several sessions, so its serialized form
+     *         is worth caching with {@link #getSerialized(Function)}
+     */
+    public boolean isShared() {
+        return false;
+    }
+
+    /**
+     * Get the serialized form of this message. It is serialized only by the first session sending it and reused
+     * by the rest.
+     *
+     * <p>
+     * Document of a message shared by several sessions must only be read while holding the lock on the message,
+     * since DOM is not safe for concurrent access even when reading.
+     *
+     * @param serializer serializes the document of this message, invoked at most once
+     * @return serialized message, must not be modified
+     */
+    public byte[] getSerialized(final Function<Document, byte[]> serializer) {
+        byte[] ret = serialized;
+        if (ret == null) {
+            synchronized (this) {
+                ret = serialized;
+                if (ret == null) {
+                    ret = Objects.requireNonNull(serializer.apply(doc));
+                    serialized = ret;
+                }
+            }
+        }
+        return ret;
+    }
+
     @Override
     public String toString() {
         final StreamResult result = new StreamResult(new StringWriter());
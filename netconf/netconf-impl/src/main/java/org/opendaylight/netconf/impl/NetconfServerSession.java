@@ -8,19 +8,28 @@
 
 package org.opendaylight.netconf.impl;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.net.InetAddresses;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import io.netty.handler.codec.MessageToByteEncoder;
+import java.math.BigInteger;
 import java.net.Inet4Address;
 import java.net.InetAddress;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import org.opendaylight.netconf.api.NetconfMessage;
@@ -37,12 +46,16 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.NetconfTcp;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.Session1;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.Session1Builder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.netconf.state.sessions.session.RpcStatistics;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.netconf.state.sessions.session.RpcStatisticsBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.netconf.state.sessions.session.RpcStatisticsKey;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.NetconfSsh;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.Transport;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.sessions.Session;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.sessions.SessionBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.sessions.SessionKey;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.Gauge32;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.ZeroBasedCounter32;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,18 +65,30 @@ public final class NetconfServerSession extends AbstractNetconfSession<NetconfSe
     private static final Logger LOG = LoggerFactory.getLogger(NetconfServerSession.class);
     private static final DateTimeFormatter dateFormatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
+    // operation names come from the client, latencies of operations over this limit are reported together
+    @VisibleForTesting
+    static final int MAX_RPC_STATISTICS = 64;
+    @VisibleForTesting
+    static final String OTHER_OPERATIONS = "other";
+
     private final NetconfHelloMessageAdditionalHeader header;
     private final NetconfServerSessionListener sessionListener;
+    private final Channel channel;
 
     private ZonedDateTime loginTime;
     private long inRpcSuccess, inRpcFail, outRpcError, outNotification;
     private volatile boolean delayedClose;
+    private volatile int pendingRpcs;
+    private final Map<String, RpcLatency> rpcLatencies = new TreeMap<>();
+    // notifications sent while an rpc is processed, guarded by this
+    private List<HeldNotification> heldNotifications;
 
     public NetconfServerSession(final NetconfServerSessionListener sessionListener, final Channel channel, final long sessionId,
             final NetconfHelloMessageAdditionalHeader header) {
         super(sessionListener, channel, sessionId);
         this.header = header;
         this.sessionListener = sessionListener;
+        this.channel = channel;
         LOG.debug("Session {} created", toString());
     }
 
@@ -82,13 +107,59 @@ public final class NetconfServerSession extends AbstractNetconfSession<NetconfSe
         this.delayedClose = true;
     }
 
+    /**
+     * Hold notifications sent to this session until {@link #releaseNotifications()}. Used while an rpc is processed,
+     * so that notifications triggered by the rpc, e.g. replay of a new subscription, follow its reply.
+     */
+    public synchronized void holdNotifications() {
+        if (heldNotifications == null) {
+            heldNotifications = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Send notifications held since {@link #holdNotifications()}, in the order they were sent.
+     */
+    public synchronized void releaseNotifications() {
+        if (heldNotifications == null) {
+            return;
+        }
+        for (final HeldNotification held : heldNotifications) {
+            sendNotification(held.notification).addListener(future -> {
+                if (future.isSuccess()) {
+                    held.promise.setSuccess();
+                } else {
+                    held.promise.setFailure(future.cause());
+                }
+            });
+        }
+        heldNotifications = null;
+    }
+
     @Override
     public ChannelFuture sendMessage(final NetconfMessage netconfMessage) {
-        final ChannelFuture channelFuture = super.sendMessage(netconfMessage);
         if (netconfMessage instanceof NetconfNotification) {
-            outNotification++;
-            sessionListener.onNotification(this, (NetconfNotification) netconfMessage);
+            synchronized (this) {
+                if (heldNotifications != null) {
+                    final ChannelPromise promise = channel.newPromise();
+                    heldNotifications.add(new HeldNotification((NetconfNotification) netconfMessage, promise));
+                    return promise;
+                }
+                return sendNotification((NetconfNotification) netconfMessage);
+            }
         }
+        return doSendMessage(netconfMessage);
+    }
+
+    private ChannelFuture sendNotification(final NetconfNotification notification) {
+        final ChannelFuture channelFuture = doSendMessage(notification);
+        outNotification++;
+        sessionListener.onNotification(this, notification);
+        return channelFuture;
+    }
+
+    private ChannelFuture doSendMessage(final NetconfMessage netconfMessage) {
+        final ChannelFuture channelFuture = super.sendMessage(netconfMessage);
         // delayed close was set, close after the message was sent
         if(delayedClose) {
             channelFuture.addListener(new ChannelFutureListener() {
@@ -113,6 +184,48 @@ public final class NetconfServerSession extends AbstractNetconfSession<NetconfSe
         outRpcError++;
     }
 
+    /**
+     * Update number of rpcs received on this session, that are waiting for execution.
+     */
+    public void setPendingRpcs(final int pendingRpcs) {
+        this.pendingRpcs = pendingRpcs;
+    }
+
+    /**
+     * Record latency of a processed rpc.
+     *
+     * @param operation name of the rpc operation
+     * @param latencyNanos time from arrival of the rpc until its reply was sent
+     */
+    public void onRpcProcessed(final String operation, final long latencyNanos) {
+        synchronized (rpcLatencies) {
+            final String key = rpcLatencies.containsKey(operation) || rpcLatencies.size() < MAX_RPC_STATISTICS
+                    ? operation : OTHER_OPERATIONS;
+            rpcLatencies.computeIfAbsent(key, k -> new RpcLatency()).add(latencyNanos);
+        }
+    }
+
+    private List<RpcStatistics> getRpcStatistics() {
+        final List<RpcStatistics> statistics = new ArrayList<>();
+        synchronized (rpcLatencies) {
+            for (final Map.Entry<String, RpcLatency> entry : rpcLatencies.entrySet()) {
+                final RpcLatency latency = entry.getValue();
+                statistics.add(new RpcStatisticsBuilder()
+                        .setKey(new RpcStatisticsKey(entry.getKey()))
+                        .setOperation(entry.getKey())
+                        .setCount(new ZeroBasedCounter32(latency.count))
+                        .setTotalLatencyMicros(toMicros(latency.totalNanos))
+                        .setMaxLatencyMicros(toMicros(latency.maxNanos))
+                        .build());
+            }
+        }
+        return statistics;
+    }
+
+    private static BigInteger toMicros(final long nanos) {
+        return BigInteger.valueOf(TimeUnit.NANOSECONDS.toMicros(nanos));
+    }
+
     private static final String dateTimePatternString = DateAndTime.PATTERN_CONSTANTS.get(0);
     private static final Pattern dateTimePattern = Pattern.compile(dateTimePatternString);
 
@@ -150,6 +263,8 @@ public final class NetconfServerSession extends AbstractNetconfSession<NetconfSe
 
         Session1Builder builder1 = new Session1Builder();
         builder1.setSessionIdentifier(header.getSessionIdentifier());
+        builder1.setPendingRpcs(new Gauge32((long) pendingRpcs));
+        builder1.setRpcStatistics(getRpcStatistics());
         builder.addAugmentation(Session1.class, builder1.build());
 
         return builder.build();
@@ -173,13 +288,44 @@ public final class NetconfServerSession extends AbstractNetconfSession<NetconfSe
 
     @Override
     protected void addExiHandlers(final ByteToMessageDecoder decoder, final MessageToByteEncoder<NetconfMessage> encoder) {
-        replaceMessageDecoder(decoder);
-        replaceMessageEncoderAfterNextMessage(encoder);
+        replaceCodec(decoder, encoder);
     }
 
     @Override
     public void stopExiCommunication() {
-        replaceMessageDecoder(new NetconfXMLToMessageDecoder());
-        replaceMessageEncoderAfterNextMessage(new NetconfMessageToXMLEncoder());
+        replaceCodec(new NetconfXMLToMessageDecoder(), new NetconfMessageToXMLEncoder());
+    }
+
+    /**
+     * Rpcs may be executed outside of the netty thread, so the pipeline is changed by the event loop. The change is
+     * queued before the reply to start-exi/stop-exi, which is therefore still sent with the current encoder.
+     */
+    private void replaceCodec(final ChannelHandler decoder, final ChannelHandler encoder) {
+        channel.eventLoop().execute(() -> {
+            replaceMessageDecoder(decoder);
+            replaceMessageEncoderAfterNextMessage(encoder);
+        });
+    }
+
+    private static final class HeldNotification {
+        private final NetconfNotification notification;
+        private final ChannelPromise promise;
+
+        HeldNotification(final NetconfNotification notification, final ChannelPromise promise) {
+            this.notification = notification;
+            this.promise = promise;
+        }
+    }
+
+    private static final class RpcLatency {
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+
+        void add(final long latencyNanos) {
+            count++;
+            totalNanos += latencyNanos;
+            maxNanos = Math.max(maxNanos, latencyNanos);
+        }
     }
 }
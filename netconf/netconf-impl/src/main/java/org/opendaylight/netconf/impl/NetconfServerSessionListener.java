@@ -11,6 +11,9 @@ package org.opendaylight.netconf.impl;
 
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
 import org.opendaylight.controller.config.util.xml.DocumentedException;
 import org.opendaylight.controller.config.util.xml.XmlUtil;
 import org.opendaylight.netconf.api.NetconfMessage;
@@ -27,6 +30,7 @@ import org.opendaylight.netconf.util.messages.SubtreeFilter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
+import org.w3c.dom.Element;
 import org.w3c.dom.NamedNodeMap;
 import org.w3c.dom.Node;
 
@@ -36,12 +40,27 @@ public class NetconfServerSessionListener implements NetconfSessionListener<Netc
     private final SessionListener monitoringSessionListener;
     private final NetconfOperationRouter operationRouter;
     private final AutoCloseable onSessionDownCloseable;
+    private final Executor rpcExecutor;
+
+    // rpcs received on this session, which are waiting for execution, guarded by this
+    private final Queue<PendingRpc> pendingRpcs = new ArrayDeque<>();
+    private boolean executing;
 
     public NetconfServerSessionListener(final NetconfOperationRouter operationRouter, final NetconfMonitoringService monitoringService,
                                         final AutoCloseable onSessionDownCloseable) {
+        this(operationRouter, monitoringService, onSessionDownCloseable, null);
+    }
+
+    /**
+     * @param rpcExecutor executor for processing of incoming rpcs. Rpcs of this session are executed one at a time,
+     *                    in the order they were received. If null, rpcs are executed directly by the netty thread.
+     */
+    public NetconfServerSessionListener(final NetconfOperationRouter operationRouter, final NetconfMonitoringService monitoringService,
+                                        final AutoCloseable onSessionDownCloseable, final Executor rpcExecutor) {
         this.operationRouter = operationRouter;
         this.monitoringSessionListener = monitoringService.getSessionListener();
         this.onSessionDownCloseable = onSessionDownCloseable;
+        this.rpcExecutor = rpcExecutor;
     }
 
     @Override
@@ -56,6 +75,10 @@ public class NetconfServerSessionListener implements NetconfSessionListener<Netc
     }
 
     public void onDown(final NetconfServerSession netconfNetconfServerSession) {
+        synchronized (this) {
+            // replies to rpcs waiting for execution cannot be sent anymore
+            pendingRpcs.clear();
+        }
         monitoringSessionListener.onSessionDown(netconfNetconfServerSession);
 
         try {
@@ -80,6 +103,67 @@ public class NetconfServerSessionListener implements NetconfSessionListener<Netc
 
     @Override
     public void onMessage(final NetconfServerSession session, final NetconfMessage netconfMessage) {
+        final long receivedNanos = System.nanoTime();
+        if (rpcExecutor == null) {
+            handleMessage(session, netconfMessage, receivedNanos);
+            return;
+        }
+
+        final boolean startExecution;
+        synchronized (this) {
+            pendingRpcs.add(new PendingRpc(netconfMessage, receivedNanos));
+            session.setPendingRpcs(pendingRpcs.size());
+            startExecution = !executing;
+            executing = true;
+        }
+        if (startExecution) {
+            rpcExecutor.execute(() -> executeNextRpc(session));
+        }
+    }
+
+    /**
+     * Execute the oldest pending rpc of this session. Next rpc is resubmitted to the executor as a new task,
+     * so that sessions with many pending rpcs do not starve other sessions.
+     */
+    private void executeNextRpc(final NetconfServerSession session) {
+        final PendingRpc rpc;
+        synchronized (this) {
+            rpc = pendingRpcs.poll();
+            if (rpc == null) {
+                // session went down in the meantime
+                executing = false;
+                return;
+            }
+            session.setPendingRpcs(pendingRpcs.size());
+        }
+
+        try {
+            handleMessage(session, rpc.message, rpc.receivedNanos);
+        } catch (final RuntimeException e) {
+            // there is nobody to propagate the failure to, so at least tell the client its rpc failed
+            LOG.debug("Session {}: processing of message {} failed", session, rpc.message, e);
+            session.onOutgoingRpcError();
+            monitoringSessionListener.onSessionEvent(SessionEvent.outRpcError(session));
+            SendErrorExceptionUtil.sendErrorMessage(session, new DocumentedException(
+                    "Unable to process incoming message: " + e.getMessage(), e,
+                    DocumentedException.ErrorType.APPLICATION, DocumentedException.ErrorTag.OPERATION_FAILED,
+                    DocumentedException.ErrorSeverity.ERROR), rpc.message);
+        } finally {
+            final boolean executeNext;
+            synchronized (this) {
+                executeNext = !pendingRpcs.isEmpty();
+                executing = executeNext;
+            }
+            if (executeNext) {
+                rpcExecutor.execute(() -> executeNextRpc(session));
+            }
+        }
+    }
+
+    private void handleMessage(final NetconfServerSession session, final NetconfMessage netconfMessage,
+                               final long receivedNanos) {
+        // notifications triggered by this rpc have to follow its reply
+        session.holdNotifications();
         try {
 
             Preconditions.checkState(operationRouter != null, "Cannot handle message, session up was not yet received");
@@ -102,9 +186,29 @@ public class NetconfServerSessionListener implements NetconfSessionListener<Netc
             monitoringSessionListener.onSessionEvent(SessionEvent.inRpcFail(session));
             monitoringSessionListener.onSessionEvent(SessionEvent.outRpcError(session));
             SendErrorExceptionUtil.sendErrorMessage(session, e, netconfMessage);
+        } finally {
+            session.releaseNotifications();
+            final long latencyNanos = System.nanoTime() - receivedNanos;
+            final String operation = getOperationName(netconfMessage);
+            LOG.debug("Session {}: {} processed in {} us", session, operation, latencyNanos / 1000);
+            session.onRpcProcessed(operation, latencyNanos);
         }
     }
 
+    private static String getOperationName(final NetconfMessage netconfMessage) {
+        final Element rootElement = netconfMessage.getDocument().getDocumentElement();
+        for (Node child = rootElement.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element) {
+                return getName(child);
+            }
+        }
+        return getName(rootElement);
+    }
+
+    private static String getName(final Node node) {
+        return node.getLocalName() != null ? node.getLocalName() : node.getNodeName();
+    }
+
     public void onNotification(final NetconfServerSession session, final NetconfNotification notification) {
         monitoringSessionListener.onSessionEvent(SessionEvent.notification(session));
     }
@@ -116,15 +220,20 @@ public class NetconfServerSessionListener implements NetconfSessionListener<Netc
         final Node rootNode = incomingDocument.getDocumentElement();
 
         if (rootNode.getLocalName().equals(XmlNetconfConstants.RPC_KEY)) {
-            final Document responseDocument = XmlUtil.newDocument();
             checkMessageId(rootNode);
 
-            Document rpcReply = operationRouter.onNetconfMessage(incomingDocument, session);
+            final Document rpcReply = operationRouter.onNetconfMessage(incomingDocument, session);
 
-            rpcReply = SubtreeFilter.applyRpcSubtreeFilter(incomingDocument, rpcReply);
+            final Document filteredReply = SubtreeFilter.applyRpcSubtreeFilter(incomingDocument, rpcReply);
 
             session.onIncommingRpcSuccess();
 
+            if (filteredReply != rpcReply) {
+                // filtered reply is a new document already, no need to copy it once more
+                return new NetconfMessage(filteredReply);
+            }
+
+            final Document responseDocument = XmlUtil.newDocument();
             responseDocument.appendChild(responseDocument.importNode(rpcReply.getDocumentElement(), true));
             return new NetconfMessage(responseDocument);
         } else {
@@ -159,4 +268,14 @@ public class NetconfServerSessionListener implements NetconfSessionListener<Netc
                 ImmutableMap.of("bad-attribute", XmlNetconfConstants.MESSAGE_ID,
                         "bad-element", XmlNetconfConstants.RPC_KEY));
     }
+
+    private static final class PendingRpc {
+        private final NetconfMessage message;
+        private final long receivedNanos;
+
+        PendingRpc(final NetconfMessage message, final long receivedNanos) {
+            this.message = message;
+            this.receivedNanos = receivedNanos;
+        }
+    }
 }
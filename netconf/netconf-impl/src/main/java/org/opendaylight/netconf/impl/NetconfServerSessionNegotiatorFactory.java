@@ -13,11 +13,17 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.channel.Channel;
 import io.netty.util.Timer;
 import io.netty.util.concurrent.Promise;
 import java.net.SocketAddress;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.netconf.api.NetconfDocumentedException;
 import org.opendaylight.netconf.api.NetconfServerSessionPreferences;
 import org.opendaylight.netconf.api.messages.NetconfHelloMessage;
@@ -51,16 +57,45 @@ public class NetconfServerSessionNegotiatorFactory implements SessionNegotiatorF
     private final NetconfMonitoringService monitoringService;
     private static final Logger LOG = LoggerFactory.getLogger(NetconfServerSessionNegotiatorFactory.class);
     private final Set<String> baseCapabilities;
+    private final Executor rpcExecutor;
 
     public NetconfServerSessionNegotiatorFactory(final Timer timer, final NetconfOperationServiceFactory netconfOperationProvider,
                                                  final SessionIdProvider idProvider, final long connectionTimeoutMillis,
                                                  final NetconfMonitoringService monitoringService, final Set<String> baseCapabilities) {
+        this(timer, netconfOperationProvider, idProvider, connectionTimeoutMillis, monitoringService, baseCapabilities, null);
+    }
+
+    /**
+     * @param rpcExecutor executor for processing of rpcs received by server sessions, so that they do not block
+     *                    the netty threads. If null, rpcs are processed directly by the netty threads.
+     */
+    public NetconfServerSessionNegotiatorFactory(final Timer timer, final NetconfOperationServiceFactory netconfOperationProvider,
+                                                 final SessionIdProvider idProvider, final long connectionTimeoutMillis,
+                                                 final NetconfMonitoringService monitoringService, final Set<String> baseCapabilities,
+                                                 final Executor rpcExecutor) {
         this.timer = timer;
         this.aggregatedOpService = netconfOperationProvider;
         this.idProvider = idProvider;
         this.connectionTimeoutMillis = connectionTimeoutMillis;
         this.monitoringService = monitoringService;
         this.baseCapabilities = validateBaseCapabilities(baseCapabilities == null ? DEFAULT_BASE_CAPABILITIES : baseCapabilities);
+        this.rpcExecutor = rpcExecutor;
+    }
+
+    /**
+     * Create a bounded thread pool suitable for processing of rpcs received by server sessions. Each session submits
+     * at most one task at a time, so the size of the work queue is limited by the number of sessions.
+     *
+     * @param threads maximal number of rpcs processed concurrently
+     * @return executor, which has to be shut down by the caller
+     */
+    public static ExecutorService createRpcExecutor(final int threads) {
+        Preconditions.checkArgument(threads > 0, "Number of rpc threads has to be positive, was %s", threads);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("netconf-server-rpc-%d").setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
     }
 
 
@@ -107,7 +142,7 @@ public class NetconfServerSessionNegotiatorFactory implements SessionNegotiatorF
         final NetconfOperationService service = getOperationServiceForAddress(netconfSessionIdForReporting, socketAddress);
         final NetconfOperationRouter operationRouter =
                 new NetconfOperationRouterImpl(service, monitoringService, netconfSessionIdForReporting);
-        return new NetconfServerSessionListener(operationRouter, monitoringService, service);
+        return new NetconfServerSessionListener(operationRouter, monitoringService, service, rpcExecutor);
 
     }
 
@@ -11,6 +11,7 @@ package org.opendaylight.netconf.impl;
 import com.google.common.base.Preconditions;
 import io.netty.util.Timer;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import org.opendaylight.netconf.api.monitoring.NetconfMonitoringService;
 import org.opendaylight.netconf.mapping.api.NetconfOperationServiceFactory;
 
@@ -21,6 +22,7 @@ public class NetconfServerSessionNegotiatorFactoryBuilder {
     private long connectionTimeoutMillis;
     private NetconfMonitoringService monitoringService;
     private Set<String> baseCapabilities;
+    private Executor rpcExecutor;
 
     public NetconfServerSessionNegotiatorFactoryBuilder() {
     }
@@ -55,10 +57,16 @@ public class NetconfServerSessionNegotiatorFactoryBuilder {
         return this;
     }
 
+    public NetconfServerSessionNegotiatorFactoryBuilder setRpcExecutor(final Executor rpcExecutor) {
+        this.rpcExecutor = rpcExecutor;
+        return this;
+    }
+
 
     public NetconfServerSessionNegotiatorFactory build() {
         validate();
-        return new NetconfServerSessionNegotiatorFactory(timer, aggregatedOpService, idProvider, connectionTimeoutMillis, monitoringService, baseCapabilities);
+        return new NetconfServerSessionNegotiatorFactory(timer, aggregatedOpService, idProvider, connectionTimeoutMillis, monitoringService, baseCapabilities,
+                rpcExecutor);
     }
 
 
@@ -13,6 +13,7 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.util.HashedWheelTimer;
 import java.util.Dictionary;
 import java.util.Hashtable;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import org.opendaylight.netconf.api.monitoring.NetconfMonitoringService;
 import org.opendaylight.netconf.impl.NetconfServerDispatcherImpl;
@@ -41,6 +42,7 @@ public class NetconfImplActivator implements BundleActivator {
     private NetconfOperationServiceFactoryTracker factoriesTracker;
     private NioEventLoopGroup eventLoopGroup;
     private HashedWheelTimer timer;
+    private ExecutorService rpcExecutor;
     private ServiceRegistration<NetconfMonitoringService> regMonitoring;
 
     private BaseNotificationPublisherRegistration listenerReg;
@@ -58,12 +60,18 @@ public class NetconfImplActivator implements BundleActivator {
 
             final NetconfMonitoringServiceImpl monitoringService = startMonitoringService(context, factoriesListener);
 
+            final int rpcExecutorThreads = NetconfConfigUtil.getNetconfConfigurationService(context)
+                    .map(NetconfConfiguration::getRpcExecutorThreads)
+                    .orElse(NetconfConfiguration.DEFAULT_RPC_EXECUTOR_THREADS);
+            rpcExecutor = NetconfServerSessionNegotiatorFactory.createRpcExecutor(rpcExecutorThreads);
+
             NetconfServerSessionNegotiatorFactory serverNegotiatorFactory = new NetconfServerSessionNegotiatorFactoryBuilder()
                     .setAggregatedOpService(factoriesListener)
                     .setTimer(timer)
                     .setIdProvider(idProvider)
                     .setMonitoringService(monitoringService)
                     .setConnectionTimeoutMillis(connectionTimeoutMillis)
+                    .setRpcExecutor(rpcExecutor)
                     .build();
 
             eventLoopGroup = new NioEventLoopGroup();
@@ -123,6 +131,7 @@ public class NetconfImplActivator implements BundleActivator {
 
         eventLoopGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS);
         timer.stop();
+        rpcExecutor.shutdown();
 
         regMonitoring.unregister();
         factoriesTracker.close();
@@ -7,8 +7,12 @@
  */
 package org.opendaylight.netconf.impl.osgi;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Maps;
 import java.util.Collection;
 import java.util.Collections;
@@ -29,6 +33,9 @@ import org.opendaylight.netconf.mapping.api.NetconfOperation;
 import org.opendaylight.netconf.mapping.api.NetconfOperationChainedExecution;
 import org.opendaylight.netconf.mapping.api.NetconfOperationService;
 import org.opendaylight.netconf.mapping.api.SessionAwareNetconfOperation;
+import org.opendaylight.netconf.util.mapping.AbstractNetconfOperation;
+import org.opendaylight.netconf.util.mapping.AbstractNetconfOperation.OperationKey;
+import org.opendaylight.netconf.util.mapping.AbstractNetconfOperation.OperationNameAndNamespace;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
@@ -38,6 +45,10 @@ public class NetconfOperationRouterImpl implements NetconfOperationRouter {
     private static final Logger LOG = LoggerFactory.getLogger(NetconfOperationRouterImpl.class);
     private final NetconfOperationService netconfOperationServiceSnapshot;
     private final Collection<NetconfOperation> allNetconfOperations;
+    // operations bound to a single operation element, only these can handle requests with that element
+    private final ImmutableListMultimap<OperationKey, NetconfOperation> operationsByKey;
+    // operations, that have to be asked for every request
+    private final Collection<NetconfOperation> unboundOperations;
 
     public NetconfOperationRouterImpl(final NetconfOperationService netconfOperationServiceSnapshot,
                                       final NetconfMonitoringService netconfMonitoringService, final String sessionId) {
@@ -51,6 +62,20 @@ public class NetconfOperationRouterImpl implements NetconfOperationRouter {
         ops.addAll(netconfOperationServiceSnapshot.getNetconfOperations());
 
         allNetconfOperations = ImmutableSet.copyOf(ops);
+
+        final ImmutableListMultimap.Builder<OperationKey, NetconfOperation> byKey = ImmutableListMultimap.builder();
+        final ImmutableList.Builder<NetconfOperation> unbound = ImmutableList.builder();
+        for (final NetconfOperation operation : allNetconfOperations) {
+            final Optional<OperationKey> key = operation instanceof AbstractNetconfOperation
+                    ? ((AbstractNetconfOperation) operation).getOperationKey() : Optional.absent();
+            if (key.isPresent()) {
+                byKey.put(key.get(), operation);
+            } else {
+                unbound.add(operation);
+            }
+        }
+        operationsByKey = byKey.build();
+        unboundOperations = unbound.build();
     }
 
     @Override
@@ -129,7 +154,7 @@ public class NetconfOperationRouterImpl implements NetconfOperationRouter {
             final NetconfServerSession session) throws DocumentedException {
         final TreeMap<HandlingPriority, NetconfOperation> sortedPriority = Maps.newTreeMap();
 
-        for (final NetconfOperation netconfOperation : allNetconfOperations) {
+        for (final NetconfOperation netconfOperation : getCandidateOperations(message)) {
             final HandlingPriority handlingPriority = netconfOperation.canHandle(message);
             if (netconfOperation instanceof DefaultNetconfOperation) {
                 ((DefaultNetconfOperation) netconfOperation).setNetconfSession(session);
@@ -148,6 +173,18 @@ public class NetconfOperationRouterImpl implements NetconfOperationRouter {
         return sortedPriority;
     }
 
+    private Iterable<NetconfOperation> getCandidateOperations(final Document message) {
+        final OperationKey key;
+        try {
+            key = new OperationKey(new OperationNameAndNamespace(message));
+        } catch (final DocumentedException e) {
+            // Not a well formed rpc, operations report the error from canHandle
+            LOG.trace("Unable to resolve operation of message {}, asking all operations", message, e);
+            return allNetconfOperations;
+        }
+        return Iterables.concat(operationsByKey.get(key), unboundOperations);
+    }
+
     private static class NetconfOperationExecution implements NetconfOperationChainedExecution {
         private final NetconfOperation netconfOperation;
         private final NetconfOperationChainedExecution subsequentExecution;
@@ -13,9 +13,12 @@ import static org.mockito.Matchers.argThat;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import io.netty.channel.embedded.EmbeddedChannel;
+import java.util.ArrayDeque;
+import java.util.Queue;
 import org.custommonkey.xmlunit.Diff;
 import org.custommonkey.xmlunit.XMLUnit;
 import org.hamcrest.CustomMatcher;
@@ -104,6 +107,36 @@ public class NetconfServerSessionListenerTest {
         Assert.assertTrue(diff.toString(), diff.similar());
     }
 
+    @Test
+    public void testOnMessageWithRpcExecutor() throws Exception {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        listener = new NetconfServerSessionListener(router, monitoring, closeable, tasks::add);
+        final Document reply1 = XmlUtil.readXmlToDocument("<rpc-reply message-id=\"101\" " +
+                "xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><first/></rpc-reply>");
+        final Document reply2 = XmlUtil.readXmlToDocument("<rpc-reply message-id=\"102\" " +
+                "xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><second/></rpc-reply>");
+        doReturn(reply1, reply2).when(router).onNetconfMessage(any(), any());
+        listener.onMessage(session, new NetconfMessage(XmlUtil.readXmlToDocument("<rpc message-id=\"101\" " +
+                "xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><example/></rpc>")));
+        listener.onMessage(session, new NetconfMessage(XmlUtil.readXmlToDocument("<rpc message-id=\"102\" " +
+                "xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><example/></rpc>")));
+
+        // rpcs are not executed by the calling thread and only one rpc of the session is executed at a time
+        verify(router, never()).onNetconfMessage(any(), any());
+        Assert.assertEquals(1, tasks.size());
+
+        tasks.remove().run();
+        Assert.assertEquals(1, tasks.size());
+        tasks.remove().run();
+        Assert.assertTrue(tasks.isEmpty());
+
+        channel.runPendingTasks();
+        final Diff diff1 = XMLUnit.compareXML(reply1, ((NetconfMessage) channel.readOutbound()).getDocument());
+        Assert.assertTrue(diff1.toString(), diff1.similar());
+        final Diff diff2 = XMLUnit.compareXML(reply2, ((NetconfMessage) channel.readOutbound()).getDocument());
+        Assert.assertTrue(diff2.toString(), diff2.similar());
+    }
+
     @Test
     public void testOnMessageRuntimeFail() throws Exception {
         doThrow(new RuntimeException("runtime fail")).when(router).onNetconfMessage(any(), any());
@@ -119,6 +152,26 @@ public class NetconfServerSessionListenerTest {
         }
     }
 
+    @Test
+    public void testOnMessageRuntimeFailWithRpcExecutor() throws Exception {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+        listener = new NetconfServerSessionListener(router, monitoring, closeable, tasks::add);
+        doThrow(new RuntimeException("runtime fail")).when(router).onNetconfMessage(any(), any());
+        listener.onMessage(session, new NetconfMessage(XmlUtil.readXmlToDocument("<rpc message-id=\"101\" " +
+                "xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><example/></rpc>")));
+        tasks.remove().run();
+        Assert.assertTrue(tasks.isEmpty());
+        verify(monitoringListener).onSessionEvent(argThat(sessionEventIs(SessionEvent.Type.IN_RPC_FAIL)));
+        verify(monitoringListener).onSessionEvent(argThat(sessionEventIs(SessionEvent.Type.OUT_RPC_ERROR)));
+
+        channel.runPendingTasks();
+        final Document sent = ((NetconfMessage) channel.readOutbound()).getDocument();
+        Assert.assertEquals("101", sent.getDocumentElement().getAttribute("message-id"));
+        Assert.assertEquals("operation-failed",
+                sent.getElementsByTagNameNS("urn:ietf:params:xml:ns:netconf:base:1.0", "error-tag").item(0)
+                        .getTextContent());
+    }
+
     @Test
     public void testOnMessageDocumentedFail() throws Exception {
         final Document reply =
@@ -33,6 +33,8 @@ import org.opendaylight.netconf.nettyutil.handler.NetconfMessageToXMLEncoder;
 import org.opendaylight.netconf.nettyutil.handler.NetconfXMLToMessageDecoder;
 import org.opendaylight.netconf.notifications.NetconfNotification;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.NetconfTcp;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.Session1;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.extension.rev131210.netconf.state.sessions.session.RpcStatistics;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.NetconfSsh;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.monitoring.rev101004.netconf.state.sessions.Session;
 import org.openexi.proc.common.EXIOptions;
@@ -130,6 +132,40 @@ public class NetconfServerSessionTest {
                 afterRpcSuccess.getOutRpcErrors().getValue().longValue());
     }
 
+    @Test
+    public void testRpcStatistics() throws Exception {
+        session.sessionUp();
+        session.setPendingRpcs(2);
+        session.onRpcProcessed("get", 3000);
+        session.onRpcProcessed("get", 5000);
+        final Session1 managementSession = session.toManagementSession().getAugmentation(Session1.class);
+        Assert.assertEquals(2L, managementSession.getPendingRpcs().getValue().longValue());
+        Assert.assertEquals(1, managementSession.getRpcStatistics().size());
+        final RpcStatistics statistics = managementSession.getRpcStatistics().get(0);
+        Assert.assertEquals("get", statistics.getOperation());
+        Assert.assertEquals(2L, statistics.getCount().getValue().longValue());
+        Assert.assertEquals(8L, statistics.getTotalLatencyMicros().longValue());
+        Assert.assertEquals(5L, statistics.getMaxLatencyMicros().longValue());
+    }
+
+    @Test
+    public void testRpcStatisticsLimit() throws Exception {
+        session.sessionUp();
+        for (int i = 0; i < NetconfServerSession.MAX_RPC_STATISTICS + 10; i++) {
+            session.onRpcProcessed("operation-" + i, 1000);
+        }
+        session.onRpcProcessed("operation-0", 1000);
+        final Session1 managementSession = session.toManagementSession().getAugmentation(Session1.class);
+        Assert.assertEquals(NetconfServerSession.MAX_RPC_STATISTICS + 1, managementSession.getRpcStatistics().size());
+        for (final RpcStatistics statistics : managementSession.getRpcStatistics()) {
+            if (NetconfServerSession.OTHER_OPERATIONS.equals(statistics.getOperation())) {
+                Assert.assertEquals(10L, statistics.getCount().getValue().longValue());
+            } else if ("operation-0".equals(statistics.getOperation())) {
+                Assert.assertEquals(2L, statistics.getCount().getValue().longValue());
+            }
+        }
+    }
+
     @Test
     public void testToManagementSession() throws Exception {
         final NetconfHelloMessageAdditionalHeader header =
@@ -181,6 +217,14 @@ public class NetconfServerSessionTest {
                 new NetconfMessageToXMLEncoder());
         final NetconfEXICodec codec = new NetconfEXICodec(new EXIOptions());
         session.addExiHandlers(NetconfEXIToMessageDecoder.create(codec), NetconfMessageToEXIEncoder.create(codec));
+        //pipeline is changed by the event loop of the channel
+        Assert.assertTrue(NetconfXMLToMessageDecoder.class.equals(
+                channel.pipeline().get(AbstractChannelInitializer.NETCONF_MESSAGE_DECODER).getClass()));
+        channel.runPendingTasks();
+        Assert.assertTrue(NetconfEXIToMessageDecoder.class.equals(
+                channel.pipeline().get(AbstractChannelInitializer.NETCONF_MESSAGE_DECODER).getClass()));
+        Assert.assertTrue(NetconfMessageToXMLEncoder.class.equals(
+                channel.pipeline().get(AbstractChannelInitializer.NETCONF_MESSAGE_ENCODER).getClass()));
     }
 
     @Test
@@ -10,8 +10,11 @@ package org.opendaylight.netconf.impl.osgi;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.google.common.base.Optional;
+
 import java.io.IOException;
 import java.util.Collections;
 import java.util.HashSet;
@@ -29,6 +32,8 @@ import org.opendaylight.netconf.mapping.api.HandlingPriority;
 import org.opendaylight.netconf.mapping.api.NetconfOperation;
 import org.opendaylight.netconf.mapping.api.NetconfOperationChainedExecution;
 import org.opendaylight.netconf.mapping.api.NetconfOperationService;
+import org.opendaylight.netconf.util.mapping.AbstractNetconfOperation;
+import org.opendaylight.netconf.util.mapping.AbstractNetconfOperation.OperationKey;
 import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
 
@@ -48,6 +53,8 @@ public class NetconfOperationRouterImplTest {
     private NetconfOperation maxPrioMock;
     @Mock
     private NetconfOperation defaultPrioMock;
+    @Mock
+    private AbstractNetconfOperation otherOperationMock;
 
     private NetconfOperationRouterImpl operationRouter;
     private NetconfOperationRouterImpl emptyOperationRouter;
@@ -67,9 +74,13 @@ public class NetconfOperationRouterImplTest {
         doReturn(HandlingPriority.HANDLE_WITH_DEFAULT_PRIORITY).when(defaultPrioMock).canHandle(any(Document.class));
         doReturn(XmlUtil.readXmlToDocument(DEFAULT_PRIORITY_REPLY)).when(defaultPrioMock).handle(any(Document.class), any(NetconfOperationChainedExecution.class));
 
+        doReturn(Optional.of(new OperationKey("other", "urn:ietf:params:xml:ns:netconf:base:1.0")))
+                .when(otherOperationMock).getOperationKey();
+
         final Set<NetconfOperation> operations = new HashSet<>();
         operations.add(maxPrioMock);
         operations.add(defaultPrioMock);
+        operations.add(otherOperationMock);
         doReturn(operations).when(operationService).getNetconfOperations();
         doNothing().when(operationService).close();
 
@@ -99,6 +110,9 @@ public class NetconfOperationRouterImplTest {
         Assert.assertTrue(defaultPriorityChainEx.getValue().isExecutionTermination());
 
         Assert.assertEquals(MAX_PRIORITY_REPLY, XmlUtil.toString(document).trim());
+
+        //operation bound to a different operation element is not asked at all
+        verify(otherOperationMock, never()).canHandle(any(Document.class));
     }
 
     @Test
@@ -21,6 +21,7 @@ public class ChunkedFramingMechanismEncoder extends MessageToByteEncoder<ByteBuf
     public static final int MAX_CHUNK_SIZE = 16 * 1024 * 1024;
 
     private final int chunkSize;
+    private final byte[] chunkHeader;
 
     public ChunkedFramingMechanismEncoder() {
         this(DEFAULT_CHUNK_SIZE);
@@ -29,24 +30,51 @@ public class ChunkedFramingMechanismEncoder extends MessageToByteEncoder<ByteBuf
     public ChunkedFramingMechanismEncoder(final int chunkSize) {
         Preconditions.checkArgument(chunkSize >= MIN_CHUNK_SIZE && chunkSize <= MAX_CHUNK_SIZE, "Unsupported chunk size %s", chunkSize);
         this.chunkSize = chunkSize;
+        // All chunks but the last one have the same header, so prepare it upfront
+        this.chunkHeader = ("\n#" + chunkSize + "\n").getBytes(StandardCharsets.US_ASCII);
     }
 
     public final int getChunkSize() {
         return chunkSize;
     }
 
+    @Override
+    protected ByteBuf allocateBuffer(final ChannelHandlerContext ctx, final ByteBuf msg, final boolean preferDirect) {
+        // Size the buffer so it does not need to be expanded (and hence copied) while encoding
+        final int length = msg.readableBytes();
+        final int chunks = length / chunkSize + 1;
+        final int capacity = length + chunks * chunkHeader.length + NetconfMessageConstants.END_OF_CHUNK.length;
+        return preferDirect ? ctx.alloc().ioBuffer(capacity) : ctx.alloc().heapBuffer(capacity);
+    }
+
     @Override
     protected void encode(final ChannelHandlerContext ctx, final ByteBuf msg, final ByteBuf out)  {
         do {
             final int xfer = Math.min(chunkSize, msg.readableBytes());
 
-            out.writeBytes(NetconfMessageConstants.START_OF_CHUNK);
-            out.writeBytes(String.valueOf(xfer).getBytes(StandardCharsets.US_ASCII));
-            out.writeByte('\n');
+            if (xfer == chunkSize) {
+                out.writeBytes(chunkHeader);
+            } else {
+                out.writeBytes(NetconfMessageConstants.START_OF_CHUNK);
+                writeDecimal(out, xfer);
+                out.writeByte('\n');
+            }
 
             out.writeBytes(msg, xfer);
         } while (msg.isReadable());
 
         out.writeBytes(NetconfMessageConstants.END_OF_CHUNK);
     }
+
+    private static void writeDecimal(final ByteBuf out, final int value) {
+        int divisor = 1;
+        while (divisor <= value / 10) {
+            divisor *= 10;
+        }
+
+        do {
+            out.writeByte('0' + value / divisor % 10);
+            divisor /= 10;
+        } while (divisor > 0);
+    }
 }
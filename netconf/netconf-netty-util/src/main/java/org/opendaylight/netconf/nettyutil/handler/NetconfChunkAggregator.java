@@ -10,7 +10,6 @@ package org.opendaylight.netconf.nettyutil.handler;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.CompositeByteBuf;
-import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import java.util.List;
@@ -72,7 +71,7 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
 
                 state = State.HEADER_TWO;
 
-                initChunk();
+                initChunk(in);
                 break;
             }
             case HEADER_TWO:
@@ -110,17 +109,17 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
             }
             case DATA:
                 /*
-                 * FIXME: this gathers all data into one big chunk before passing
-                 *        it on. Make sure the pipeline can work with partial data
-                 *        and then change this piece to pass the data on as it
-                 *        comes through.
+                 * Consume chunk data as it arrives instead of waiting for the whole
+                 * chunk to be present in the cumulation buffer. This way the decoder
+                 * does not hold a complete chunk twice (once in the cumulation and
+                 * once in the aggregate) while the rest of it is being received.
+                 * The data are copied out, so the cumulation can be discarded as
+                 * soon as it is read.
                  */
-                if (in.readableBytes() < chunkSize) {
-                    LOG.debug("Buffer has {} bytes, need {} to complete chunk", in.readableBytes(), chunkSize);
-                    in.discardReadBytes();
+                if (!readChunkData(in)) {
+                    LOG.debug("Buffer exhausted, need {} more bytes to complete chunk", chunkSize);
                     return;
                 }
-                aggregateChunks(in.readBytes((int) chunkSize));
                 state = State.FOOTER_ONE;
                 break;
             case FOOTER_ONE:
@@ -160,8 +159,16 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
             }
             }
         }
+    }
 
-        in.discardReadBytes();
+    @Override
+    protected void handlerRemoved0(final ChannelHandlerContext ctx) throws Exception {
+        // Release any partially-aggregated message, as it holds references to pooled buffers
+        if (chunk != null) {
+            chunk.release();
+            chunk = null;
+        }
+        super.handlerRemoved0(ctx);
     }
 
     private void extractNewChunkOrMessageEnd(final byte b) {
@@ -178,8 +185,27 @@ public class NetconfChunkAggregator extends ByteToMessageDecoder {
         }
     }
 
-    private void initChunk() {
-        chunk = Unpooled.compositeBuffer();
+    /**
+     * Move as much of the current chunk's data as is available from the input into the aggregate.
+     *
+     * @param in input buffer
+     * @return true if the current chunk has been completely read, false if more data is needed
+     */
+    private boolean readChunkData(final ByteBuf in) {
+        final int xfer = (int) Math.min(in.readableBytes(), chunkSize);
+        if (xfer > 0) {
+            // Copy the data, a retained slice would keep the whole cumulation buffer alive until the
+            // message is released
+            aggregateChunks(in.readBytes(xfer));
+            chunkSize -= xfer;
+        }
+        return chunkSize == 0;
+    }
+
+    private void initChunk(final ByteBuf in) {
+        // Allocate from the same allocator as the input, so we use the channel's pooled allocator.
+        // Do not allow the composite to consolidate, as that would copy all data gathered so far.
+        chunk = in.alloc().compositeBuffer(Integer.MAX_VALUE);
     }
 
     private void aggregateChunks(final ByteBuf newChunk) {
@@ -13,10 +13,12 @@ import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufOutputStream;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
 import javax.xml.transform.TransformerException;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
@@ -24,10 +26,21 @@ import org.opendaylight.netconf.api.NetconfMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Comment;
+import org.w3c.dom.Document;
 
 public class NetconfMessageToXMLEncoder extends MessageToByteEncoder<NetconfMessage> {
     private static final Logger LOG = LoggerFactory.getLogger(NetconfMessageToXMLEncoder.class);
 
+    private static final Function<Document, byte[]> SHARED_MESSAGE_SERIALIZER = document -> {
+        final ByteArrayOutputStream os = new ByteArrayOutputStream();
+        try {
+            writeDocument(document, os);
+        } catch (IOException | TransformerException e) {
+            throw new IllegalStateException("Unable to serialize message", e);
+        }
+        return os.toByteArray();
+    };
+
     private final Optional<String> clientId;
 
     public NetconfMessageToXMLEncoder() {
@@ -46,16 +59,25 @@ public class NetconfMessageToXMLEncoder extends MessageToByteEncoder<NetconfMess
         if (clientId.isPresent()) {
             Comment comment = msg.getDocument().createComment("clientId:" + clientId.get());
             msg.getDocument().appendChild(comment);
+        } else if (msg.isShared()) {
+            // Messages shared by sessions, e.g. notifications, are serialized just once
+            out.writeBytes(msg.getSerialized(SHARED_MESSAGE_SERIALIZER));
+            return;
         }
 
         try (OutputStream os = new ByteBufOutputStream(out)) {
-            // Wrap OutputStreamWriter with BufferedWriter as suggested in javadoc for OutputStreamWriter
-
-            // Using custom BufferedWriter that does not provide newLine method as performance improvement
-            // see javadoc for BufferedWriter
-            StreamResult result = new StreamResult(new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8)));
-            DOMSource source = new DOMSource(msg.getDocument());
-            ThreadLocalTransformers.getPrettyTransformer().transform(source, result);
+            writeDocument(msg.getDocument(), os);
         }
     }
+
+    private static void writeDocument(final Document document, final OutputStream os)
+            throws IOException, TransformerException {
+        // Wrap OutputStreamWriter with BufferedWriter as suggested in javadoc for OutputStreamWriter
+
+        // Using custom BufferedWriter that does not provide newLine method as performance improvement
+        // see javadoc for BufferedWriter
+        StreamResult result = new StreamResult(new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8)));
+        DOMSource source = new DOMSource(document);
+        ThreadLocalTransformers.getPrettyTransformer().transform(source, result);
+    }
 }
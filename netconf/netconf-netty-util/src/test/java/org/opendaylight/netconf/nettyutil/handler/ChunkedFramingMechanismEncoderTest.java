@@ -61,6 +61,20 @@ public class ChunkedFramingMechanismEncoderTest {
         assertTrue(s.endsWith("\n#20\naaaaaaaaaaaaaaaaaaaa\n##\n"));
     }
 
+    @Test
+    public void testEncodeFullChunks() throws Exception {
+        final ChunkedFramingMechanismEncoder encoder = new ChunkedFramingMechanismEncoder(chunkSize);
+        final ByteBuf src = Unpooled.wrappedBuffer(getByteArray(chunkSize * 2));
+        final ByteBuf destination = Unpooled.buffer();
+        encoder.encode(ctx, src, destination);
+
+        final String s = destination.toString(StandardCharsets.US_ASCII);
+        assertEquals(chunkSize * 2 + 2 * "\n#256\n".length() + "\n##\n".length(), s.length());
+        assertTrue(s.startsWith("\n#256\na"));
+        assertTrue(s.contains("a\n#256\na"));
+        assertTrue(s.endsWith("a\n##\n"));
+    }
+
     private static byte[] getByteArray(final int size) {
         final byte[] bytes = new byte[size];
         for (int i = 0; i < size; i++) {
@@ -8,11 +8,14 @@
 package org.opendaylight.netconf.nettyutil.handler;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
 import com.google.common.collect.Lists;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.List;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -67,5 +70,45 @@ public class NetconfChunkAggregatorTest {
         assertEquals(EXPECTED_MESSAGE, chunk.toString(StandardCharsets.UTF_8));
     }
 
+    @Test
+    public void testPartialChunks() throws Exception {
+        final NetconfChunkAggregator aggregator = new NetconfChunkAggregator();
+        final List<Object> output = Lists.newArrayList();
+        final byte[] bytes = CHUNKED_MESSAGE_ONE.getBytes(StandardCharsets.UTF_8);
+        final ByteBuf input = Unpooled.buffer();
+
+        // Feed the message in small pieces, so that the chunk data is split across decode() invocations
+        for (int i = 0; i < bytes.length; i += 7) {
+            input.writeBytes(bytes, i, Math.min(7, bytes.length - i));
+            aggregator.decode(null, input, output);
+            assertEquals(i + 7 >= bytes.length ? 1 : 0, output.size());
+        }
 
+        final ByteBuf chunk = (ByteBuf) output.get(0);
+        assertEquals(EXPECTED_MESSAGE, chunk.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testInputReleasedOnceMessageIsAssembled() throws Exception {
+        final EmbeddedChannel channel = new EmbeddedChannel(new NetconfChunkAggregator());
+        final byte[] bytes = CHUNKED_MESSAGE.getBytes(StandardCharsets.UTF_8);
+        final List<ByteBuf> inputs = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += 16) {
+            final ByteBuf input = Unpooled.copiedBuffer(bytes, i, Math.min(16, bytes.length - i));
+            inputs.add(input);
+            channel.writeInbound(input);
+        }
+
+        final ByteBuf message = (ByteBuf) channel.readInbound();
+        assertEquals(EXPECTED_MESSAGE, message.toString(StandardCharsets.UTF_8));
+
+        // the message does not keep any of the received buffers alive
+        for (final ByteBuf input : inputs) {
+            assertEquals(0, input.refCnt());
+        }
+        assertEquals(1, message.refCnt());
+        message.release();
+        assertEquals(0, message.refCnt());
+        assertFalse(channel.finish());
+    }
 }
@@ -58,6 +58,14 @@ public final class NetconfNotification extends NetconfMessage {
         return eventTime;
     }
 
+    /**
+     * The same notification instance is sent to all subscriptions without a filter.
+     */
+    @Override
+    public boolean isShared() {
+        return true;
+    }
+
     private static Document wrapNotification(final Document notificationContent, final Date eventTime) {
         Preconditions.checkNotNull(notificationContent);
         Preconditions.checkNotNull(eventTime);
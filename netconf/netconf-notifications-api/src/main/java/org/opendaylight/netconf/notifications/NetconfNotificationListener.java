@@ -20,4 +20,12 @@ public interface NetconfNotificationListener {
      */
     void onNotification(StreamNameType stream, NetconfNotification notification);
 
+    /**
+     * Callback used to notify the listener that notifications are being dropped, because it does not keep up
+     * with the published ones. Invoked once each time dropping starts, after all notifications queued before.
+     */
+    default void onNotificationsDropped(final StreamNameType stream) {
+        // ignored by default
+    }
+
 }
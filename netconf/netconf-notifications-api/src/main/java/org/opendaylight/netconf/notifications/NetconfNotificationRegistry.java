@@ -8,6 +8,8 @@
 
 package org.opendaylight.netconf.notifications;
 
+import com.google.common.base.Optional;
+import java.util.Date;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.Streams;
 
@@ -21,6 +23,14 @@ public interface NetconfNotificationRegistry {
      */
     NotificationListenerRegistration registerNotificationListener(StreamNameType stream, NetconfNotificationListener listener);
 
+    /**
+     * Add listener for a certain notification type and replay logged notifications to it. Logged notifications
+     * with event time between startTime and stopTime are passed to the listener first, followed by a replayComplete
+     * notification. Notifications published after the registration follow.
+     */
+    NotificationListenerRegistration registerNotificationListener(StreamNameType stream, NetconfNotificationListener listener,
+                                                                  Date startTime, Optional<Date> stopTime);
+
     /**
      * Check stream availability
      */
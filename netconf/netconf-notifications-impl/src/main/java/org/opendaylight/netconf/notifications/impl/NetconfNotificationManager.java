@@ -8,16 +8,28 @@
 
 package org.opendaylight.netconf.notifications.impl;
 
+import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Sets;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.text.SimpleDateFormat;
+import java.util.ArrayDeque;
+import java.util.Date;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.annotation.concurrent.GuardedBy;
 import javax.annotation.concurrent.ThreadSafe;
 import org.opendaylight.netconf.notifications.BaseNotificationPublisherRegistration;
@@ -30,6 +42,8 @@ import org.opendaylight.netconf.notifications.NotificationPublisherRegistration;
 import org.opendaylight.netconf.notifications.NotificationRegistration;
 import org.opendaylight.netconf.notifications.impl.ops.NotificationsTransformUtil;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.ReplayComplete;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.ReplayCompleteBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.Streams;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.StreamsBuilder;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.netconf.streams.Stream;
@@ -38,6 +52,7 @@ import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.r
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfCapabilityChange;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionEnd;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.netconf.notifications.rev120206.NetconfSessionStart;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.yang.types.rev130715.DateAndTime;
 import org.opendaylight.yangtools.yang.binding.Notification;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.slf4j.Logger;
@@ -58,13 +73,30 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
                 .build();
     }
 
+    /**
+     * Default number of notifications kept for replay in each stream.
+     */
+    public static final int DEFAULT_REPLAY_LOG_SIZE = 1024;
+
+    /**
+     * Default number of notifications waiting for delivery to a single listener, before new ones are dropped.
+     */
+    public static final int DEFAULT_DELIVERY_QUEUE_SIZE = 4096;
+
+    /**
+     * Default number of threads delivering notifications to listeners.
+     */
+    public static final int DEFAULT_DELIVERY_THREADS = 4;
+
+    private static final SchemaPath REPLAY_COMPLETE_PATH = SchemaPath.create(true, ReplayComplete.QNAME);
+
     private static final Logger LOG = LoggerFactory.getLogger(NetconfNotificationManager.class);
 
-    // TODO excessive synchronization provides thread safety but is most likely not optimal (combination of concurrent collections might improve performance)
-    // And also calling callbacks from a synchronized block is dangerous since the listeners/publishers can block the whole notification processing
+    // Listeners are never invoked while holding the lock. Notifications are only queued for each listener under it,
+    // and delivered from the executor, so a slow listener cannot block publishers or other listeners.
+    // The lock keeps order of notifications in the queues and in the replay logs the same.
 
-    @GuardedBy("this")
-    private final Multimap<StreamNameType, GenericNotificationListenerReg> notificationListeners = HashMultimap.create();
+    private final Set<GenericNotificationListenerReg> notificationListeners = new CopyOnWriteArraySet<>();
 
     @GuardedBy("this")
     private final Set<NetconfNotificationStreamListener> streamListeners = Sets.newHashSet();
@@ -78,6 +110,75 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
     @GuardedBy("this")
     private final Set<GenericNotificationPublisherReg> notificationPublishers = Sets.newHashSet();
 
+    @GuardedBy("this")
+    private final Map<StreamNameType, NotificationReplayLog> replayLogs = Maps.newHashMap();
+
+    private final int replayLogSize;
+    private final int deliveryQueueSize;
+    private final Executor deliveryExecutor;
+    // Shut down on close, if created by this manager
+    private final ExecutorService ownedExecutor;
+    private final AtomicLong droppedNotifications = new AtomicLong();
+
+    public NetconfNotificationManager() {
+        this(DEFAULT_REPLAY_LOG_SIZE);
+    }
+
+    /**
+     * @param replayLogSize maximal number of notifications kept for replay in each stream
+     */
+    public NetconfNotificationManager(final int replayLogSize) {
+        this(replayLogSize, DEFAULT_DELIVERY_QUEUE_SIZE, DEFAULT_DELIVERY_THREADS);
+    }
+
+    /**
+     * @param replayLogSize maximal number of notifications kept for replay in each stream
+     * @param deliveryQueueSize maximal number of notifications waiting for delivery to a single listener
+     * @param deliveryThreads number of threads delivering notifications to listeners, shut down on close
+     */
+    public NetconfNotificationManager(final int replayLogSize, final int deliveryQueueSize,
+                                      final int deliveryThreads) {
+        this(replayLogSize, deliveryQueueSize, createDeliveryExecutor(deliveryThreads), true);
+    }
+
+    /**
+     * @param replayLogSize maximal number of notifications kept for replay in each stream
+     * @param deliveryQueueSize maximal number of notifications waiting for delivery to a single listener
+     * @param deliveryExecutor executor delivering notifications to listeners, notifications for a single listener
+     *                         are delivered one at a time in the order they were published
+     */
+    public NetconfNotificationManager(final int replayLogSize, final int deliveryQueueSize,
+                                      final Executor deliveryExecutor) {
+        this(replayLogSize, deliveryQueueSize, deliveryExecutor, false);
+    }
+
+    private NetconfNotificationManager(final int replayLogSize, final int deliveryQueueSize,
+                                       final Executor deliveryExecutor, final boolean ownsExecutor) {
+        Preconditions.checkArgument(replayLogSize > 0, "Replay log size has to be positive, was %s", replayLogSize);
+        Preconditions.checkArgument(deliveryQueueSize > 0, "Delivery queue size has to be positive, was %s",
+                deliveryQueueSize);
+        this.replayLogSize = replayLogSize;
+        this.deliveryQueueSize = deliveryQueueSize;
+        this.deliveryExecutor = Preconditions.checkNotNull(deliveryExecutor);
+        this.ownedExecutor = ownsExecutor ? (ExecutorService) deliveryExecutor : null;
+    }
+
+    private static ExecutorService createDeliveryExecutor(final int threads) {
+        Preconditions.checkArgument(threads > 0, "Delivery threads have to be positive, was %s", threads);
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+                .setNameFormat("netconf-notification-delivery-%d").setDaemon(true).build());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * @return total number of notifications dropped, because their listeners did not keep up
+     */
+    public long getDroppedNotifications() {
+        return droppedNotifications.get();
+    }
+
     @Override
     public synchronized void onNotification(final StreamNameType stream, final NetconfNotification notification) {
         LOG.debug("Notification of type {} detected", stream);
@@ -85,8 +186,15 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
             LOG.debug("Notification of type {} detected: {}", stream, notification);
         }
 
-        for (final GenericNotificationListenerReg listenerReg : notificationListeners.get(BASE_STREAM_NAME)) {
-            listenerReg.getListener().onNotification(BASE_STREAM_NAME, notification);
+        final NotificationReplayLog replayLog = replayLogs.get(stream);
+        if (replayLog != null) {
+            replayLog.add(notification);
+        }
+
+        // The same notification instance is delivered to all listeners, so it is serialized only once for all
+        // subscriptions without a filter
+        for (final GenericNotificationListenerReg listenerReg : notificationListeners) {
+            listenerReg.enqueue(BASE_STREAM_NAME, notification, false);
         }
     }
 
@@ -100,17 +208,40 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
         final GenericNotificationListenerReg genericNotificationListenerReg = new GenericNotificationListenerReg(listener) {
             @Override
             public void close() {
-                synchronized (NetconfNotificationManager.this) {
-                    LOG.trace("Notification listener unregistered for stream: {}", stream);
-                    super.close();
-                }
+                LOG.trace("Notification listener unregistered for stream: {}", stream);
+                super.close();
             }
         };
 
-        notificationListeners.put(BASE_STREAM_NAME, genericNotificationListenerReg);
+        notificationListeners.add(genericNotificationListenerReg);
         return genericNotificationListenerReg;
     }
 
+    @Override
+    public synchronized NotificationListenerRegistration registerNotificationListener(final StreamNameType stream,
+            final NetconfNotificationListener listener, final Date startTime, final Optional<Date> stopTime) {
+        Preconditions.checkNotNull(startTime);
+        Preconditions.checkNotNull(stopTime);
+
+        // Replay is queued while holding the lock, so that no notification is published in between. Replayed
+        // notifications are not subject to the queue limit, their number is already limited by the replay log.
+        final GenericNotificationListenerReg registration =
+                (GenericNotificationListenerReg) registerNotificationListener(stream, listener);
+
+        final NotificationReplayLog replayLog = replayLogs.get(stream);
+        if (replayLog != null) {
+            for (final NetconfNotification notification : replayLog.getNotifications(startTime, stopTime)) {
+                registration.enqueue(stream, notification, true);
+            }
+        } else {
+            LOG.debug("No replay log for stream {}, nothing to replay", stream);
+        }
+        registration.enqueue(stream, NotificationsTransformUtil.transform(new ReplayCompleteBuilder().build(),
+                REPLAY_COMPLETE_PATH), true);
+
+        return registration;
+    }
+
     @Override
     public synchronized Streams getNotificationPublishers() {
         return new StreamsBuilder().setStream(Lists.newArrayList(streamMetadata.values())).build();
@@ -143,7 +274,7 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
     @Override
     public synchronized void close() {
         // Unregister all listeners
-        for (final GenericNotificationListenerReg genericNotificationListenerReg : notificationListeners.values()) {
+        for (final GenericNotificationListenerReg genericNotificationListenerReg : notificationListeners) {
             genericNotificationListenerReg.close();
         }
         notificationListeners.clear();
@@ -156,6 +287,10 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
 
         // Clear stream Listeners
         streamListeners.clear();
+
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdown();
+        }
     }
 
     @Override
@@ -171,7 +306,12 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
         if (streamMetadata.containsKey(streamName)) {
             LOG.warn("Notification stream {} already registered as: {}. Will be reused", streamName, streamMetadata.get(streamName));
         } else {
-            streamMetadata.put(streamName, stream);
+            NotificationReplayLog replayLog = replayLogs.get(streamName);
+            if (replayLog == null) {
+                replayLog = new NotificationReplayLog(replayLogSize);
+                replayLogs.put(streamName, replayLog);
+            }
+            streamMetadata.put(streamName, withReplaySupport(stream, replayLog));
         }
 
         availableStreams.add(streamName);
@@ -187,10 +327,20 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
 
         notificationPublishers.add(genericNotificationPublisherReg);
 
-        notifyStreamAdded(stream);
+        notifyStreamAdded(streamMetadata.get(streamName));
         return genericNotificationPublisherReg;
     }
 
+    private static Stream withReplaySupport(final Stream stream, final NotificationReplayLog replayLog) {
+        // SimpleDateFormat is not threadsafe, cannot be in a constant
+        final String creationTime = new SimpleDateFormat(NetconfNotification.RFC3339_DATE_FORMAT_BLUEPRINT)
+                .format(replayLog.getCreationTime());
+        return new StreamBuilder(stream)
+                .setReplaySupport(true)
+                .setReplayLogCreationTime(new DateAndTime(creationTime))
+                .build();
+    }
+
     private void unregisterNotificationPublisher(final StreamNameType streamName, final GenericNotificationPublisherReg genericNotificationPublisherReg) {
         availableStreams.remove(streamName);
         notificationPublishers.remove(genericNotificationPublisherReg);
@@ -283,9 +433,23 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
         }
     }
 
-    private class GenericNotificationListenerReg implements NotificationListenerRegistration {
+    /**
+     * Registration with its own queue of notifications waiting for delivery. The queue is drained by a single task
+     * at a time, so the listener receives notifications one by one in the order they were published. When the queue
+     * is full, new notifications are dropped for this listener only.
+     */
+    private class GenericNotificationListenerReg implements NotificationListenerRegistration, Runnable {
         private final NetconfNotificationListener listener;
 
+        @GuardedBy("this")
+        private final Queue<QueuedNotification> queue = new ArrayDeque<>();
+        @GuardedBy("this")
+        private boolean draining;
+        @GuardedBy("this")
+        private boolean closed;
+        @GuardedBy("this")
+        private long dropped;
+
         public GenericNotificationListenerReg(final NetconfNotificationListener listener) {
             this.listener = listener;
         }
@@ -294,9 +458,90 @@ public class NetconfNotificationManager implements NetconfNotificationCollector,
             return listener;
         }
 
+        void enqueue(final StreamNameType stream, final NetconfNotification notification, final boolean force) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (!force && queue.size() >= deliveryQueueSize) {
+                    droppedNotifications.incrementAndGet();
+                    if (dropped++ == 0) {
+                        LOG.warn("Notification listener {} is not keeping up, dropping notifications until its queue "
+                                + "of {} drains", listener, deliveryQueueSize);
+                        // notified from the delivery thread, after the notifications queued before the drop
+                        queue.add(new QueuedNotification(stream, null));
+                    } else if (dropped % deliveryQueueSize == 0) {
+                        LOG.warn("Notification listener {} is not keeping up, {} notifications dropped so far",
+                                listener, dropped);
+                    }
+                    return;
+                }
+                if (dropped != 0) {
+                    LOG.warn("Notification listener {} caught up, {} notifications were dropped", listener, dropped);
+                    dropped = 0;
+                }
+
+                queue.add(new QueuedNotification(stream, notification));
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+
+            try {
+                deliveryExecutor.execute(this);
+            } catch (final RejectedExecutionException e) {
+                LOG.warn("Unable to deliver notifications to listener {}, dropping them", listener, e);
+                synchronized (this) {
+                    queue.clear();
+                    draining = false;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            while (true) {
+                final QueuedNotification next;
+                synchronized (this) {
+                    next = queue.poll();
+                    if (next == null) {
+                        draining = false;
+                        return;
+                    }
+                }
+
+                try {
+                    if (next.notification == null) {
+                        listener.onNotificationsDropped(next.stream);
+                    } else {
+                        listener.onNotification(next.stream, next.notification);
+                    }
+                } catch (final RuntimeException e) {
+                    LOG.warn("Notification listener {} failed to process notification {}", listener,
+                            next.notification, e);
+                }
+            }
+        }
+
         @Override
         public void close() {
-            notificationListeners.remove(BASE_STREAM_NAME, this);
+            notificationListeners.remove(this);
+            synchronized (this) {
+                closed = true;
+                queue.clear();
+            }
+        }
+    }
+
+    private static final class QueuedNotification {
+        private final StreamNameType stream;
+        // null marks the point where the listener started dropping notifications
+        private final NetconfNotification notification;
+
+        QueuedNotification(final StreamNameType stream, final NetconfNotification notification) {
+            this.stream = stream;
+            this.notification = notification;
         }
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.netconf.notifications.impl;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import javax.annotation.concurrent.NotThreadSafe;
+import org.opendaylight.controller.config.util.xml.XmlUtil;
+import org.opendaylight.netconf.notifications.NetconfNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+/**
+ * Bounded log of notifications published into a single stream, used to replay them to subscriptions with start time.
+ * Oldest notifications are dropped when the log is full. Notifications are kept serialized, since the DOM of
+ * a notification takes several times more memory than its text.
+ */
+@NotThreadSafe
+final class NotificationReplayLog {
+
+    private static final Logger LOG = LoggerFactory.getLogger(NotificationReplayLog.class);
+
+    private final ArrayDeque<LoggedNotification> notifications = new ArrayDeque<>();
+    private final int maxSize;
+    private final Date creationTime = new Date();
+
+    NotificationReplayLog(final int maxSize) {
+        Preconditions.checkArgument(maxSize > 0, "Replay log size has to be positive, was %s", maxSize);
+        this.maxSize = maxSize;
+    }
+
+    Date getCreationTime() {
+        return creationTime;
+    }
+
+    void add(final NetconfNotification notification) {
+        final Element content = getContent(notification.getDocument());
+        if (content == null) {
+            LOG.debug("Not logging notification without content {}", notification);
+            return;
+        }
+
+        if (notifications.size() == maxSize) {
+            notifications.removeFirst();
+        }
+        notifications.addLast(new LoggedNotification(notification.getEventTime(),
+                XmlUtil.toString(content).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * @return logged notifications with event time in the requested interval, in the order they were published
+     */
+    List<NetconfNotification> getNotifications(final Date startTime, final Optional<Date> stopTime) {
+        final List<NetconfNotification> replay = new ArrayList<>();
+        for (final LoggedNotification logged : notifications) {
+            if (logged.eventTime.before(startTime) || stopTime.isPresent() && logged.eventTime.after(stopTime.get())) {
+                continue;
+            }
+
+            try {
+                final Document content = XmlUtil.readXmlToDocument(new String(logged.content, StandardCharsets.UTF_8));
+                replay.add(new NetconfNotification(content, logged.eventTime));
+            } catch (SAXException | IOException e) {
+                LOG.warn("Unable to restore logged notification from {}, skipping it", logged.eventTime, e);
+            }
+        }
+        return replay;
+    }
+
+    /**
+     * Notification document wraps its content together with event time, find the content element.
+     */
+    private static Element getContent(final Document notification) {
+        for (Node child = notification.getDocumentElement().getFirstChild(); child != null;
+             child = child.getNextSibling()) {
+            if (child instanceof Element && !NetconfNotification.EVENT_TIME.equals(child.getLocalName())) {
+                return (Element) child;
+            }
+        }
+        return null;
+    }
+
+    private static final class LoggedNotification {
+        private final Date eventTime;
+        private final byte[] content;
+
+        LoggedNotification(final Date eventTime, final byte[] content) {
+            this.eventTime = eventTime;
+            this.content = content;
+        }
+    }
+}
@@ -10,9 +10,18 @@ package org.opendaylight.netconf.notifications.impl.ops;
 
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import org.opendaylight.controller.config.util.xml.DocumentedException;
 import org.opendaylight.controller.config.util.xml.XmlElement;
 import org.opendaylight.controller.config.util.xml.XmlUtil;
@@ -28,28 +37,56 @@ import org.opendaylight.netconf.util.mapping.AbstractSingletonNetconfOperation;
 import org.opendaylight.netconf.util.messages.SubtreeFilter;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.CreateSubscriptionInput;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.NotificationComplete;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.NotificationCompleteBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.ReplayComplete;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
+import org.w3c.dom.Node;
 
 /**
  * Create subscription listens for create subscription requests and registers notification listeners into notification registry.
- * Received notifications are sent to the client right away
+ * Received notifications are sent to the client right away. If start time is requested, logged notifications are
+ * replayed first. If stop time is requested, the subscription is completed and its listener unregistered once stop
+ * time is reached, even if no notification is published afterwards.
  */
 public class CreateSubscription extends AbstractSingletonNetconfOperation implements SessionAwareNetconfOperation, AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(CreateSubscription.class);
 
     static final String CREATE_SUBSCRIPTION = "create-subscription";
+    private static final String START_TIME = "startTime";
+    private static final String STOP_TIME = "stopTime";
+    private static final SchemaPath NOTIFICATION_COMPLETE_PATH = SchemaPath.create(true, NotificationComplete.QNAME);
 
     private final NetconfNotificationRegistry notifications;
+    private final ScheduledExecutorService stopTimeExecutor;
     private final List<NotificationListenerRegistration> subscriptions = Lists.newArrayList();
+    private final List<NotificationSubscription> timedSubscriptions = Lists.newArrayList();
     private NetconfSession netconfSession;
 
-    public CreateSubscription(final String netconfSessionIdForReporting, final NetconfNotificationRegistry notifications) {
+    /**
+     * @param stopTimeExecutor executor completing subscriptions when their stop time is reached
+     */
+    public CreateSubscription(final String netconfSessionIdForReporting, final NetconfNotificationRegistry notifications,
+                              final ScheduledExecutorService stopTimeExecutor) {
         super(netconfSessionIdForReporting);
         this.notifications = notifications;
+        this.stopTimeExecutor = Preconditions.checkNotNull(stopTimeExecutor);
+    }
+
+    /**
+     * @return executor for completing subscriptions at their stop time, has to be shut down by the caller
+     */
+    public static ScheduledExecutorService createStopTimeExecutor() {
+        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, new ThreadFactoryBuilder()
+                .setNameFormat("netconf-notification-stop-time-%d").setDaemon(true).build());
+        // subscriptions closed before their stop time do not keep their tasks in the queue
+        executor.setRemoveOnCancelPolicy(true);
+        return executor;
     }
 
     @Override
@@ -62,13 +99,9 @@ public class CreateSubscription extends AbstractSingletonNetconfOperation implem
 
         final Optional<XmlElement> filter = operationElement.getOnlyChildElementWithSameNamespaceOptionally("filter");
 
-        // Replay not supported
-        final Optional<XmlElement> startTime = operationElement.getOnlyChildElementWithSameNamespaceOptionally("startTime");
-        Preconditions.checkArgument(startTime.isPresent() == false, "StartTime element not yet supported");
-
-        // Stop time not supported
-        final Optional<XmlElement> stopTime = operationElement.getOnlyChildElementWithSameNamespaceOptionally("stopTime");
-        Preconditions.checkArgument(stopTime.isPresent() == false, "StopTime element not yet supported");
+        final Optional<Date> startTime = parseTimeIfPresent(operationElement, START_TIME);
+        final Optional<Date> stopTime = parseTimeIfPresent(operationElement, STOP_TIME);
+        validateReplayInterval(startTime, stopTime);
 
         final StreamNameType streamNameType = parseStreamIfPresent(operationElement);
 
@@ -78,13 +111,58 @@ public class CreateSubscription extends AbstractSingletonNetconfOperation implem
             LOG.warn("Registering premature stream {}. No publisher available yet for session {}", streamNameType, getNetconfSessionIdForReporting());
         }
 
-        final NotificationListenerRegistration notificationListenerRegistration =
-                notifications.registerNotificationListener(streamNameType, new NotificationSubscription(netconfSession, filter));
+        final NotificationSubscription subscription = new NotificationSubscription(netconfSession, filter, stopTime);
+        final NotificationListenerRegistration notificationListenerRegistration = startTime.isPresent()
+                ? notifications.registerNotificationListener(streamNameType, subscription, startTime.get(), stopTime)
+                : notifications.registerNotificationListener(streamNameType, subscription);
         subscriptions.add(notificationListenerRegistration);
+        if (stopTime.isPresent()) {
+            subscription.scheduleStop(notificationListenerRegistration, stopTimeExecutor);
+            timedSubscriptions.add(subscription);
+        }
 
         return XmlUtil.createElement(document, XmlNetconfConstants.OK, Optional.<String>absent());
     }
 
+    private static Optional<Date> parseTimeIfPresent(final XmlElement operationElement, final String name)
+            throws DocumentedException {
+        final Optional<XmlElement> element = operationElement.getOnlyChildElementWithSameNamespaceOptionally(name);
+        if (!element.isPresent()) {
+            return Optional.absent();
+        }
+
+        final String value = element.get().getTextContent();
+        try {
+            return Optional.of(Date.from(ZonedDateTime.parse(value, DateTimeFormatter.ISO_OFFSET_DATE_TIME).toInstant()));
+        } catch (final DateTimeParseException e) {
+            throw new DocumentedException("Invalid " + name + " " + value, e, DocumentedException.ErrorType.PROTOCOL,
+                    DocumentedException.ErrorTag.BAD_ELEMENT, DocumentedException.ErrorSeverity.ERROR,
+                    ImmutableMap.of("bad-element", name));
+        }
+    }
+
+    private static void validateReplayInterval(final Optional<Date> startTime, final Optional<Date> stopTime)
+            throws DocumentedException {
+        final String badElement;
+        final String message;
+        if (stopTime.isPresent() && !startTime.isPresent()) {
+            badElement = STOP_TIME;
+            message = "StopTime can only be used together with startTime";
+        } else if (startTime.isPresent() && startTime.get().after(new Date())) {
+            badElement = START_TIME;
+            message = "StartTime " + startTime.get() + " is in the future";
+        } else if (stopTime.isPresent() && stopTime.get().before(startTime.get())) {
+            badElement = STOP_TIME;
+            message = "StopTime " + stopTime.get() + " is earlier than startTime " + startTime.get();
+        } else {
+            return;
+        }
+
+        throw new DocumentedException(message, DocumentedException.ErrorType.PROTOCOL,
+                DocumentedException.ErrorTag.BAD_ELEMENT, DocumentedException.ErrorSeverity.ERROR,
+                ImmutableMap.of("bad-element", badElement));
+    }
+
     private static StreamNameType parseStreamIfPresent(final XmlElement operationElement) throws DocumentedException {
         final Optional<XmlElement> stream = operationElement.getOnlyChildElementWithSameNamespaceOptionally("stream");
         return stream.isPresent() ? new StreamNameType(stream.get().getTextContent()) : NetconfNotificationManager.BASE_STREAM_NAME;
@@ -112,22 +190,124 @@ public class CreateSubscription extends AbstractSingletonNetconfOperation implem
         for (final NotificationListenerRegistration subscription : subscriptions) {
             subscription.close();
         }
+        for (final NotificationSubscription subscription : timedSubscriptions) {
+            subscription.cancelStop();
+        }
     }
 
     private static class NotificationSubscription implements NetconfNotificationListener {
         private final NetconfSession currentSession;
         private final Optional<XmlElement> filter;
+        private final Optional<Date> stopTime;
+        // Set when stop time is reached, no more notifications are sent afterwards
+        private boolean complete;
+        private boolean replayComplete;
+        private boolean stopTimeReached;
+        private NotificationListenerRegistration registration;
+        private ScheduledFuture<?> stopTimer;
 
-        public NotificationSubscription(final NetconfSession currentSession, final Optional<XmlElement> filter) {
+        public NotificationSubscription(final NetconfSession currentSession, final Optional<XmlElement> filter,
+                                        final Optional<Date> stopTime) {
             this.currentSession = currentSession;
             this.filter = filter;
+            this.stopTime = stopTime;
         }
 
         @Override
-        public void onNotification(final StreamNameType stream, final NetconfNotification notification) {
+        public synchronized void onNotification(final StreamNameType stream, final NetconfNotification notification) {
+            if (complete) {
+                return;
+            }
+
+            if (isReplayComplete(notification)) {
+                replayComplete = true;
+                currentSession.sendMessage(notification);
+                // stop time may have already passed, the subscription ends with the replay then
+                if (stopTimeReached || stopTime.isPresent() && !stopTime.get().after(notification.getEventTime())) {
+                    completeSubscription();
+                }
+            } else if (stopTime.isPresent() && notification.getEventTime().after(stopTime.get())) {
+                completeSubscription();
+            } else {
+                sendNotification(notification);
+            }
+        }
+
+        /**
+         * The subscription lost notifications, the session is closed so that the client does not keep
+         * an incomplete stream and can subscribe again.
+         */
+        @Override
+        public synchronized void onNotificationsDropped(final StreamNameType stream) {
+            if (complete) {
+                return;
+            }
+            LOG.warn("Session {} does not keep up with notifications of stream {}, closing it", currentSession, stream);
+            // registrations of the session are closed together with it
+            cancelStop();
+            currentSession.close();
+        }
+
+        /**
+         * Complete the subscription at stop time, the stream may be quiet and publish no notification after it.
+         */
+        synchronized void scheduleStop(final NotificationListenerRegistration registration,
+                                       final ScheduledExecutorService executor) {
+            this.registration = registration;
+            if (complete) {
+                // completed by replay already
+                registration.close();
+                return;
+            }
+            final long delayMillis = Math.max(0, stopTime.get().getTime() - System.currentTimeMillis());
+            stopTimer = executor.schedule(this::onStopTime, delayMillis, TimeUnit.MILLISECONDS);
+        }
+
+        private synchronized void onStopTime() {
+            stopTimeReached = true;
+            // otherwise completed once replay completes, notificationComplete has to follow replayComplete
+            if (!complete && replayComplete) {
+                completeSubscription();
+            }
+        }
+
+        synchronized void cancelStop() {
+            complete = true;
+            if (stopTimer != null) {
+                stopTimer.cancel(false);
+            }
+        }
+
+        private void completeSubscription() {
+            complete = true;
+            currentSession.sendMessage(NotificationsTransformUtil.transform(new NotificationCompleteBuilder().build(),
+                    NOTIFICATION_COMPLETE_PATH));
+            if (stopTimer != null) {
+                stopTimer.cancel(false);
+            }
+            if (registration != null) {
+                registration.close();
+            }
+        }
+
+        private static boolean isReplayComplete(final NetconfNotification notification) {
+            final Node content;
+            synchronized (notification) {
+                content = notification.getDocument().getDocumentElement().getFirstChild();
+            }
+            return content != null && ReplayComplete.QNAME.getLocalName().equals(content.getLocalName())
+                    && ReplayComplete.QNAME.getNamespace().toString().equals(content.getNamespaceURI());
+        }
+
+        private void sendNotification(final NetconfNotification notification) {
             if (filter.isPresent()) {
                 try {
-                    final Optional<Document> filtered = SubtreeFilter.applySubtreeNotificationFilter(this.filter.get(), notification.getDocument());
+                    final Optional<Document> filtered;
+                    // notification document is shared with other subscriptions
+                    synchronized (notification) {
+                        filtered = SubtreeFilter.applySubtreeNotificationFilter(this.filter.get(),
+                                notification.getDocument());
+                    }
                     if (filtered.isPresent()) {
                         final Date eventTime = notification.getEventTime();
                         currentSession.sendMessage(new NetconfNotification(filtered.get(), eventTime));
@@ -14,6 +14,7 @@ import java.util.Collections;
 import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import org.opendaylight.controller.config.util.capability.BasicCapability;
 import org.opendaylight.controller.config.util.capability.Capability;
 import org.opendaylight.netconf.api.monitoring.CapabilityListener;
@@ -26,6 +27,8 @@ import org.opendaylight.netconf.notifications.NetconfNotificationCollector;
 import org.opendaylight.netconf.notifications.impl.NetconfNotificationManager;
 import org.opendaylight.netconf.notifications.impl.ops.CreateSubscription;
 import org.opendaylight.netconf.notifications.impl.ops.Get;
+import org.opendaylight.netconf.util.osgi.NetconfConfigUtil;
+import org.opendaylight.netconf.util.osgi.NetconfConfiguration;
 import org.osgi.framework.BundleActivator;
 import org.osgi.framework.BundleContext;
 import org.osgi.framework.ServiceRegistration;
@@ -39,10 +42,16 @@ public class Activator implements BundleActivator {
     private ServiceRegistration<NetconfNotificationCollector> netconfNotificationCollectorServiceRegistration;
     private ServiceRegistration<NetconfOperationServiceFactory> operationaServiceRegistration;
     private NetconfNotificationManager netconfNotificationManager;
+    private ScheduledExecutorService stopTimeExecutor;
 
     @Override
     public void start(final BundleContext context) throws Exception {
-        netconfNotificationManager = new NetconfNotificationManager();
+        final int deliveryThreads = NetconfConfigUtil.getNetconfConfigurationService(context)
+                .map(NetconfConfiguration::getNotificationDeliveryThreads)
+                .orElse(NetconfConfiguration.DEFAULT_NOTIFICATION_DELIVERY_THREADS);
+        netconfNotificationManager = new NetconfNotificationManager(NetconfNotificationManager.DEFAULT_REPLAY_LOG_SIZE,
+                NetconfNotificationManager.DEFAULT_DELIVERY_QUEUE_SIZE, deliveryThreads);
+        stopTimeExecutor = CreateSubscription.createStopTimeExecutor();
         // Add properties to autowire with netconf-impl instance for cfg subsystem
         final Dictionary<String, String> props = new Hashtable<>();
         props.put(NetconfConstants.SERVICE_NAME, NetconfConstants.NETCONF_NOTIFICATION);
@@ -72,7 +81,7 @@ public class Activator implements BundleActivator {
             public NetconfOperationService createService(final String netconfSessionIdForReporting) {
                 return new NetconfOperationService() {
 
-                    private final CreateSubscription createSubscription = new CreateSubscription(netconfSessionIdForReporting, netconfNotificationManager);
+                    private final CreateSubscription createSubscription = new CreateSubscription(netconfSessionIdForReporting, netconfNotificationManager, stopTimeExecutor);
 
                     @Override
                     public Set<NetconfOperation> getNetconfOperations() {
@@ -107,6 +116,10 @@ public class Activator implements BundleActivator {
             operationaServiceRegistration.unregister();
             operationaServiceRegistration = null;
         }
+        if (stopTimeExecutor != null) {
+            stopTimeExecutor.shutdownNow();
+            stopTimeExecutor = null;
+        }
     }
 
     @VisibleForTesting
@@ -8,18 +8,30 @@
 
 package org.opendaylight.netconf.notifications.impl;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import com.google.common.base.Optional;
 import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.Executor;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opendaylight.netconf.notifications.BaseNotificationPublisherRegistration;
@@ -70,7 +82,9 @@ public class NetconfNotificationManagerTest {
 
     @Test
     public void testNotificationListeners() throws Exception {
-        final NetconfNotificationManager netconfNotificationManager = new NetconfNotificationManager();
+        final NetconfNotificationManager netconfNotificationManager = new NetconfNotificationManager(
+                NetconfNotificationManager.DEFAULT_REPLAY_LOG_SIZE,
+                NetconfNotificationManager.DEFAULT_DELIVERY_QUEUE_SIZE, MoreExecutors.directExecutor());
         final BaseNotificationPublisherRegistration baseNotificationPublisherRegistration =
                 netconfNotificationManager.registerBaseNotificationPublisher();
 
@@ -107,7 +121,7 @@ public class NetconfNotificationManagerTest {
         doNothing().when(streamListener).onStreamRegistered(any(Stream.class));
         netconfNotificationManager.registerStreamListener(streamListener);
 
-        verify(streamListener).onStreamRegistered(NetconfNotificationManager.BASE_NETCONF_STREAM);
+        verifyStreamRegistered(streamListener);
 
         netconfNotificationManager.close();
 
@@ -136,11 +150,96 @@ public class NetconfNotificationManagerTest {
         final BaseNotificationPublisherRegistration baseNotificationPublisherRegistration =
                 netconfNotificationManager.registerBaseNotificationPublisher();
 
-        verify(streamListener).onStreamRegistered(NetconfNotificationManager.BASE_NETCONF_STREAM);
+        verifyStreamRegistered(streamListener);
 
 
         baseNotificationPublisherRegistration.close();
 
         verify(streamListener).onStreamUnregistered(NetconfNotificationManager.BASE_STREAM_NAME);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testReplay() throws Exception {
+        final NetconfNotificationManager netconfNotificationManager = new NetconfNotificationManager(2,
+                NetconfNotificationManager.DEFAULT_DELIVERY_QUEUE_SIZE, MoreExecutors.directExecutor());
+        final BaseNotificationPublisherRegistration baseNotificationPublisherRegistration =
+                netconfNotificationManager.registerBaseNotificationPublisher();
+        final Date startTime = new Date();
+
+        // only the last two notifications fit into the replay log
+        for (int i = 0; i < 3; i++) {
+            baseNotificationPublisherRegistration.onCapabilityChanged(new NetconfCapabilityChangeBuilder().build());
+        }
+
+        final NetconfNotificationListener listener = mock(NetconfNotificationListener.class);
+        doNothing().when(listener).onNotification(any(StreamNameType.class), any(NetconfNotification.class));
+        netconfNotificationManager.registerNotificationListener(NetconfNotificationManager.BASE_STREAM_NAME, listener,
+                startTime, Optional.absent());
+
+        final ArgumentCaptor<NetconfNotification> captor = ArgumentCaptor.forClass(NetconfNotification.class);
+        verify(listener, times(3)).onNotification(any(StreamNameType.class), captor.capture());
+        final List<NetconfNotification> replayed = captor.getAllValues();
+        assertEquals("netconf-capability-change",
+                replayed.get(0).getDocument().getDocumentElement().getFirstChild().getLocalName());
+        assertEquals("netconf-capability-change",
+                replayed.get(1).getDocument().getDocumentElement().getFirstChild().getLocalName());
+        assertEquals("replayComplete",
+                replayed.get(2).getDocument().getDocumentElement().getFirstChild().getLocalName());
+
+        // replayed notifications are followed by published ones
+        baseNotificationPublisherRegistration.onCapabilityChanged(new NetconfCapabilityChangeBuilder().build());
+        verify(listener, times(4)).onNotification(any(StreamNameType.class), any(NetconfNotification.class));
+    }
+
+    @Test
+    public void testSlowListener() throws Exception {
+        final List<Runnable> tasks = new ArrayList<>();
+        final Executor executor = new Executor() {
+            @Override
+            public void execute(final Runnable command) {
+                tasks.add(command);
+            }
+        };
+        final NetconfNotificationManager netconfNotificationManager = new NetconfNotificationManager(
+                NetconfNotificationManager.DEFAULT_REPLAY_LOG_SIZE, 2, executor);
+        final BaseNotificationPublisherRegistration baseNotificationPublisherRegistration =
+                netconfNotificationManager.registerBaseNotificationPublisher();
+
+        final NetconfNotificationListener slowListener = mock(NetconfNotificationListener.class);
+        doNothing().when(slowListener).onNotification(any(StreamNameType.class), any(NetconfNotification.class));
+        netconfNotificationManager.registerNotificationListener(NetconfNotificationManager.BASE_STREAM_NAME,
+                slowListener);
+
+        // notifications are only queued by the publisher, the third one does not fit into the queue
+        for (int i = 0; i < 3; i++) {
+            baseNotificationPublisherRegistration.onCapabilityChanged(new NetconfCapabilityChangeBuilder().build());
+        }
+        verifyNoMoreInteractions(slowListener);
+        assertEquals(1, tasks.size());
+
+        assertEquals(1, netconfNotificationManager.getDroppedNotifications());
+
+        // the listener is told about the drop after the notifications queued before it
+        tasks.remove(0).run();
+        final InOrder inOrder = inOrder(slowListener);
+        inOrder.verify(slowListener, times(2)).onNotification(any(StreamNameType.class),
+                any(NetconfNotification.class));
+        inOrder.verify(slowListener).onNotificationsDropped(NetconfNotificationManager.BASE_STREAM_NAME);
+
+        // the queue drained, notifications are delivered again
+        baseNotificationPublisherRegistration.onCapabilityChanged(new NetconfCapabilityChangeBuilder().build());
+        assertEquals(1, tasks.size());
+        tasks.remove(0).run();
+        verify(slowListener, times(3)).onNotification(any(StreamNameType.class), any(NetconfNotification.class));
+        verify(slowListener).onNotificationsDropped(any(StreamNameType.class));
+        assertEquals(1, netconfNotificationManager.getDroppedNotifications());
+    }
+
+    private static void verifyStreamRegistered(final NetconfNotificationCollector.NetconfNotificationStreamListener streamListener) {
+        final ArgumentCaptor<Stream> captor = ArgumentCaptor.forClass(Stream.class);
+        verify(streamListener).onStreamRegistered(captor.capture());
+        assertEquals(NetconfNotificationManager.BASE_STREAM_NAME, captor.getValue().getName());
+        assertTrue(captor.getValue().isReplaySupport());
+        assertTrue(captor.getValue().getReplayLogCreationTime() != null);
+    }
+}
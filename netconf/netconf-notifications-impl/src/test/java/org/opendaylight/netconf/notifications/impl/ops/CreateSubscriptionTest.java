@@ -9,22 +9,43 @@
 package org.opendaylight.netconf.notifications.impl.ops;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
+import com.google.common.base.Optional;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
 import org.hamcrest.CoreMatchers;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opendaylight.controller.config.util.xml.DocumentedException;
 import org.opendaylight.controller.config.util.xml.XmlElement;
 import org.opendaylight.controller.config.util.xml.XmlUtil;
+import org.opendaylight.netconf.api.NetconfMessage;
 import org.opendaylight.netconf.api.NetconfSession;
 import org.opendaylight.netconf.notifications.NetconfNotificationListener;
 import org.opendaylight.netconf.notifications.NetconfNotificationRegistry;
 import org.opendaylight.netconf.notifications.NotificationListenerRegistration;
+import org.opendaylight.netconf.notifications.impl.NetconfNotificationManager;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.notification._1._0.rev080714.StreamNameType;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.NotificationComplete;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.NotificationCompleteBuilder;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.ReplayComplete;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netmod.notification.rev080714.ReplayCompleteBuilder;
+import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.w3c.dom.Element;
 
 public class CreateSubscriptionTest {
@@ -36,17 +57,26 @@ public class CreateSubscriptionTest {
 
     @Mock
     private NetconfNotificationRegistry notificationRegistry;
+    @Mock
+    private NotificationListenerRegistration registration;
+    @Mock
+    private ScheduledExecutorService stopTimeExecutor;
+    @Mock
+    private ScheduledFuture<?> stopTimer;
 
     @Before
     public void setUp() throws Exception {
         MockitoAnnotations.initMocks(this);
         doReturn(true).when(notificationRegistry).isStreamAvailable(any(StreamNameType.class));
         doReturn(mock(NotificationListenerRegistration.class)).when(notificationRegistry).registerNotificationListener(any(StreamNameType.class), any(NetconfNotificationListener.class));
+        doReturn(registration).when(notificationRegistry).registerNotificationListener(
+                any(StreamNameType.class), any(NetconfNotificationListener.class), any(Date.class), any(Optional.class));
+        doReturn(stopTimer).when(stopTimeExecutor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
     }
 
     @Test
     public void testHandleWithNoSubsequentOperations() throws Exception {
-        final CreateSubscription createSubscription = new CreateSubscription("id", notificationRegistry);
+        final CreateSubscription createSubscription = new CreateSubscription("id", notificationRegistry, stopTimeExecutor);
         createSubscription.setSession(mock(NetconfSession.class));
 
         final Element e = XmlUtil.readXmlToElement(CREATE_SUBSCRIPTION_XML);
@@ -56,4 +86,151 @@ public class CreateSubscriptionTest {
 
         Assert.assertThat(XmlUtil.toString(element), CoreMatchers.containsString("ok"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testReplay() throws Exception {
+        final CreateSubscription createSubscription = new CreateSubscription("id", notificationRegistry, stopTimeExecutor);
+        createSubscription.setSession(mock(NetconfSession.class));
+
+        final Element e = XmlUtil.readXmlToElement(createSubscriptionWithInterval("2017-01-01T10:00:00Z",
+                "2017-01-01T12:00:00+01:00"));
+        createSubscription.handleWithNoSubsequentOperations(XmlUtil.newDocument(), XmlElement.fromDomElement(e));
+
+        verify(notificationRegistry).registerNotificationListener(any(StreamNameType.class),
+                any(NetconfNotificationListener.class), any(Date.class), any(Optional.class));
+    }
+
+    @Test
+    public void testStopTimeOnQuietStream() throws Exception {
+        final CreateSubscription createSubscription = new CreateSubscription("id", notificationRegistry, stopTimeExecutor);
+        final NetconfSession session = mock(NetconfSession.class);
+        createSubscription.setSession(session);
+
+        final Instant now = Instant.now();
+        final Element e = XmlUtil.readXmlToElement(createSubscriptionWithInterval(now.minus(1, ChronoUnit.HOURS).toString(),
+                now.plus(1, ChronoUnit.HOURS).toString()));
+        createSubscription.handleWithNoSubsequentOperations(XmlUtil.newDocument(), XmlElement.fromDomElement(e));
+
+        final ArgumentCaptor<NetconfNotificationListener> listener =
+                ArgumentCaptor.forClass(NetconfNotificationListener.class);
+        verify(notificationRegistry).registerNotificationListener(any(StreamNameType.class), listener.capture(),
+                any(Date.class), any(Optional.class));
+        final ArgumentCaptor<Runnable> stopTask = ArgumentCaptor.forClass(Runnable.class);
+        final ArgumentCaptor<Long> delay = ArgumentCaptor.forClass(Long.class);
+        verify(stopTimeExecutor).schedule(stopTask.capture(), delay.capture(), eq(TimeUnit.MILLISECONDS));
+        Assert.assertTrue(delay.getValue() > 0 && delay.getValue() <= TimeUnit.HOURS.toMillis(1));
+
+        // replay completes, no notification is published afterwards
+        listener.getValue().onNotification(NetconfNotificationManager.BASE_STREAM_NAME,
+                NotificationsTransformUtil.transform(new ReplayCompleteBuilder().build(),
+                        SchemaPath.create(true, ReplayComplete.QNAME)));
+        verify(session, times(1)).sendMessage(any(NetconfMessage.class));
+        verify(registration, never()).close();
+
+        stopTask.getValue().run();
+        final ArgumentCaptor<NetconfMessage> sent = ArgumentCaptor.forClass(NetconfMessage.class);
+        verify(session, times(2)).sendMessage(sent.capture());
+        Assert.assertEquals(NotificationComplete.QNAME.getLocalName(), getContentName(sent.getAllValues().get(1)));
+        verify(registration).close();
+
+        // nothing is sent after completion
+        listener.getValue().onNotification(NetconfNotificationManager.BASE_STREAM_NAME,
+                NotificationsTransformUtil.transform(new NotificationCompleteBuilder().build(),
+                        SchemaPath.create(true, NotificationComplete.QNAME)));
+        verify(session, times(2)).sendMessage(any(NetconfMessage.class));
+    }
+
+    @Test
+    public void testStopTimeBeforeReplayComplete() throws Exception {
+        final CreateSubscription createSubscription = new CreateSubscription("id", notificationRegistry, stopTimeExecutor);
+        final NetconfSession session = mock(NetconfSession.class);
+        createSubscription.setSession(session);
+
+        final Instant now = Instant.now();
+        final Element e = XmlUtil.readXmlToElement(createSubscriptionWithInterval(now.minus(1, ChronoUnit.HOURS).toString(),
+                now.plus(1, ChronoUnit.HOURS).toString()));
+        createSubscription.handleWithNoSubsequentOperations(XmlUtil.newDocument(), XmlElement.fromDomElement(e));
+
+        final ArgumentCaptor<NetconfNotificationListener> listener =
+                ArgumentCaptor.forClass(NetconfNotificationListener.class);
+        verify(notificationRegistry).registerNotificationListener(any(StreamNameType.class), listener.capture(),
+                any(Date.class), any(Optional.class));
+        final ArgumentCaptor<Runnable> stopTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(stopTimeExecutor).schedule(stopTask.capture(), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+        // notificationComplete has to follow replayComplete
+        stopTask.getValue().run();
+        verify(session, never()).sendMessage(any(NetconfMessage.class));
+        listener.getValue().onNotification(NetconfNotificationManager.BASE_STREAM_NAME,
+                NotificationsTransformUtil.transform(new ReplayCompleteBuilder().build(),
+                        SchemaPath.create(true, ReplayComplete.QNAME)));
+        final ArgumentCaptor<NetconfMessage> sent = ArgumentCaptor.forClass(NetconfMessage.class);
+        verify(session, times(2)).sendMessage(sent.capture());
+        Assert.assertEquals(ReplayComplete.QNAME.getLocalName(), getContentName(sent.getAllValues().get(0)));
+        Assert.assertEquals(NotificationComplete.QNAME.getLocalName(), getContentName(sent.getAllValues().get(1)));
+        verify(registration).close();
+    }
+
+    @Test
+    public void testCloseCancelsStopTime() throws Exception {
+        final CreateSubscription createSubscription = new CreateSubscription("id", notificationRegistry, stopTimeExecutor);
+        createSubscription.setSession(mock(NetconfSession.class));
+
+        final Instant now = Instant.now();
+        final Element e = XmlUtil.readXmlToElement(createSubscriptionWithInterval(now.minus(1, ChronoUnit.HOURS).toString(),
+                now.plus(1, ChronoUnit.HOURS).toString()));
+        createSubscription.handleWithNoSubsequentOperations(XmlUtil.newDocument(), XmlElement.fromDomElement(e));
+        createSubscription.close();
+
+        verify(registration).close();
+        verify(stopTimer).cancel(false);
+    }
+
+    @Test
+    public void testDroppedNotificationsCloseSession() throws Exception {
+        final CreateSubscription createSubscription = new CreateSubscription("id", notificationRegistry, stopTimeExecutor);
+        final NetconfSession session = mock(NetconfSession.class);
+        createSubscription.setSession(session);
+
+        final Element e = XmlUtil.readXmlToElement(CREATE_SUBSCRIPTION_XML);
+        createSubscription.handleWithNoSubsequentOperations(XmlUtil.newDocument(), XmlElement.fromDomElement(e));
+
+        final ArgumentCaptor<NetconfNotificationListener> listener =
+                ArgumentCaptor.forClass(NetconfNotificationListener.class);
+        verify(notificationRegistry).registerNotificationListener(any(StreamNameType.class), listener.capture());
+        listener.getValue().onNotificationsDropped(new StreamNameType("TESTSTREAM"));
+        verify(session).close();
+
+        // no more notifications are sent to the closed session
+        listener.getValue().onNotification(new StreamNameType("TESTSTREAM"), NotificationsTransformUtil.transform(
+                new NotificationCompleteBuilder().build(), SchemaPath.create(true, NotificationComplete.QNAME)));
+        verify(session, never()).sendMessage(any(NetconfMessage.class));
+    }
+
+    @Test
+    public void testStopTimeBeforeStartTime() throws Exception {
+        final CreateSubscription createSubscription = new CreateSubscription("id", notificationRegistry, stopTimeExecutor);
+        createSubscription.setSession(mock(NetconfSession.class));
+
+        final Element e = XmlUtil.readXmlToElement(createSubscriptionWithInterval("2017-01-01T10:00:00Z",
+                "2017-01-01T09:00:00Z"));
+        try {
+            createSubscription.handleWithNoSubsequentOperations(XmlUtil.newDocument(), XmlElement.fromDomElement(e));
+            Assert.fail("Exception expected");
+        } catch (final DocumentedException ex) {
+            Assert.assertEquals(DocumentedException.ErrorTag.BAD_ELEMENT, ex.getErrorTag());
+            Assert.assertEquals("stopTime", ex.getErrorInfo().get("bad-element"));
+        }
+    }
+
+    private static String getContentName(final NetconfMessage message) {
+        return message.getDocument().getDocumentElement().getFirstChild().getLocalName();
+    }
+
+    private static String createSubscriptionWithInterval(final String startTime, final String stopTime) {
+        return "<create-subscription xmlns=\"urn:ietf:params:xml:ns:netconf:notification:1.0\">" +
+                "<startTime>" + startTime + "</startTime>" +
+                "<stopTime>" + stopTime + "</stopTime>" +
+                "</create-subscription>";
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Collections;
 import java.util.Dictionary;
 import java.util.Hashtable;
 import java.util.Set;
+import java.util.concurrent.ScheduledExecutorService;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
 import org.opendaylight.controller.config.util.capability.BasicCapability;
@@ -90,7 +91,8 @@ public class ActivatorTest {
         final NetconfOperationService netconfOperationService = serviceFactory.createService("id");
         final Set<NetconfOperation> netconfOperations = netconfOperationService.getNetconfOperations();
 
-        final CreateSubscription createSubscription = new CreateSubscription("id", activator.getNetconfNotificationManager());
+        final CreateSubscription createSubscription = new CreateSubscription("id", activator.getNetconfNotificationManager(),
+                mock(ScheduledExecutorService.class));
 
         netconfOperations.forEach(
                 operation -> {
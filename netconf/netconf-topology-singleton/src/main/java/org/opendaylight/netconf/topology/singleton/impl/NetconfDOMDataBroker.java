@@ -11,6 +11,7 @@ package org.opendaylight.netconf.topology.singleton.impl;
 import akka.actor.ActorSystem;
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Supplier;
 import javax.annotation.Nonnull;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
@@ -33,12 +34,25 @@ public class NetconfDOMDataBroker implements DOMDataBroker {
 
     private final RemoteDeviceId id;
     private final NetconfDOMTransaction masterDataBroker;
+    private final Supplier<NetconfDOMTransaction> writeTransactionFactory;
     private final ActorSystem actorSystem;
 
     public NetconfDOMDataBroker(final ActorSystem actorSystem, final RemoteDeviceId id,
                          final NetconfDOMTransaction masterDataBroker) {
+        this(actorSystem, id, masterDataBroker, () -> masterDataBroker);
+    }
+
+    /**
+     * @param masterDataBroker used by read transactions
+     * @param writeTransactionFactory called for each write transaction, so transactions holding state until submit
+     *                                do not share it
+     */
+    public NetconfDOMDataBroker(final ActorSystem actorSystem, final RemoteDeviceId id,
+                         final NetconfDOMTransaction masterDataBroker,
+                         final Supplier<NetconfDOMTransaction> writeTransactionFactory) {
         this.id = id;
         this.masterDataBroker = masterDataBroker;
+        this.writeTransactionFactory = writeTransactionFactory;
         this.actorSystem = actorSystem;
     }
 
@@ -50,12 +64,12 @@ public class NetconfDOMDataBroker implements DOMDataBroker {
     @Override
     public DOMDataReadWriteTransaction newReadWriteTransaction() {
         return new ReadWriteTx(new NetconfReadOnlyTransaction(id, actorSystem, masterDataBroker),
-                new NetconfWriteOnlyTransaction(id, actorSystem, masterDataBroker));
+                new NetconfWriteOnlyTransaction(id, actorSystem, writeTransactionFactory.get()));
     }
 
     @Override
     public DOMDataWriteTransaction newWriteOnlyTransaction() {
-        return new NetconfWriteOnlyTransaction(id, actorSystem, masterDataBroker);
+        return new NetconfWriteOnlyTransaction(id, actorSystem, writeTransactionFactory.get());
     }
 
     @Override
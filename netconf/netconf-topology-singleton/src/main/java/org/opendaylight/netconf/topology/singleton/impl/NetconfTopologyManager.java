@@ -236,7 +236,9 @@ public class NetconfTopologyManager
                 .setKeepaliveExecutor(keepaliveExecutor)
                 .setProcessingExecutor(processingExecutor)
                 .setTopologyId(topologyId)
-                .setNetconfClientDispatcher(clientDispatcher);
+                .setNetconfClientDispatcher(clientDispatcher)
+                .setActorResponseWaitTime(NetconfTopologyUtils.getActorResponseWaitTime(
+                        node.getAugmentation(NetconfNode.class)));
 
         return builder.build();
     }
@@ -229,12 +229,22 @@ public class RemoteDeviceConnectorImpl implements RemoteDeviceConnector {
             LOG.info("{}: Concurrent rpc limit is smaller than 1, no limit will be enforced.", remoteDeviceId);
         }
 
+        final boolean outOfOrderReplies = node.isOutOfOrderReplies() == null
+                ? NetconfTopologyUtils.DEFAULT_OUT_OF_ORDER_REPLIES : node.isOutOfOrderReplies();
+        final int rpcQueueSize = node.getRpcQueueSize() == null
+                ? NetconfTopologyUtils.DEFAULT_RPC_QUEUE_SIZE : node.getRpcQueueSize();
+        final long rpcQueueTimeoutMillis = node.getRpcQueueTimeoutMillis() == null
+                ? NetconfTopologyUtils.DEFAULT_RPC_QUEUE_TIMEOUT_MILLIS : node.getRpcQueueTimeoutMillis();
+
         return new NetconfConnectorDTO(
                 userCapabilities.isPresent()
                         ? new NetconfDeviceCommunicator(
                                 remoteDeviceId, device, new UserPreferences(userCapabilities.get(),
-                                node.getYangModuleCapabilities().isOverride()), rpcMessageLimit) :
-                        new NetconfDeviceCommunicator(remoteDeviceId, device, rpcMessageLimit), salFacade);
+                                node.getYangModuleCapabilities().isOverride()), rpcMessageLimit, outOfOrderReplies,
+                                rpcQueueSize, rpcQueueTimeoutMillis) :
+                        new NetconfDeviceCommunicator(remoteDeviceId, device, rpcMessageLimit, outOfOrderReplies,
+                                rpcQueueSize, rpcQueueTimeoutMillis),
+                salFacade);
     }
 
     private Optional<NetconfSessionPreferences> getUserCapabilities(final NetconfNode node) {
@@ -58,6 +58,8 @@ public class RemoteOperationTxProcessorImpl implements RemoteOperationTxProcesso
     public void doSubmit(final ActorRef recipient, final ActorRef sender) {
         if (writeTx != null) {
             CheckedFuture<Void, TransactionCommitFailedException> submitFuture = writeTx.submit();
+            // next modifications belong to a new transaction
+            writeTx = null;
             Futures.addCallback(submitFuture, new FutureCallback<Void>() {
                 @Override
                 public void onSuccess(Void result) {
@@ -80,6 +82,7 @@ public class RemoteOperationTxProcessorImpl implements RemoteOperationTxProcesso
         boolean cancel = false;
         if (writeTx != null) {
             cancel = writeTx.cancel();
+            writeTx = null;
         }
         recipient.tell(cancel, sender);
     }
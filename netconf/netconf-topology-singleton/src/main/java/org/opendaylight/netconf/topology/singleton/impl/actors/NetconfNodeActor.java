@@ -48,6 +48,7 @@ import org.opendaylight.netconf.topology.singleton.messages.transactions.ExistsR
 import org.opendaylight.netconf.topology.singleton.messages.transactions.MergeRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.PutRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.ReadRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitBatchRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.TransactionRequest;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
@@ -180,6 +181,14 @@ public class NetconfNodeActor extends UntypedActor {
         } else if (message instanceof SubmitRequest) {
 
             operationsProcessor.doSubmit(recipient, futureSender);
+
+        } else if (message instanceof SubmitBatchRequest) {
+
+            // whole transaction of slave, applied in order of modifications
+            for (final TransactionRequest modification : ((SubmitBatchRequest) message).getModifications()) {
+                resolveProxyCalls(modification, recipient, futureSender);
+            }
+            operationsProcessor.doSubmit(recipient, futureSender);
         }
     }
 
@@ -236,7 +245,8 @@ public class NetconfNodeActor extends UntypedActor {
         if (this.slaveSalManager != null) {
             slaveSalManager.close();
         }
-        slaveSalManager = new SlaveSalFacade(id, setup.getDomBroker(), setup.getActorSystem());
+        slaveSalManager = new SlaveSalFacade(id, setup.getDomBroker(), setup.getActorSystem(),
+                setup.getActorResponseWaitTime());
 
         final CheckedFuture<SchemaContext, SchemaResolutionException> remoteSchemaContext =
                 getSchemaContext(masterReference);
@@ -257,7 +267,7 @@ public class NetconfNodeActor extends UntypedActor {
     }
 
     private DOMRpcService getDOMRpcService(ActorRef masterReference) {
-        return new ProxyDOMRpcService(setup.getActorSystem(), masterReference, id);
+        return new ProxyDOMRpcService(setup.getActorSystem(), masterReference, id, setup.getActorResponseWaitTime());
     }
 
     private CheckedFuture<SchemaContext, SchemaResolutionException> getSchemaContext(ActorRef masterReference) {
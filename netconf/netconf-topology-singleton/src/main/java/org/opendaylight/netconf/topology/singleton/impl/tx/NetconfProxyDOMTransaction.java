@@ -10,32 +10,39 @@ package org.opendaylight.netconf.topology.singleton.impl.tx;
 
 import akka.actor.ActorRef;
 import akka.actor.ActorSystem;
+import akka.dispatch.Futures;
 import akka.dispatch.OnComplete;
 import akka.pattern.Patterns;
+import akka.util.Timeout;
 import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.List;
 import org.opendaylight.controller.config.util.xml.DocumentedException;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.netconf.topology.singleton.api.NetconfDOMTransaction;
-import org.opendaylight.netconf.topology.singleton.impl.utils.NetconfTopologyUtils;
 import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
-import org.opendaylight.netconf.topology.singleton.messages.transactions.CancelRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.DeleteRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.EmptyReadResponse;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.ExistsRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.MergeRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.PutRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.ReadRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitBatchRequest;
 import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitFailedReply;
-import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.TransactionRequest;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import scala.concurrent.Await;
 import scala.concurrent.Future;
 import scala.concurrent.impl.Promise.DefaultPromise;
 
-
+/**
+ * Slave side of transactions, delegates operations to master. Reads are sent to master immediately, modifications
+ * are kept locally and sent to master all at once when transaction is submitted. Modifications belong to single
+ * write transaction, so new instance has to be used for every write transaction.
+ */
 public class NetconfProxyDOMTransaction implements NetconfDOMTransaction {
 
     private static final Logger LOG = LoggerFactory.getLogger(NetconfProxyDOMTransaction.class);
@@ -43,13 +50,21 @@ public class NetconfProxyDOMTransaction implements NetconfDOMTransaction {
     private final RemoteDeviceId id;
     private final ActorSystem actorSystem;
     private final ActorRef masterContextRef;
+    private final Timeout askTimeout;
+
+    // modifications not submitted yet, guarded by this
+    private final List<TransactionRequest> modifications = new ArrayList<>();
+    // set when transaction is submitted or cancelled, guarded by this
+    private boolean finished = false;
 
     public NetconfProxyDOMTransaction(final RemoteDeviceId id,
                                       final ActorSystem actorSystem,
-                                      final ActorRef masterContextRef) {
+                                      final ActorRef masterContextRef,
+                                      final Timeout askTimeout) {
         this.id = id;
         this.actorSystem = actorSystem;
         this.masterContextRef = masterContextRef;
+        this.askTimeout = askTimeout;
     }
 
     @Override
@@ -57,7 +72,7 @@ public class NetconfProxyDOMTransaction implements NetconfDOMTransaction {
                                                         final YangInstanceIdentifier path) {
 
         final Future<Object> readScalaFuture =
-                Patterns.ask(masterContextRef, new ReadRequest(store, path), NetconfTopologyUtils.TIMEOUT);
+                Patterns.ask(masterContextRef, new ReadRequest(store, path), askTimeout);
 
         LOG.trace("{}: Read {} via NETCONF: {}", id, store, path);
 
@@ -91,7 +106,7 @@ public class NetconfProxyDOMTransaction implements NetconfDOMTransaction {
     @Override
     public Future<Boolean> exists(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
         final Future<Object> existsScalaFuture =
-                Patterns.ask(masterContextRef, new ExistsRequest(store, path), NetconfTopologyUtils.TIMEOUT);
+                Patterns.ask(masterContextRef, new ExistsRequest(store, path), askTimeout);
 
         LOG.trace("{}: Exists {} via NETCONF: {}", id, store, path);
 
@@ -120,45 +135,59 @@ public class NetconfProxyDOMTransaction implements NetconfDOMTransaction {
     public void put(final LogicalDatastoreType store, final NormalizedNodeMessage data) {
         LOG.trace("{}: Write {} via NETCONF: {} with payload {}", id, store, data.getIdentifier(), data.getNode());
 
-        masterContextRef.tell(new PutRequest(store, data), ActorRef.noSender());
-
+        addModification(new PutRequest(store, data));
     }
 
     @Override
     public void merge(final LogicalDatastoreType store, final NormalizedNodeMessage data) {
         LOG.trace("{}: Merge {} via NETCONF: {} with payload {}", id, store, data.getIdentifier(), data.getNode());
 
-        masterContextRef.tell(new MergeRequest(store, data), ActorRef.noSender());
+        addModification(new MergeRequest(store, data));
     }
 
     @Override
     public void delete(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
         LOG.trace("{}: Delete {} via NETCONF: {}", id, store, path);
 
-        masterContextRef.tell(new DeleteRequest(store, path), ActorRef.noSender());
+        addModification(new DeleteRequest(store, path));
     }
 
-    @Override
-    public boolean cancel() {
-        final Future<Object> cancelScalaFuture =
-                Patterns.ask(masterContextRef, new CancelRequest(), NetconfTopologyUtils.TIMEOUT);
-
-        LOG.trace("{}: Cancel {} via NETCONF", id);
+    private synchronized void addModification(final TransactionRequest modification) {
+        Preconditions.checkState(!finished, "%s: Transaction was already submitted or cancelled", id);
+        modifications.add(modification);
+    }
 
-        try {
-            // here must be Await because AsyncWriteTransaction do not return future
-            return (boolean) Await.result(cancelScalaFuture, NetconfTopologyUtils.TIMEOUT.duration());
-        } catch (Exception e) {
+    @Override
+    public synchronized boolean cancel() {
+        if (finished) {
             return false;
         }
+        // nothing was sent to master yet, so it is enough to drop modifications
+        LOG.trace("{}: Cancel {} modifications", id, modifications.size());
+
+        finished = true;
+        modifications.clear();
+        return true;
     }
 
     @Override
     public Future<Void> submit() {
+        final List<TransactionRequest> submitted;
+        synchronized (this) {
+            Preconditions.checkState(!finished, "%s: Transaction was already submitted or cancelled", id);
+            finished = true;
+            submitted = new ArrayList<>(modifications);
+            modifications.clear();
+        }
+        if (submitted.isEmpty()) {
+            // there is nothing to write, master would not even open transaction
+            LOG.trace("{}: Submit of empty transaction", id);
+            return Futures.successful(null);
+        }
         final Future<Object> submitScalaFuture =
-                Patterns.ask(masterContextRef, new SubmitRequest(), NetconfTopologyUtils.TIMEOUT);
+                Patterns.ask(masterContextRef, new SubmitBatchRequest(submitted), askTimeout);
 
-        LOG.trace("{}: Submit {} via NETCONF", id);
+        LOG.trace("{}: Submit {} modifications via NETCONF", id, submitted.size());
 
         final DefaultPromise<Void> promise = new DefaultPromise<>();
 
@@ -9,6 +9,7 @@
 package org.opendaylight.netconf.topology.singleton.impl.utils;
 
 import akka.actor.ActorSystem;
+import akka.util.Timeout;
 import io.netty.util.concurrent.EventExecutor;
 import org.opendaylight.controller.config.threadpool.ScheduledThreadPool;
 import org.opendaylight.controller.config.threadpool.ThreadPool;
@@ -36,6 +37,7 @@ public class NetconfTopologySetup {
     private final EventExecutor eventExecutor;
     private final NetconfClientDispatcher netconfClientDispatcher;
     private final String topologyId;
+    private final Timeout actorResponseWaitTime;
     private NetconfTopologySetup(final NetconfTopologySetupBuilder builder) {
         this.clusterSingletonServiceProvider = builder.getClusterSingletonServiceProvider();
         this.rpcProviderRegistry = builder.getRpcProviderRegistry();
@@ -50,6 +52,7 @@ public class NetconfTopologySetup {
         this.eventExecutor = builder.getEventExecutor();
         this.netconfClientDispatcher = builder.getNetconfClientDispatcher();
         this.topologyId = builder.getTopologyId();
+        this.actorResponseWaitTime = builder.getActorResponseWaitTime();
     }
 
     public ClusterSingletonServiceProvider getClusterSingletonServiceProvider() {
@@ -104,6 +107,10 @@ public class NetconfTopologySetup {
         return netconfClientDispatcher;
     }
 
+    public Timeout getActorResponseWaitTime() {
+        return actorResponseWaitTime;
+    }
+
     public static class NetconfTopologySetupBuilder {
 
         private ClusterSingletonServiceProvider clusterSingletonServiceProvider;
@@ -119,6 +126,7 @@ public class NetconfTopologySetup {
         private EventExecutor eventExecutor;
         private String topologyId;
         private NetconfClientDispatcher netconfClientDispatcher;
+        private Timeout actorResponseWaitTime = NetconfTopologyUtils.TIMEOUT;
 
         public NetconfTopologySetupBuilder(){
         }
@@ -245,6 +253,15 @@ public class NetconfTopologySetup {
             return this;
         }
 
+        private Timeout getActorResponseWaitTime() {
+            return actorResponseWaitTime;
+        }
+
+        public NetconfTopologySetupBuilder setActorResponseWaitTime(Timeout actorResponseWaitTime) {
+            this.actorResponseWaitTime = actorResponseWaitTime;
+            return this;
+        }
+
         public static NetconfTopologySetupBuilder create() {
             return new NetconfTopologySetupBuilder();
         }
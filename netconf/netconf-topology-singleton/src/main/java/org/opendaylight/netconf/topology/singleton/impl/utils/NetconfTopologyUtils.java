@@ -43,9 +43,13 @@ public class NetconfTopologyUtils {
     public static final int DEFAULT_KEEPALIVE_DELAY = 0;
     public static final boolean DEFAULT_RECONNECT_ON_CHANGED_SCHEMA = false;
     public static final int DEFAULT_CONCURRENT_RPC_LIMIT = 0;
+    public static final boolean DEFAULT_OUT_OF_ORDER_REPLIES = false;
+    public static final int DEFAULT_RPC_QUEUE_SIZE = 0;
+    public static final long DEFAULT_RPC_QUEUE_TIMEOUT_MILLIS = 60000L;
     public static final int DEFAULT_MAX_CONNECTION_ATTEMPTS = 0;
     public static final int DEFAULT_BETWEEN_ATTEMPTS_TIMEOUT_MILLIS = 2000;
     public static final long DEFAULT_CONNECTION_TIMEOUT_MILLIS = 20000L;
+    public static final int DEFAULT_ACTOR_RESPONSE_WAIT_TIME = 10;
     public static final BigDecimal DEFAULT_SLEEP_FACTOR = new BigDecimal(1.5);
 
 
@@ -74,6 +78,15 @@ public class NetconfTopologyUtils {
     public static final SchemaContextFactory DEFAULT_SCHEMA_CONTEXT_FACTORY =
             DEFAULT_SCHEMA_REPOSITORY.createSchemaContextFactory(SchemaSourceFilter.ALWAYS_ACCEPT);
 
+    /**
+     * Time a slave waits for master to respond to requests delegated to it, configured per device.
+     */
+    public static Timeout getActorResponseWaitTime(final NetconfNode node) {
+        final int waitTime = node == null || node.getActorResponseWaitTime() == null
+                ? DEFAULT_ACTOR_RESPONSE_WAIT_TIME : node.getActorResponseWaitTime();
+        return new Timeout(Duration.create(waitTime, "seconds"));
+    }
+
     public static RemoteDeviceId createRemoteDeviceId(final NodeId nodeId, final NetconfNode node) {
         IpAddress ipAddress = node.getHost().getIpAddress();
         InetSocketAddress address = new InetSocketAddress(ipAddress.getIpv4Address() != null
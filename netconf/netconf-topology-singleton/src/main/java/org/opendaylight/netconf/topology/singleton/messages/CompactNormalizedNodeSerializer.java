@@ -0,0 +1,741 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.netconf.topology.singleton.messages;
+
+import com.google.common.collect.ImmutableSet;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import javax.annotation.Nullable;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.SerializationUtils;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.AugmentationIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.AugmentationNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.api.schema.OrderedLeafSetNode;
+import org.opendaylight.yangtools.yang.data.api.schema.OrderedMapNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContainerNodeBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.ListNodeBuilder;
+
+/**
+ * Compact binary form of path and node sent between cluster nodes. Each QName and each module is written in full
+ * only at its first occurrence within a message, later occurrences are written as index into dictionary built by
+ * both sides while the message is processed. Lengths, counts, dictionary indexes and integer values are written
+ * as variable length numbers, so most of them take a single byte. Messages larger than compression threshold
+ * are deflated.
+ *
+ * <p>
+ * Nodes and values without compact form (e.g. anyxml) are embedded in the generic format of
+ * {@link SerializationUtils}.
+ */
+public final class CompactNormalizedNodeSerializer {
+
+    /**
+     * Size in bytes of encoded message above which it is compressed, non-positive value disables compression.
+     */
+    public static final int COMPRESSION_THRESHOLD =
+            Integer.getInteger("org.opendaylight.netconf.topology.singleton.compression-threshold", 64 * 1024);
+
+    private static final byte PLAIN = 0;
+    private static final byte DEFLATED = 1;
+
+    // node types
+    private static final byte NULL_NODE = 0;
+    private static final byte CONTAINER = 1;
+    private static final byte LEAF = 2;
+    private static final byte MAP = 3;
+    private static final byte ORDERED_MAP = 4;
+    private static final byte MAP_ENTRY = 5;
+    private static final byte LEAF_SET = 6;
+    private static final byte ORDERED_LEAF_SET = 7;
+    private static final byte LEAF_SET_ENTRY = 8;
+    private static final byte CHOICE = 9;
+    private static final byte AUGMENTATION = 10;
+    private static final byte UNKEYED_LIST = 11;
+    private static final byte UNKEYED_LIST_ENTRY = 12;
+    private static final byte GENERIC_NODE = 13;
+
+    // path argument types
+    private static final byte NODE_IDENTIFIER = 0;
+    private static final byte NODE_IDENTIFIER_WITH_PREDICATES = 1;
+    private static final byte NODE_WITH_VALUE = 2;
+    private static final byte AUGMENTATION_IDENTIFIER = 3;
+
+    // value types
+    private static final byte NULL_VALUE = 0;
+    private static final byte STRING = 1;
+    private static final byte TRUE = 2;
+    private static final byte FALSE = 3;
+    private static final byte BYTE = 4;
+    private static final byte SHORT = 5;
+    private static final byte INT = 6;
+    private static final byte LONG = 7;
+    private static final byte BIG_INTEGER = 8;
+    private static final byte BIG_DECIMAL = 9;
+    private static final byte QNAME = 10;
+    private static final byte INSTANCE_IDENTIFIER = 11;
+    private static final byte BINARY = 12;
+    private static final byte BITS = 13;
+
+    // Revisions are written as formatted dates, Date instants depend on the default timezone of the member
+    private static final String NO_REVISION = "";
+
+    private CompactNormalizedNodeSerializer() {
+        throw new UnsupportedOperationException("Util class");
+    }
+
+    /**
+     * Write path and node in compact form.
+     *
+     * @param out output
+     * @param path path of node
+     * @param node node, may be null
+     * @throws IOException if writing to output fails
+     */
+    public static void serializePathAndNode(final DataOutput out, final YangInstanceIdentifier path,
+                                            @Nullable final NormalizedNode<?, ?> node) throws IOException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        final Writer writer = new Writer(new DataOutputStream(buffer));
+        writer.writePath(path);
+        writer.writeNode(node);
+        final byte[] encoded = buffer.toByteArray();
+
+        if (COMPRESSION_THRESHOLD > 0 && encoded.length > COMPRESSION_THRESHOLD) {
+            final byte[] compressed = deflate(encoded);
+            if (compressed.length < encoded.length) {
+                out.writeByte(DEFLATED);
+                writeVarInt(out, encoded.length);
+                writeVarInt(out, compressed.length);
+                out.write(compressed);
+                return;
+            }
+        }
+        out.writeByte(PLAIN);
+        writeVarInt(out, encoded.length);
+        out.write(encoded);
+    }
+
+    /**
+     * Read path and node written by {@link #serializePathAndNode(DataOutput, YangInstanceIdentifier, NormalizedNode)}
+     * and hand them over to applier.
+     *
+     * @param in input
+     * @param instance instance to apply path and node to
+     * @param applier applier of path and node
+     * @param <T> type of instance
+     * @throws IOException if input is not readable or is malformed
+     */
+    public static <T> void deserializePathAndNode(final DataInput in, final T instance,
+                                                  final SerializationUtils.Applier<T> applier) throws IOException {
+        final byte format = in.readByte();
+        final byte[] encoded = new byte[readVarInt(in)];
+        switch (format) {
+            case PLAIN:
+                in.readFully(encoded);
+                break;
+            case DEFLATED:
+                final byte[] compressed = new byte[readVarInt(in)];
+                in.readFully(compressed);
+                inflate(compressed, encoded);
+                break;
+            default:
+                throw new IOException("Unknown message format " + format);
+        }
+
+        final Reader reader = new Reader(new DataInputStream(new ByteArrayInputStream(encoded)));
+        final YangInstanceIdentifier path = reader.readPath();
+        applier.apply(instance, path, reader.readNode());
+    }
+
+    private static byte[] deflate(final byte[] data) {
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(data);
+            deflater.finish();
+            final ByteArrayOutputStream compressed = new ByteArrayOutputStream(data.length / 4);
+            final byte[] chunk = new byte[8192];
+            while (!deflater.finished()) {
+                compressed.write(chunk, 0, deflater.deflate(chunk));
+            }
+            return compressed.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void inflate(final byte[] compressed, final byte[] data) throws IOException {
+        final Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int length = 0;
+            while (length < data.length && !inflater.finished()) {
+                final int inflated = inflater.inflate(data, length, data.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != data.length) {
+                throw new IOException("Compressed message is truncated");
+            }
+        } catch (final DataFormatException e) {
+            throw new IOException("Compressed message is malformed", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeVarInt(final DataOutput out, final int value) throws IOException {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarLong(final DataOutput out, final long value) throws IOException {
+        long remaining = value;
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    private static int readVarInt(final DataInput in) throws IOException {
+        final long value = readVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Invalid length " + value);
+        }
+        return (int) value;
+    }
+
+    private static long readVarLong(final DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte part = in.readByte();
+            value |= (long) (part & 0x7F) << shift;
+            if ((part & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length number");
+    }
+
+    // zig-zag encoding keeps small negative numbers short as well
+    private static void writeSignedVarLong(final DataOutput out, final long value) throws IOException {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static long readSignedVarLong(final DataInput in) throws IOException {
+        final long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Writer {
+        private final DataOutputStream out;
+        private final Map<QName, Integer> qnames = new HashMap<>();
+        private final Map<QNameModule, Integer> modules = new HashMap<>();
+
+        Writer(final DataOutputStream out) {
+            this.out = out;
+        }
+
+        void writeNode(@Nullable final NormalizedNode<?, ?> node) throws IOException {
+            if (node == null) {
+                out.writeByte(NULL_NODE);
+            } else if (node instanceof LeafNode && isSupportedValue(node.getValue())) {
+                out.writeByte(LEAF);
+                writeQName(node.getNodeType());
+                writeValue(node.getValue());
+            } else if (node instanceof ContainerNode) {
+                out.writeByte(CONTAINER);
+                writeQName(node.getNodeType());
+                writeChildren(((ContainerNode) node).getValue());
+            } else if (node instanceof MapEntryNode && isSupportedPathArgument(((MapEntryNode) node).getIdentifier())) {
+                out.writeByte(MAP_ENTRY);
+                writePredicates(((MapEntryNode) node).getIdentifier());
+                writeChildren(((MapEntryNode) node).getValue());
+            } else if (node instanceof OrderedMapNode) {
+                out.writeByte(ORDERED_MAP);
+                writeQName(node.getNodeType());
+                writeChildren(((OrderedMapNode) node).getValue());
+            } else if (node instanceof MapNode) {
+                out.writeByte(MAP);
+                writeQName(node.getNodeType());
+                writeChildren(((MapNode) node).getValue());
+            } else if (node instanceof LeafSetEntryNode && isSupportedValue(node.getValue())) {
+                // identifier carries the same value as node
+                out.writeByte(LEAF_SET_ENTRY);
+                writeQName(node.getNodeType());
+                writeValue(node.getValue());
+            } else if (node instanceof OrderedLeafSetNode) {
+                out.writeByte(ORDERED_LEAF_SET);
+                writeQName(node.getNodeType());
+                writeChildren(((OrderedLeafSetNode<?>) node).getValue());
+            } else if (node instanceof LeafSetNode) {
+                out.writeByte(LEAF_SET);
+                writeQName(node.getNodeType());
+                writeChildren(((LeafSetNode<?>) node).getValue());
+            } else if (node instanceof ChoiceNode) {
+                out.writeByte(CHOICE);
+                writeQName(node.getNodeType());
+                writeChildren(((ChoiceNode) node).getValue());
+            } else if (node instanceof AugmentationNode) {
+                out.writeByte(AUGMENTATION);
+                writeAugmentationIdentifier(((AugmentationNode) node).getIdentifier());
+                writeChildren(((AugmentationNode) node).getValue());
+            } else if (node instanceof UnkeyedListNode) {
+                out.writeByte(UNKEYED_LIST);
+                writeQName(node.getNodeType());
+                writeChildren(((UnkeyedListNode) node).getValue());
+            } else if (node instanceof UnkeyedListEntryNode) {
+                out.writeByte(UNKEYED_LIST_ENTRY);
+                writeQName(node.getNodeType());
+                writeChildren(((UnkeyedListEntryNode) node).getValue());
+            } else {
+                out.writeByte(GENERIC_NODE);
+                SerializationUtils.serializeNormalizedNode(node, out);
+            }
+        }
+
+        private void writeChildren(final Collection<? extends NormalizedNode<?, ?>> children) throws IOException {
+            writeVarInt(out, children.size());
+            for (final NormalizedNode<?, ?> child : children) {
+                writeNode(child);
+            }
+        }
+
+        void writePath(final YangInstanceIdentifier path) throws IOException {
+            final List<PathArgument> arguments = path.getPathArguments();
+            writeVarInt(out, arguments.size());
+            for (final PathArgument argument : arguments) {
+                writePathArgument(argument);
+            }
+        }
+
+        private void writePathArgument(final PathArgument argument) throws IOException {
+            if (argument instanceof NodeIdentifierWithPredicates) {
+                out.writeByte(NODE_IDENTIFIER_WITH_PREDICATES);
+                writePredicates((NodeIdentifierWithPredicates) argument);
+            } else if (argument instanceof NodeWithValue) {
+                out.writeByte(NODE_WITH_VALUE);
+                writeQName(argument.getNodeType());
+                writeValue(((NodeWithValue<?>) argument).getValue());
+            } else if (argument instanceof AugmentationIdentifier) {
+                out.writeByte(AUGMENTATION_IDENTIFIER);
+                writeAugmentationIdentifier((AugmentationIdentifier) argument);
+            } else {
+                out.writeByte(NODE_IDENTIFIER);
+                writeQName(argument.getNodeType());
+            }
+        }
+
+        private void writePredicates(final NodeIdentifierWithPredicates identifier) throws IOException {
+            writeQName(identifier.getNodeType());
+            final Map<QName, Object> keyValues = identifier.getKeyValues();
+            writeVarInt(out, keyValues.size());
+            for (final Entry<QName, Object> keyValue : keyValues.entrySet()) {
+                writeQName(keyValue.getKey());
+                writeValue(keyValue.getValue());
+            }
+        }
+
+        private void writeAugmentationIdentifier(final AugmentationIdentifier identifier) throws IOException {
+            final Set<QName> childNames = identifier.getPossibleChildNames();
+            writeVarInt(out, childNames.size());
+            for (final QName childName : childNames) {
+                writeQName(childName);
+            }
+        }
+
+        private void writeQName(final QName qname) throws IOException {
+            // 0 introduces new entry of dictionary, otherwise index + 1 of known one
+            final Integer index = qnames.get(qname);
+            if (index != null) {
+                writeVarInt(out, index + 1);
+                return;
+            }
+            writeVarInt(out, 0);
+            writeModule(qname.getModule());
+            writeString(qname.getLocalName());
+            qnames.put(qname, qnames.size());
+        }
+
+        private void writeModule(final QNameModule module) throws IOException {
+            final Integer index = modules.get(module);
+            if (index != null) {
+                writeVarInt(out, index + 1);
+                return;
+            }
+            writeVarInt(out, 0);
+            writeString(module.getNamespace().toString());
+            final String revision = module.getFormattedRevision();
+            writeString(revision == null ? NO_REVISION : revision);
+            modules.put(module, modules.size());
+        }
+
+        private void writeString(final String value) throws IOException {
+            final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+
+        private void writeValue(final Object value) throws IOException {
+            if (value == null) {
+                out.writeByte(NULL_VALUE);
+            } else if (value instanceof String) {
+                out.writeByte(STRING);
+                writeString((String) value);
+            } else if (value instanceof Boolean) {
+                out.writeByte((Boolean) value ? TRUE : FALSE);
+            } else if (value instanceof Byte) {
+                out.writeByte(BYTE);
+                out.writeByte((Byte) value);
+            } else if (value instanceof Short) {
+                out.writeByte(SHORT);
+                writeSignedVarLong(out, (Short) value);
+            } else if (value instanceof Integer) {
+                out.writeByte(INT);
+                writeSignedVarLong(out, (Integer) value);
+            } else if (value instanceof Long) {
+                out.writeByte(LONG);
+                writeSignedVarLong(out, (Long) value);
+            } else if (value instanceof BigInteger) {
+                out.writeByte(BIG_INTEGER);
+                writeBytes(((BigInteger) value).toByteArray());
+            } else if (value instanceof BigDecimal) {
+                out.writeByte(BIG_DECIMAL);
+                writeString(value.toString());
+            } else if (value instanceof QName) {
+                out.writeByte(QNAME);
+                writeQName((QName) value);
+            } else if (value instanceof YangInstanceIdentifier) {
+                out.writeByte(INSTANCE_IDENTIFIER);
+                writePath((YangInstanceIdentifier) value);
+            } else if (value instanceof byte[]) {
+                out.writeByte(BINARY);
+                writeBytes((byte[]) value);
+            } else if (value instanceof Set) {
+                out.writeByte(BITS);
+                final Set<?> bits = (Set<?>) value;
+                writeVarInt(out, bits.size());
+                for (final Object bit : bits) {
+                    writeString((String) bit);
+                }
+            } else {
+                throw new IOException("Unsupported value " + value);
+            }
+        }
+
+        private void writeBytes(final byte[] bytes) throws IOException {
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+
+        private static boolean isSupportedPathArgument(final PathArgument argument) {
+            if (argument instanceof NodeIdentifierWithPredicates) {
+                for (final Object value : ((NodeIdentifierWithPredicates) argument).getKeyValues().values()) {
+                    if (!isSupportedValue(value)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            if (argument instanceof NodeWithValue) {
+                return isSupportedValue(((NodeWithValue<?>) argument).getValue());
+            }
+            return true;
+        }
+
+        private static boolean isSupportedValue(final Object value) {
+            if (value == null || value instanceof String || value instanceof Boolean || value instanceof Byte
+                    || value instanceof Short || value instanceof Integer || value instanceof Long
+                    || value instanceof BigInteger || value instanceof BigDecimal || value instanceof QName
+                    || value instanceof byte[]) {
+                return true;
+            }
+            if (value instanceof YangInstanceIdentifier) {
+                for (final PathArgument argument : ((YangInstanceIdentifier) value).getPathArguments()) {
+                    if (!isSupportedPathArgument(argument)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            if (value instanceof Set) {
+                for (final Object bit : (Set<?>) value) {
+                    if (!(bit instanceof String)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private static final class Reader {
+        private final DataInputStream in;
+        private final List<QName> qnames = new ArrayList<>();
+        private final List<QNameModule> modules = new ArrayList<>();
+
+        Reader(final DataInputStream in) {
+            this.in = in;
+        }
+
+        @Nullable
+        NormalizedNode<?, ?> readNode() throws IOException {
+            final byte type = in.readByte();
+            switch (type) {
+                case NULL_NODE:
+                    return null;
+                case LEAF:
+                    final QName leafName = readQName();
+                    return Builders.leafBuilder().withNodeIdentifier(new NodeIdentifier(leafName))
+                            .withValue(readValue()).build();
+                case CONTAINER:
+                    return readChildren(Builders.containerBuilder().withNodeIdentifier(readNodeIdentifier()))
+                            .build();
+                case MAP_ENTRY:
+                    return readChildren(Builders.mapEntryBuilder().withNodeIdentifier(readPredicates())).build();
+                case ORDERED_MAP:
+                    return readEntries(Builders.orderedMapBuilder().withNodeIdentifier(readNodeIdentifier()))
+                            .build();
+                case MAP:
+                    return readEntries(Builders.mapBuilder().withNodeIdentifier(readNodeIdentifier())).build();
+                case LEAF_SET_ENTRY:
+                    final QName entryName = readQName();
+                    final Object value = readValue();
+                    return Builders.leafSetEntryBuilder().withNodeIdentifier(new NodeWithValue<>(entryName, value))
+                            .withValue(value).build();
+                case ORDERED_LEAF_SET:
+                    final ListNodeBuilder<Object, LeafSetEntryNode<Object>> orderedLeafSet =
+                            Builders.orderedLeafSetBuilder();
+                    return readLeafSetEntries(orderedLeafSet.withNodeIdentifier(readNodeIdentifier())).build();
+                case LEAF_SET:
+                    final ListNodeBuilder<Object, LeafSetEntryNode<Object>> leafSet = Builders.leafSetBuilder();
+                    return readLeafSetEntries(leafSet.withNodeIdentifier(readNodeIdentifier())).build();
+                case CHOICE:
+                    return readChildren(Builders.choiceBuilder().withNodeIdentifier(readNodeIdentifier())).build();
+                case AUGMENTATION:
+                    return readChildren(Builders.augmentationBuilder()
+                            .withNodeIdentifier(readAugmentationIdentifier())).build();
+                case UNKEYED_LIST:
+                    final CollectionNodeBuilder<UnkeyedListEntryNode, UnkeyedListNode> unkeyedList =
+                            Builders.unkeyedListBuilder().withNodeIdentifier(readNodeIdentifier());
+                    final int size = readVarInt(in);
+                    for (int i = 0; i < size; i++) {
+                        unkeyedList.withChild((UnkeyedListEntryNode) readNode());
+                    }
+                    return unkeyedList.build();
+                case UNKEYED_LIST_ENTRY:
+                    return readChildren(Builders.unkeyedListEntryBuilder().withNodeIdentifier(readNodeIdentifier()))
+                            .build();
+                case GENERIC_NODE:
+                    return SerializationUtils.deserializeNormalizedNode(in);
+                default:
+                    throw new IOException("Unknown node type " + type);
+            }
+        }
+
+        private <B extends DataContainerNodeBuilder<?, ?>> B readChildren(final B builder) throws IOException {
+            final int size = readVarInt(in);
+            for (int i = 0; i < size; i++) {
+                builder.withChild((DataContainerChild<?, ?>) readNode());
+            }
+            return builder;
+        }
+
+        private <R extends MapNode> CollectionNodeBuilder<MapEntryNode, R> readEntries(
+                final CollectionNodeBuilder<MapEntryNode, R> builder) throws IOException {
+            final int size = readVarInt(in);
+            for (int i = 0; i < size; i++) {
+                builder.withChild((MapEntryNode) readNode());
+            }
+            return builder;
+        }
+
+        @SuppressWarnings("unchecked")
+        private ListNodeBuilder<Object, LeafSetEntryNode<Object>> readLeafSetEntries(
+                final ListNodeBuilder<Object, LeafSetEntryNode<Object>> builder) throws IOException {
+            final int size = readVarInt(in);
+            for (int i = 0; i < size; i++) {
+                builder.withChild((LeafSetEntryNode<Object>) readNode());
+            }
+            return builder;
+        }
+
+        YangInstanceIdentifier readPath() throws IOException {
+            final int size = readVarInt(in);
+            final List<PathArgument> arguments = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                arguments.add(readPathArgument());
+            }
+            return YangInstanceIdentifier.create(arguments);
+        }
+
+        private PathArgument readPathArgument() throws IOException {
+            final byte type = in.readByte();
+            switch (type) {
+                case NODE_IDENTIFIER:
+                    return readNodeIdentifier();
+                case NODE_IDENTIFIER_WITH_PREDICATES:
+                    return readPredicates();
+                case NODE_WITH_VALUE:
+                    final QName qname = readQName();
+                    return new NodeWithValue<>(qname, readValue());
+                case AUGMENTATION_IDENTIFIER:
+                    return readAugmentationIdentifier();
+                default:
+                    throw new IOException("Unknown path argument type " + type);
+            }
+        }
+
+        private NodeIdentifier readNodeIdentifier() throws IOException {
+            return new NodeIdentifier(readQName());
+        }
+
+        private NodeIdentifierWithPredicates readPredicates() throws IOException {
+            final QName qname = readQName();
+            final int size = readVarInt(in);
+            final Map<QName, Object> keyValues = new LinkedHashMap<>(size);
+            for (int i = 0; i < size; i++) {
+                final QName key = readQName();
+                keyValues.put(key, readValue());
+            }
+            return new NodeIdentifierWithPredicates(qname, keyValues);
+        }
+
+        private AugmentationIdentifier readAugmentationIdentifier() throws IOException {
+            final int size = readVarInt(in);
+            final Set<QName> childNames = new HashSet<>(size);
+            for (int i = 0; i < size; i++) {
+                childNames.add(readQName());
+            }
+            return new AugmentationIdentifier(childNames);
+        }
+
+        private QName readQName() throws IOException {
+            final int index = readVarInt(in);
+            if (index > 0) {
+                return lookup(qnames, index);
+            }
+            final QNameModule module = readModule();
+            final QName qname = QName.create(module, readString());
+            qnames.add(qname);
+            return qname;
+        }
+
+        private QNameModule readModule() throws IOException {
+            final int index = readVarInt(in);
+            if (index > 0) {
+                return lookup(modules, index);
+            }
+            final URI namespace = URI.create(readString());
+            final String revision = readString();
+            final QNameModule module = QNameModule.create(namespace,
+                    NO_REVISION.equals(revision) ? null : QName.parseRevision(revision));
+            modules.add(module);
+            return module;
+        }
+
+        private static <T> T lookup(final List<T> dictionary, final int index) throws IOException {
+            if (index > dictionary.size()) {
+                throw new IOException("Unknown dictionary entry " + index);
+            }
+            return dictionary.get(index - 1);
+        }
+
+        private String readString() throws IOException {
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+
+        private byte[] readBytes() throws IOException {
+            final byte[] bytes = new byte[readVarInt(in)];
+            in.readFully(bytes);
+            return bytes;
+        }
+
+        private Object readValue() throws IOException {
+            final byte type = in.readByte();
+            switch (type) {
+                case NULL_VALUE:
+                    return null;
+                case STRING:
+                    return readString();
+                case TRUE:
+                    return Boolean.TRUE;
+                case FALSE:
+                    return Boolean.FALSE;
+                case BYTE:
+                    return in.readByte();
+                case SHORT:
+                    return (short) readSignedVarLong(in);
+                case INT:
+                    return (int) readSignedVarLong(in);
+                case LONG:
+                    return readSignedVarLong(in);
+                case BIG_INTEGER:
+                    return new BigInteger(readBytes());
+                case BIG_DECIMAL:
+                    return new BigDecimal(readString());
+                case QNAME:
+                    return readQName();
+                case INSTANCE_IDENTIFIER:
+                    return readPath();
+                case BINARY:
+                    return readBytes();
+                case BITS:
+                    final int size = readVarInt(in);
+                    final ImmutableSet.Builder<String> bits = ImmutableSet.builder();
+                    for (int i = 0; i < size; i++) {
+                        bits.add(readString());
+                    }
+                    return bits.build();
+                default:
+                    throw new IOException("Unknown value type " + type);
+            }
+        }
+    }
+}
@@ -17,10 +17,11 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 
 /**
- * Message which holds node data, prepared to sending between remote hosts with serialization.
+ * Message which holds node data, prepared to sending between remote hosts with serialization. Data are written
+ * in the form of {@link CompactNormalizedNodeSerializer}.
  */
 public class NormalizedNodeMessage implements Externalizable {
-    private static final long serialVersionUID = 1L;
+    private static final long serialVersionUID = 2L;
 
     private YangInstanceIdentifier identifier = null;
     private NormalizedNode<?, ?> node = null;
@@ -44,12 +45,12 @@ public class NormalizedNodeMessage implements Externalizable {
 
     @Override
     public void writeExternal(final ObjectOutput out) throws IOException {
-        SerializationUtils.serializePathAndNode(getIdentifier(), node, out);
+        CompactNormalizedNodeSerializer.serializePathAndNode(out, getIdentifier(), node);
     }
 
     @Override
     public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
-        SerializationUtils.deserializePathAndNode(in, this, APPLIER);
+        CompactNormalizedNodeSerializer.deserializePathAndNode(in, this, APPLIER);
     }
 
     private static final SerializationUtils.Applier<NormalizedNodeMessage> APPLIER = (instance, path, node) -> {
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.netconf.topology.singleton.messages.transactions;
+
+import java.io.Externalizable;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectOutput;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
+
+/**
+ * Write transaction accumulated by slave, sent to master at submit as a single message. Master applies
+ * modifications in the order they were made and submits them. Modifications are written as one stream, without
+ * overhead of java serialization of each request, deleted paths are written as messages without node.
+ */
+public class SubmitBatchRequest implements TransactionRequest, Externalizable {
+    private static final long serialVersionUID = 1L;
+
+    private static final byte PUT = 0;
+    private static final byte MERGE = 1;
+    private static final byte DELETE = 2;
+
+    private static final LogicalDatastoreType[] STORES = LogicalDatastoreType.values();
+
+    private List<TransactionRequest> modifications = Collections.emptyList();
+
+    public SubmitBatchRequest() {
+        // empty constructor needed for Externalizable
+    }
+
+    /**
+     * @param modifications put, merge and delete requests in the order they were made
+     */
+    public SubmitBatchRequest(final List<TransactionRequest> modifications) {
+        this.modifications = modifications;
+    }
+
+    public List<TransactionRequest> getModifications() {
+        return modifications;
+    }
+
+    @Override
+    public void writeExternal(final ObjectOutput out) throws IOException {
+        out.writeInt(modifications.size());
+        for (final TransactionRequest modification : modifications) {
+            if (modification instanceof PutRequest) {
+                final PutRequest putRequest = (PutRequest) modification;
+                writeData(out, PUT, putRequest.getStore(), putRequest.getNormalizedNodeMessage());
+            } else if (modification instanceof MergeRequest) {
+                final MergeRequest mergeRequest = (MergeRequest) modification;
+                writeData(out, MERGE, mergeRequest.getStore(), mergeRequest.getNormalizedNodeMessage());
+            } else if (modification instanceof DeleteRequest) {
+                final DeleteRequest deleteRequest = (DeleteRequest) modification;
+                writeData(out, DELETE, deleteRequest.getStore(),
+                        new NormalizedNodeMessage(deleteRequest.getPath(), null));
+            } else {
+                throw new IOException("Unsupported modification " + modification);
+            }
+        }
+    }
+
+    private static void writeData(final ObjectOutput out, final byte type, final LogicalDatastoreType store,
+                                  final NormalizedNodeMessage data) throws IOException {
+        out.writeByte(type);
+        out.writeByte(store.ordinal());
+        data.writeExternal(out);
+    }
+
+    @Override
+    public void readExternal(final ObjectInput in) throws IOException, ClassNotFoundException {
+        final int size = in.readInt();
+        final List<TransactionRequest> read = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            final byte type = in.readByte();
+            final LogicalDatastoreType store = STORES[in.readByte()];
+            switch (type) {
+                case PUT:
+                    read.add(new PutRequest(store, readData(in)));
+                    break;
+                case MERGE:
+                    read.add(new MergeRequest(store, readData(in)));
+                    break;
+                case DELETE:
+                    read.add(new DeleteRequest(store, readData(in).getIdentifier()));
+                    break;
+                default:
+                    throw new IOException("Unknown modification type " + type);
+            }
+        }
+        this.modifications = read;
+    }
+
+    private static NormalizedNodeMessage readData(final ObjectInput in) throws IOException, ClassNotFoundException {
+        final NormalizedNodeMessage data = new NormalizedNodeMessage();
+        data.readExternal(in);
+        return data;
+    }
+}
@@ -13,7 +13,8 @@ import java.io.Serializable;
 /**
  * API for transaction request messages, slave sends these message types to master for performing required operation.
  * This interface helps better handle request messages in actor. All messages are send with operations defined in
- * NetconfProxyDOMTransaction. Messages requiring response are send by ask otherwise with tell.
+ * NetconfProxyDOMTransaction. Modifications are collected by slave and send together with submit in
+ * SubmitBatchRequest.
  */
 public interface TransactionRequest extends Serializable {
 }
@@ -13,7 +13,10 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.MockitoAnnotations.initMocks;
 import static org.opendaylight.netconf.topology.singleton.impl.utils.NetconfTopologyUtils.DEFAULT_SCHEMA_REPOSITORY;
 
@@ -43,9 +46,13 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.opendaylight.controller.cluster.schema.provider.impl.YangTextSchemaSourceSerializationProxy;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataBroker;
+import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcException;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
@@ -57,8 +64,15 @@ import org.opendaylight.netconf.topology.singleton.impl.utils.NetconfTopologySet
 import org.opendaylight.netconf.topology.singleton.messages.AskForMasterMountPoint;
 import org.opendaylight.netconf.topology.singleton.messages.CreateInitialMasterActorData;
 import org.opendaylight.netconf.topology.singleton.messages.MasterActorDataInitialized;
+import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
 import org.opendaylight.netconf.topology.singleton.messages.RefreshSetupMasterActorData;
 import org.opendaylight.netconf.topology.singleton.messages.RegisterMountPoint;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.DeleteRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.MergeRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.PutRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitBatchRequest;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.SubmitReply;
+import org.opendaylight.netconf.topology.singleton.messages.transactions.TransactionRequest;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.RpcError;
 import org.opendaylight.yangtools.yang.common.RpcResultBuilder;
@@ -235,6 +249,52 @@ public class NetconfNodeActorTest {
 
     }
 
+    @Test
+    public void testSubmitBatchRequest() throws Exception {
+
+        final DOMDataBroker domDataBroker = mock(DOMDataBroker.class);
+        final DOMDataWriteTransaction writeTx = mock(DOMDataWriteTransaction.class);
+        doReturn(writeTx).when(domDataBroker).newWriteOnlyTransaction();
+
+        final Future<Object> initialDataToActor =
+                Patterns.ask(masterRef, new CreateInitialMasterActorData(domDataBroker, Lists.newArrayList(),
+                        domRpcService), TIMEOUT);
+        assertTrue(Await.result(initialDataToActor, TIMEOUT.duration()) instanceof MasterActorDataInitialized);
+
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(QName.create("TestQname"));
+        final NormalizedNode<?, ?> node = ImmutableContainerNodeBuilder.create()
+                .withNodeIdentifier(new YangInstanceIdentifier.NodeIdentifier(QName.create("TestQname")))
+                .withChild(ImmutableNodes.leafNode(QName.create("NodeQname"), "foo")).build();
+        final List<TransactionRequest> modifications = Lists.newArrayList(
+                new PutRequest(LogicalDatastoreType.CONFIGURATION, new NormalizedNodeMessage(path, node)),
+                new MergeRequest(LogicalDatastoreType.OPERATIONAL, new NormalizedNodeMessage(path, node)),
+                new DeleteRequest(LogicalDatastoreType.CONFIGURATION, path));
+
+        // Successful submit, modifications are applied in order before submit
+
+        doReturn(Futures.immediateCheckedFuture(null)).when(writeTx).submit();
+
+        final Object success = Await.result(Patterns.ask(masterRef, new SubmitBatchRequest(modifications), TIMEOUT),
+                TIMEOUT.duration());
+        assertTrue(success instanceof SubmitReply);
+
+        final InOrder inOrder = inOrder(writeTx);
+        inOrder.verify(writeTx).put(LogicalDatastoreType.CONFIGURATION, path, node);
+        inOrder.verify(writeTx).merge(LogicalDatastoreType.OPERATIONAL, path, node);
+        inOrder.verify(writeTx).delete(LogicalDatastoreType.CONFIGURATION, path);
+        inOrder.verify(writeTx).submit();
+
+        // Failed submit, failure is sent back to slave
+
+        final TransactionCommitFailedException failure = new TransactionCommitFailedException("Fail", null);
+        doReturn(Futures.immediateFailedCheckedFuture(failure)).when(writeTx).submit();
+
+        final Object failed = Await.result(Patterns.ask(masterRef, new SubmitBatchRequest(modifications), TIMEOUT),
+                TIMEOUT.duration());
+        assertEquals(failure, failed);
+        verify(domDataBroker, times(2)).newWriteOnlyTransaction();
+    }
+
     @Test
     public void testProxyDOMRpcService() throws Exception {
 
@@ -254,7 +314,7 @@ public class NetconfNodeActorTest {
 
         // test if slave get right identifiers from master
 
-        final ProxyDOMRpcService slaveDomRPCService = new ProxyDOMRpcService(system, masterRef, remoteDeviceId);
+        final ProxyDOMRpcService slaveDomRPCService = new ProxyDOMRpcService(system, masterRef, remoteDeviceId, TIMEOUT);
 
         final SchemaPath schemaPath = SchemaPath.create(true, QName.create("TestQname"));
         final NormalizedNode<?, ?> outputNode = ImmutableContainerNodeBuilder.create()
@@ -14,7 +14,9 @@ import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.MockitoAnnotations.initMocks;
@@ -40,6 +42,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
@@ -119,9 +122,10 @@ public class WriteOnlyTransactionTest {
         // Create slave data broker for testing proxy
 
         final NetconfDOMTransaction proxyDOMTransactions =
-                new NetconfProxyDOMTransaction(remoteDeviceId, system, masterRef);
+                new NetconfProxyDOMTransaction(remoteDeviceId, system, masterRef, TIMEOUT);
 
-        slaveDataBroker = new NetconfDOMDataBroker(system, remoteDeviceId, proxyDOMTransactions);
+        slaveDataBroker = new NetconfDOMDataBroker(system, remoteDeviceId, proxyDOMTransactions,
+            () -> new NetconfProxyDOMTransaction(remoteDeviceId, system, masterRef, TIMEOUT));
 
 
     }
@@ -145,26 +149,29 @@ public class WriteOnlyTransactionTest {
                 .withNodeIdentifier(new YangInstanceIdentifier.NodeIdentifier(QName.create("TestQname")))
                 .withChild(ImmutableNodes.leafNode(QName.create("NodeQname"), "foo")).build();
 
-        // Test of invoking put on master through slave proxy
+        // Modifications are kept by slave until submit
 
-        doNothing().when(writeTx).put(storeType, instanceIdentifier, testNode);
-        slaveDataBroker.newWriteOnlyTransaction().put(storeType, instanceIdentifier, testNode);
+        final DOMDataWriteTransaction slaveWriteTx = slaveDataBroker.newWriteOnlyTransaction();
+        slaveWriteTx.put(storeType, instanceIdentifier, testNode);
+        slaveWriteTx.merge(storeType, instanceIdentifier, testNode);
+        slaveWriteTx.delete(storeType, instanceIdentifier);
 
-        verify(writeTx, times(1)).put(storeType, instanceIdentifier, testNode);
+        verify(writeTx, never()).put(storeType, instanceIdentifier, testNode);
+        verify(writeTx, never()).merge(storeType, instanceIdentifier, testNode);
+        verify(writeTx, never()).delete(storeType, instanceIdentifier);
 
-        // Test of invoking merge on master through slave proxy
+        // Test of invoking put, merge and delete on master through slave proxy in one batch
 
-        doNothing().when(writeTx).merge(storeType, instanceIdentifier, testNode);
-        slaveDataBroker.newWriteOnlyTransaction().merge(storeType, instanceIdentifier, testNode);
-
-        verify(writeTx, times(1)).merge(storeType, instanceIdentifier, testNode);
-
-        // Test of invoking delete on master through slave proxy
+        final CheckedFuture<Void,TransactionCommitFailedException> resultSubmit = Futures.immediateCheckedFuture(null);
+        doReturn(resultSubmit).when(writeTx).submit();
 
-        doNothing().when(writeTx).delete(storeType, instanceIdentifier);
-        slaveDataBroker.newWriteOnlyTransaction().delete(storeType, instanceIdentifier);
+        slaveWriteTx.submit().checkedGet(TIMEOUT_SEC, TimeUnit.SECONDS);
 
-        verify(writeTx, times(1)).delete(storeType, instanceIdentifier);
+        final InOrder inOrder = inOrder(writeTx);
+        inOrder.verify(writeTx).put(storeType, instanceIdentifier, testNode);
+        inOrder.verify(writeTx).merge(storeType, instanceIdentifier, testNode);
+        inOrder.verify(writeTx).delete(storeType, instanceIdentifier);
+        inOrder.verify(writeTx).submit();
 
     }
 
@@ -190,21 +197,21 @@ public class WriteOnlyTransactionTest {
         // With Tx
 
         doNothing().when(writeTx).delete(any(), any());
-        slaveDataBroker.newWriteOnlyTransaction().delete(LogicalDatastoreType.CONFIGURATION,
-                YangInstanceIdentifier.EMPTY);
+        final DOMDataWriteTransaction slaveWriteTx = slaveDataBroker.newWriteOnlyTransaction();
+        slaveWriteTx.delete(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.EMPTY);
 
         final CheckedFuture<Void,TransactionCommitFailedException> resultSubmitTx = Futures.immediateCheckedFuture(null);
         doReturn(resultSubmitTx).when(writeTx).submit();
 
-        final CheckedFuture<Void, TransactionCommitFailedException> resultSubmitTxResponse =
-                slaveDataBroker.newWriteOnlyTransaction().submit();
+        final CheckedFuture<Void, TransactionCommitFailedException> resultSubmitTxResponse = slaveWriteTx.submit();
 
         final Object resultTx = resultSubmitTxResponse.checkedGet(TIMEOUT_SEC, TimeUnit.SECONDS);
 
         assertNull(resultTx);
+        verify(writeTx).delete(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.EMPTY);
 
-        slaveDataBroker.newWriteOnlyTransaction().delete(LogicalDatastoreType.CONFIGURATION,
-                YangInstanceIdentifier.EMPTY);
+        final DOMDataWriteTransaction failingSlaveWriteTx = slaveDataBroker.newWriteOnlyTransaction();
+        failingSlaveWriteTx.delete(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.EMPTY);
 
         final TransactionCommitFailedException throwable = new TransactionCommitFailedException("Fail", null);
         final CheckedFuture<Void,TransactionCommitFailedException> resultThrowable =
@@ -213,40 +220,73 @@ public class WriteOnlyTransactionTest {
         doReturn(resultThrowable).when(writeTx).submit();
 
         final CheckedFuture<Void, TransactionCommitFailedException> resultThrowableResponse =
-                slaveDataBroker.newWriteOnlyTransaction().submit();
+                failingSlaveWriteTx.submit();
 
         exception.expect(TransactionCommitFailedException.class);
         resultThrowableResponse.checkedGet(TIMEOUT_SEC, TimeUnit.SECONDS);
     }
 
     @Test
-    public void testCancel() throws Exception {
+    public void testConcurrentTransactionsAreIndependent() throws Exception {
 
         /* Initialize data on master */
 
         initializeDataTest();
 
-        // Without Tx
+        final YangInstanceIdentifier firstPath = YangInstanceIdentifier.of(QName.create("first"));
+        final YangInstanceIdentifier secondPath = YangInstanceIdentifier.of(QName.create("second"));
+
+        final CheckedFuture<Void,TransactionCommitFailedException> resultSubmit = Futures.immediateCheckedFuture(null);
+        doReturn(resultSubmit).when(writeTx).submit();
 
-        final Boolean resultFalseNoTx = slaveDataBroker.newWriteOnlyTransaction().cancel();
-        assertEquals(false, resultFalseNoTx);
+        final DOMDataWriteTransaction firstTx = slaveDataBroker.newWriteOnlyTransaction();
+        final DOMDataWriteTransaction secondTx = slaveDataBroker.newWriteOnlyTransaction();
+        firstTx.delete(LogicalDatastoreType.CONFIGURATION, firstPath);
+        secondTx.delete(LogicalDatastoreType.CONFIGURATION, secondPath);
 
-        // With Tx, readWriteTx test
+        // cancel of one transaction does not drop modifications of the other one
 
-        doNothing().when(writeTx).delete(any(), any());
-        slaveDataBroker.newReadWriteTransaction().delete(LogicalDatastoreType.CONFIGURATION,
-                YangInstanceIdentifier.EMPTY);
+        assertTrue(firstTx.cancel());
+        secondTx.submit().checkedGet(TIMEOUT_SEC, TimeUnit.SECONDS);
+
+        verify(writeTx, never()).delete(LogicalDatastoreType.CONFIGURATION, firstPath);
+        verify(writeTx).delete(LogicalDatastoreType.CONFIGURATION, secondPath);
+        verify(writeTx).submit();
+    }
+
+    @Test
+    public void testCancel() throws Exception {
 
-        doReturn(true).when(writeTx).cancel();
+        /* Initialize data on master */
+
+        initializeDataTest();
 
-        final Boolean resultTrue = slaveDataBroker.newWriteOnlyTransaction().cancel();
-        assertEquals(true, resultTrue);
+        // Without modifications, not submitted yet
 
-        doReturn(false).when(writeTx).cancel();
+        final DOMDataWriteTransaction emptyTx = slaveDataBroker.newWriteOnlyTransaction();
+        assertEquals(true, emptyTx.cancel());
+        assertEquals(false, emptyTx.cancel());
+
+        // With modifications, readWriteTx test
+
+        final DOMDataWriteTransaction readWriteTx = slaveDataBroker.newReadWriteTransaction();
+        readWriteTx.delete(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.EMPTY);
+        assertEquals(true, readWriteTx.cancel());
+        assertEquals(false, readWriteTx.cancel());
+
+        // Submitted transaction can not be cancelled
+
+        final CheckedFuture<Void,TransactionCommitFailedException> resultSubmit = Futures.immediateCheckedFuture(null);
+        doReturn(resultSubmit).when(writeTx).submit();
 
-        final Boolean resultFalse = slaveDataBroker.newWriteOnlyTransaction().cancel();
-        assertEquals(false, resultFalse);
+        final DOMDataWriteTransaction submittedTx = slaveDataBroker.newWriteOnlyTransaction();
+        submittedTx.delete(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.EMPTY);
+        submittedTx.submit().checkedGet(TIMEOUT_SEC, TimeUnit.SECONDS);
+        assertEquals(false, submittedTx.cancel());
 
+        // nothing from cancelled transactions was sent to master
+        verify(writeTx, times(1)).delete(LogicalDatastoreType.CONFIGURATION, YangInstanceIdentifier.EMPTY);
+        verify(writeTx, never()).cancel();
     }
 
     private void initializeDataTest() throws Exception {
@@ -56,4 +56,12 @@ public class NetconfTopologyUtilTest {
                 firstKeyOf(Topology.class).getTopologyId().getValue());
     }
 
+    @Test
+    public void testGetActorResponseWaitTime() {
+        assertEquals(NetconfTopologyUtils.TIMEOUT, NetconfTopologyUtils.getActorResponseWaitTime(null));
+
+        final NetconfNode netconfNode = new NetconfNodeBuilder().setActorResponseWaitTime(30).build();
+        assertEquals(30, NetconfTopologyUtils.getActorResponseWaitTime(netconfNode).duration().toSeconds());
+    }
+
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.netconf.topology.singleton.messages;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+import org.opendaylight.controller.cluster.datastore.node.utils.stream.SerializationUtils;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.MapNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNodeBuilder;
+import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.ListNodeBuilder;
+
+public class CompactNormalizedNodeSerializerTest {
+
+    private static final String NAMESPACE = "urn:opendaylight:netconf:topology:singleton:test";
+    private static final String REVISION = "2017-01-01";
+
+    private static final QName INTERFACES = QName.create(NAMESPACE, REVISION, "interfaces");
+    private static final QName INTERFACE = QName.create(NAMESPACE, REVISION, "interface");
+    private static final QName NAME = QName.create(NAMESPACE, REVISION, "name");
+    private static final QName ENABLED = QName.create(NAMESPACE, REVISION, "enabled");
+    private static final QName MTU = QName.create(NAMESPACE, REVISION, "mtu");
+    private static final QName SPEED = QName.create(NAMESPACE, REVISION, "speed");
+    private static final QName TYPE = QName.create(NAMESPACE, REVISION, "type");
+    private static final QName TAG = QName.create(NAMESPACE, REVISION, "tag");
+    private static final QName ETHERNET = QName.create(NAMESPACE, REVISION, "ethernet");
+
+    @Test
+    public void testRoundTripOfLargeConfig() throws Exception {
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(INTERFACES);
+        final ContainerNode config = createConfig(5000);
+
+        final ByteArrayOutputStream generic = new ByteArrayOutputStream();
+        SerializationUtils.serializePathAndNode(path, config, new DataOutputStream(generic));
+
+        final ByteArrayOutputStream compact = new ByteArrayOutputStream();
+        CompactNormalizedNodeSerializer.serializePathAndNode(new DataOutputStream(compact), path, config);
+
+        assertTrue("Compact form of " + compact.size() + " bytes is not smaller than generic form of "
+                + generic.size() + " bytes", compact.size() < generic.size());
+
+        final NormalizedNodeMessage message = new NormalizedNodeMessage();
+        CompactNormalizedNodeSerializer.deserializePathAndNode(
+                new DataInputStream(new ByteArrayInputStream(compact.toByteArray())), message,
+                (instance, readPath, readNode) -> {
+                    assertEquals(path, readPath);
+                    assertEquals(config, readNode);
+                });
+    }
+
+    @Test
+    public void testRoundTripOfMessage() throws Exception {
+        final YangInstanceIdentifier path = YangInstanceIdentifier.builder().node(INTERFACES).node(INTERFACE)
+                .nodeWithKey(INTERFACE, NAME, "eth0").build();
+        final NormalizedNodeMessage read = roundTrip(new NormalizedNodeMessage(path, createEntry(0)));
+
+        assertEquals(path, read.getIdentifier());
+        assertEquals(createEntry(0), read.getNode());
+    }
+
+    @Test
+    public void testRoundTripOfMessageWithoutNode() throws Exception {
+        final NormalizedNodeMessage read =
+                roundTrip(new NormalizedNodeMessage(YangInstanceIdentifier.EMPTY, null));
+
+        assertEquals(YangInstanceIdentifier.EMPTY, read.getIdentifier());
+        assertNull(read.getNode());
+    }
+
+    @Test
+    public void testRevisionIsWrittenAsText() throws Exception {
+        // Revision dates depend on the default timezone, members have to exchange the revision string
+        final QName noRevision = QName.create(NAMESPACE, "no-revision");
+        final YangInstanceIdentifier path = YangInstanceIdentifier.builder().node(INTERFACES).node(noRevision).build();
+
+        final ByteArrayOutputStream compact = new ByteArrayOutputStream();
+        CompactNormalizedNodeSerializer.serializePathAndNode(new DataOutputStream(compact), path, null);
+        assertTrue(new String(compact.toByteArray(), StandardCharsets.UTF_8).contains(REVISION));
+
+        final NormalizedNodeMessage message = new NormalizedNodeMessage();
+        CompactNormalizedNodeSerializer.deserializePathAndNode(
+                new DataInputStream(new ByteArrayInputStream(compact.toByteArray())), message,
+                (instance, readPath, readNode) -> {
+                    assertEquals(path, readPath);
+                    assertNull(readNode);
+                });
+    }
+
+    private static NormalizedNodeMessage roundTrip(final NormalizedNodeMessage message) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(message);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (NormalizedNodeMessage) in.readObject();
+        }
+    }
+
+    private static ContainerNode createConfig(final int size) {
+        final CollectionNodeBuilder<MapEntryNode, MapNode> interfaces =
+                Builders.mapBuilder().withNodeIdentifier(new NodeIdentifier(INTERFACE));
+        for (int i = 0; i < size; i++) {
+            interfaces.withChild(createEntry(i));
+        }
+        return Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(INTERFACES))
+                .withChild(interfaces.build()).build();
+    }
+
+    private static MapEntryNode createEntry(final int index) {
+        final String name = "eth" + index;
+        final ListNodeBuilder<Object, LeafSetEntryNode<Object>> tags = Builders.leafSetBuilder();
+        tags.withNodeIdentifier(new NodeIdentifier(TAG));
+        for (final String tag : new String[] {"access", "vlan-" + index % 100}) {
+            tags.withChild(Builders.leafSetEntryBuilder().withNodeIdentifier(new NodeWithValue<>(TAG, tag))
+                    .withValue(tag).build());
+        }
+
+        return Builders.mapEntryBuilder()
+                .withNodeIdentifier(new NodeIdentifierWithPredicates(INTERFACE, NAME, name))
+                .withChild(ImmutableNodes.leafNode(NAME, name))
+                .withChild(ImmutableNodes.leafNode(ENABLED, index % 2 == 0))
+                .withChild(ImmutableNodes.leafNode(MTU, 1500 + index % 8))
+                .withChild(ImmutableNodes.leafNode(SPEED, new BigDecimal("10.5")))
+                .withChild(ImmutableNodes.leafNode(TYPE, ETHERNET))
+                .withChild(tags.build())
+                .build();
+    }
+}
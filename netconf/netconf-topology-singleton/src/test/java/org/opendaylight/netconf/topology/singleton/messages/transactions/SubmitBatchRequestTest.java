@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.netconf.topology.singleton.messages.transactions;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.netconf.topology.singleton.messages.NormalizedNodeMessage;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class SubmitBatchRequestTest {
+
+    private static final String NAMESPACE = "urn:opendaylight:netconf:topology:singleton:test";
+    private static final String REVISION = "2017-01-01";
+
+    private static final QName TOP = QName.create(NAMESPACE, REVISION, "top");
+    private static final QName NAME = QName.create(NAMESPACE, REVISION, "name");
+    private static final QName COUNT = QName.create(NAMESPACE, REVISION, "count");
+
+    @Test
+    public void testRoundTripOfMixedBatch() throws Exception {
+        final YangInstanceIdentifier topPath = YangInstanceIdentifier.of(TOP);
+        final YangInstanceIdentifier namePath = YangInstanceIdentifier.builder().node(TOP).node(NAME).build();
+        final ContainerNode first = createTop("first", 1);
+        final ContainerNode second = createTop("second", 2);
+
+        final List<TransactionRequest> modifications = Arrays.asList(
+                new PutRequest(LogicalDatastoreType.CONFIGURATION, new NormalizedNodeMessage(topPath, first)),
+                new DeleteRequest(LogicalDatastoreType.OPERATIONAL, namePath),
+                new MergeRequest(LogicalDatastoreType.OPERATIONAL, new NormalizedNodeMessage(topPath, second)),
+                new DeleteRequest(LogicalDatastoreType.CONFIGURATION, topPath),
+                new MergeRequest(LogicalDatastoreType.CONFIGURATION, new NormalizedNodeMessage(topPath, first)),
+                new PutRequest(LogicalDatastoreType.OPERATIONAL, new NormalizedNodeMessage(topPath, second)));
+
+        final List<TransactionRequest> read = roundTrip(new SubmitBatchRequest(modifications)).getModifications();
+
+        assertEquals(6, read.size());
+        assertPut(read.get(0), LogicalDatastoreType.CONFIGURATION, topPath, first);
+        assertDelete(read.get(1), LogicalDatastoreType.OPERATIONAL, namePath);
+        assertMerge(read.get(2), LogicalDatastoreType.OPERATIONAL, topPath, second);
+        assertDelete(read.get(3), LogicalDatastoreType.CONFIGURATION, topPath);
+        assertMerge(read.get(4), LogicalDatastoreType.CONFIGURATION, topPath, first);
+        assertPut(read.get(5), LogicalDatastoreType.OPERATIONAL, topPath, second);
+    }
+
+    @Test
+    public void testRoundTripOfEmptyBatch() throws Exception {
+        final SubmitBatchRequest read = roundTrip(new SubmitBatchRequest(Collections.emptyList()));
+
+        assertTrue(read.getModifications().isEmpty());
+    }
+
+    private static void assertPut(final TransactionRequest request, final LogicalDatastoreType store,
+                                  final YangInstanceIdentifier path, final ContainerNode node) {
+        assertTrue(request instanceof PutRequest);
+        final PutRequest putRequest = (PutRequest) request;
+        assertEquals(store, putRequest.getStore());
+        assertEquals(path, putRequest.getNormalizedNodeMessage().getIdentifier());
+        assertEquals(node, putRequest.getNormalizedNodeMessage().getNode());
+    }
+
+    private static void assertMerge(final TransactionRequest request, final LogicalDatastoreType store,
+                                    final YangInstanceIdentifier path, final ContainerNode node) {
+        assertTrue(request instanceof MergeRequest);
+        final MergeRequest mergeRequest = (MergeRequest) request;
+        assertEquals(store, mergeRequest.getStore());
+        assertEquals(path, mergeRequest.getNormalizedNodeMessage().getIdentifier());
+        assertEquals(node, mergeRequest.getNormalizedNodeMessage().getNode());
+    }
+
+    private static void assertDelete(final TransactionRequest request, final LogicalDatastoreType store,
+                                     final YangInstanceIdentifier path) {
+        assertTrue(request instanceof DeleteRequest);
+        final DeleteRequest deleteRequest = (DeleteRequest) request;
+        assertEquals(store, deleteRequest.getStore());
+        assertEquals(path, deleteRequest.getPath());
+    }
+
+    private static SubmitBatchRequest roundTrip(final SubmitBatchRequest request) throws Exception {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(request);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (SubmitBatchRequest) in.readObject();
+        }
+    }
+
+    private static ContainerNode createTop(final String name, final int count) {
+        return Builders.containerBuilder().withNodeIdentifier(new NodeIdentifier(TOP))
+                .withChild(ImmutableNodes.leafNode(NAME, name))
+                .withChild(ImmutableNodes.leafNode(COUNT, count))
+                .build();
+    }
+}
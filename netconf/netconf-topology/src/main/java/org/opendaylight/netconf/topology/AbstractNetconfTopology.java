@@ -85,6 +85,9 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
     protected static final int DEFAULT_KEEPALIVE_DELAY = 0;
     protected static final boolean DEFAULT_RECONNECT_ON_CHANGED_SCHEMA = false;
     protected static final int DEFAULT_CONCURRENT_RPC_LIMIT = 0;
+    protected static final boolean DEFAULT_OUT_OF_ORDER_REPLIES = false;
+    protected static final int DEFAULT_RPC_QUEUE_SIZE = 0;
+    protected static final long DEFAULT_RPC_QUEUE_TIMEOUT_MILLIS = 60000L;
     private static final int DEFAULT_MAX_CONNECTION_ATTEMPTS = 0;
     private static final int DEFAULT_BETWEEN_ATTEMPTS_TIMEOUT_MILLIS = 2000;
     private static final long DEFAULT_CONNECTION_TIMEOUT_MILLIS = 20000L;
@@ -315,11 +318,18 @@ public abstract class AbstractNetconfTopology implements NetconfTopology {
             LOG.info("Concurrent rpc limit is smaller than 1, no limit will be enforced for device {}", remoteDeviceId);
         }
 
+        final boolean outOfOrderReplies =
+                node.isOutOfOrderReplies() == null ? DEFAULT_OUT_OF_ORDER_REPLIES : node.isOutOfOrderReplies();
+        final int rpcQueueSize = node.getRpcQueueSize() == null ? DEFAULT_RPC_QUEUE_SIZE : node.getRpcQueueSize();
+        final long rpcQueueTimeoutMillis = node.getRpcQueueTimeoutMillis() == null ? DEFAULT_RPC_QUEUE_TIMEOUT_MILLIS : node.getRpcQueueTimeoutMillis();
+
         return new NetconfConnectorDTO(
                 userCapabilities.isPresent() ?
                         new NetconfDeviceCommunicator(
-                                remoteDeviceId, device, new UserPreferences(userCapabilities.get(), node.getYangModuleCapabilities().isOverride()), rpcMessageLimit):
-                        new NetconfDeviceCommunicator(remoteDeviceId, device, rpcMessageLimit), salFacade);
+                                remoteDeviceId, device, new UserPreferences(userCapabilities.get(), node.getYangModuleCapabilities().isOverride()),
+                                rpcMessageLimit, outOfOrderReplies, rpcQueueSize, rpcQueueTimeoutMillis):
+                        new NetconfDeviceCommunicator(remoteDeviceId, device, rpcMessageLimit, outOfOrderReplies,
+                                rpcQueueSize, rpcQueueTimeoutMillis), salFacade);
     }
 
     protected NetconfDevice.SchemaResourcesDTO setupSchemaCacheDTO(final NodeId nodeId, final NetconfNode node) {
@@ -10,6 +10,7 @@ package org.opendaylight.netconf.util.mapping;
 
 import com.google.common.base.Optional;
 import java.util.Map;
+import java.util.Objects;
 import org.opendaylight.controller.config.util.xml.DocumentedException;
 import org.opendaylight.controller.config.util.xml.XmlElement;
 import org.opendaylight.controller.config.util.xml.XmlMappingConstants;
@@ -41,6 +42,52 @@ public abstract class AbstractNetconfOperation implements NetconfOperation {
         return canHandle(operationNameAndNamespace.getOperationName(), operationNameAndNamespace.getNamespace());
     }
 
+    /**
+     * Name and namespace of the operation element this operation is bound to. Operation router uses it to find
+     * candidate operations for a request, without invoking {@link #canHandle(Document)} on every operation.
+     * Operations, which decide whether they can handle a request based on anything else, have to return absent.
+     *
+     * @return operation key or absent, if canHandle has to be invoked for every request
+     */
+    public Optional<OperationKey> getOperationKey() {
+        return Optional.of(new OperationKey(getOperationName(), getOperationNamespace()));
+    }
+
+    public static final class OperationKey {
+        private final String operationName, namespace;
+
+        public OperationKey(final String operationName, final String namespace) {
+            this.operationName = operationName;
+            this.namespace = namespace;
+        }
+
+        public OperationKey(final OperationNameAndNamespace operationNameAndNamespace) {
+            this(operationNameAndNamespace.getOperationName(), operationNameAndNamespace.getNamespace());
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof OperationKey)) {
+                return false;
+            }
+            final OperationKey that = (OperationKey) o;
+            return operationName.equals(that.operationName) && Objects.equals(namespace, that.namespace);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(operationName, namespace);
+        }
+
+        @Override
+        public String toString() {
+            return namespace + ":" + operationName;
+        }
+    }
+
     public static final class OperationNameAndNamespace {
         private final String operationName, namespace;
         private final XmlElement operationElement;
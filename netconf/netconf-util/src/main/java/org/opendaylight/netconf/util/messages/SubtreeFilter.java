@@ -9,7 +9,10 @@
 package org.opendaylight.netconf.util.messages;
 
 import com.google.common.base.Optional;
-import java.io.IOException;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableListMultimap;
+import com.google.common.collect.ListMultimap;
+import java.util.List;
 import java.util.Map;
 import org.opendaylight.controller.config.util.xml.DocumentedException;
 import org.opendaylight.controller.config.util.xml.XmlElement;
@@ -22,7 +25,6 @@ import org.w3c.dom.Attr;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
-import org.xml.sax.SAXException;
 
 /**
  * See <a href="http://tools.ietf.org/html/rfc6241#section-6">rfc6241</a> for details.
@@ -92,8 +94,9 @@ public class SubtreeFilter {
         Document result = XmlUtil.newDocument();
         XmlElement dataSrc = XmlElement.fromDomDocument(originalNotification);
         Element dataDst = (Element) result.importNode(dataSrc.getDomElement(), false);
-        for (XmlElement filterChild : filter.getChildElements()) {
-            addSubtree2(filterChild, dataSrc.getOnlyChildElement(), XmlElement.fromDomElement(dataDst));
+        XmlElement notificationContent = dataSrc.getOnlyChildElement();
+        for (FilterNode filterChild : new FilterNode(filter).getChildren(notificationContent.getName())) {
+            addSubtree2(filterChild, notificationContent, XmlElement.fromDomElement(dataDst));
         }
         if(dataDst.getFirstChild() != null) {
             result.appendChild(dataDst.getFirstChild());
@@ -112,25 +115,25 @@ public class SubtreeFilter {
         XmlElement dataSrc = XmlElement.fromDomElement(rpcReply).getOnlyChildElement("data", XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0);
         Element dataDst = (Element) result.importNode(dataSrc.getDomElement(), false);
         rpcReplyDst.appendChild(dataDst);
-        addSubtree(filter, dataSrc, XmlElement.fromDomElement(dataDst));
+        addSubtree(new FilterNode(filter), dataSrc, XmlElement.fromDomElement(dataDst));
 
         return result;
     }
 
-    private static void addSubtree(XmlElement filter, XmlElement src, XmlElement dst) throws DocumentedException {
+    private static void addSubtree(FilterNode filter, XmlElement src, XmlElement dst) throws DocumentedException {
         for (XmlElement srcChild : src.getChildElements()) {
-            for (XmlElement filterChild : filter.getChildElements()) {
+            for (FilterNode filterChild : filter.getChildren(srcChild.getName())) {
                 addSubtree2(filterChild, srcChild, dst);
             }
         }
     }
 
-    private static MatchingResult addSubtree2(XmlElement filter, XmlElement src, XmlElement dstParent) throws DocumentedException {
+    private static MatchingResult addSubtree2(FilterNode filter, XmlElement src, XmlElement dstParent) throws DocumentedException {
         Document document = dstParent.getDomElement().getOwnerDocument();
         MatchingResult matches = matches(src, filter);
         if (matches != MatchingResult.NO_MATCH && matches != MatchingResult.CONTENT_MISMATCH) {
             // copy srcChild to dst
-            boolean filterHasChildren = filter.getChildElements().isEmpty() == false;
+            boolean filterHasChildren = filter.hasChildren();
             // copy to depth if this is leaf of filter tree
             Element copied = (Element) document.importNode(src.getDomElement(), filterHasChildren == false);
             boolean shouldAppend = filterHasChildren == false;
@@ -138,7 +141,8 @@ public class SubtreeFilter {
                 // do the same recursively
                 int numberOfTextMatchingChildren = 0;
                 for (XmlElement srcChild : src.getChildElements()) {
-                    for (XmlElement filterChild : filter.getChildElements()) {
+                    // filter children with a different name would not match anyway
+                    for (FilterNode filterChild : filter.getChildren(srcChild.getName())) {
                         MatchingResult childMatch = addSubtree2(filterChild, srcChild, XmlElement.fromDomElement(copied));
                         if (childMatch == MatchingResult.CONTENT_MISMATCH) {
                             return MatchingResult.NO_MATCH;
@@ -150,7 +154,7 @@ public class SubtreeFilter {
                     }
                 }
                 // if only text matching child filters are specified..
-                if (numberOfTextMatchingChildren == filter.getChildElements().size()) {
+                if (numberOfTextMatchingChildren == filter.getChildCount()) {
                     // force all children to be added (to depth). This is done by copying parent node to depth.
                     // implies shouldAppend == true
                     copied = (Element) document.importNode(src.getDomElement(), true);
@@ -167,15 +171,15 @@ public class SubtreeFilter {
      * Shallow compare src node to filter: tag name and namespace must match.
      * If filter node has no children and has text content, it also must match.
      */
-    private static MatchingResult matches(XmlElement src, XmlElement filter) throws DocumentedException {
-        boolean tagMatch = src.getName().equals(filter.getName()) &&
-                src.getNamespaceOptionally().equals(filter.getNamespaceOptionally());
+    private static MatchingResult matches(XmlElement src, FilterNode filter) throws DocumentedException {
+        boolean tagMatch = src.getName().equals(filter.name) &&
+                src.getNamespaceOptionally().equals(filter.namespace);
         MatchingResult result = null;
         if (tagMatch) {
             // match text content
-            Optional<String> maybeText = filter.getOnlyTextContentOptionally();
+            Optional<String> maybeText = filter.text;
             if (maybeText.isPresent()) {
-                if (maybeText.equals(src.getOnlyTextContentOptionally()) || prefixedContentMatches(filter, src)) {
+                if (maybeText.equals(src.getOnlyTextContentOptionally()) || prefixedContentMatches(filter.element, src)) {
                     result = MatchingResult.CONTENT_MATCH;
                 } else {
                     result = MatchingResult.CONTENT_MISMATCH;
@@ -183,16 +187,13 @@ public class SubtreeFilter {
             }
             // match attributes, combination of content and tag is not supported
             if (result == null) {
-                for (Attr attr : filter.getAttributes().values()) {
-                    // ignore namespace declarations
-                    if (XmlUtil.XMLNS_URI.equals(attr.getNamespaceURI()) == false ) {
-                        // find attr with matching localName(),  namespaceURI(),  == value() in src
-                        String found = src.getAttribute(attr.getLocalName(), attr.getNamespaceURI());
-                        if (attr.getValue().equals(found) && result != MatchingResult.NO_MATCH) {
-                            result = MatchingResult.TAG_MATCH;
-                        } else {
-                            result = MatchingResult.NO_MATCH;
-                        }
+                for (Attr attr : filter.attributes) {
+                    // find attr with matching localName(),  namespaceURI(),  == value() in src
+                    String found = src.getAttribute(attr.getLocalName(), attr.getNamespaceURI());
+                    if (attr.getValue().equals(found) && result != MatchingResult.NO_MATCH) {
+                        result = MatchingResult.TAG_MATCH;
+                    } else {
+                        result = MatchingResult.NO_MATCH;
                     }
                 }
             }
@@ -237,4 +238,62 @@ public class SubtreeFilter {
     enum MatchingResult {
         NO_MATCH, TAG_MATCH, CONTENT_MATCH, CONTENT_MISMATCH
     }
+
+    /**
+     * Filter element prepared for matching. Everything needed to match a source element is extracted up front and
+     * children are indexed by name, so that each source element is compared only to filter elements it can match.
+     */
+    private static final class FilterNode {
+        private final XmlElement element;
+        private final String name;
+        private final Optional<String> namespace;
+        private final Optional<String> text;
+        private final List<Attr> attributes;
+        private final int childCount;
+        private final ListMultimap<String, FilterNode> children;
+
+        FilterNode(final XmlElement element) throws DocumentedException {
+            this.element = element;
+            this.name = element.getName();
+            this.namespace = element.getNamespaceOptionally();
+            this.text = element.getOnlyTextContentOptionally();
+
+            final ImmutableList.Builder<Attr> attributesBuilder = ImmutableList.builder();
+            for (Attr attr : element.getAttributes().values()) {
+                // ignore namespace declarations
+                if (XmlUtil.XMLNS_URI.equals(attr.getNamespaceURI()) == false) {
+                    attributesBuilder.add(attr);
+                }
+            }
+            this.attributes = attributesBuilder.build();
+
+            final List<XmlElement> childElements = element.getChildElements();
+            final ImmutableListMultimap.Builder<String, FilterNode> childrenBuilder = ImmutableListMultimap.builder();
+            for (XmlElement child : childElements) {
+                childrenBuilder.put(child.getName(), new FilterNode(child));
+            }
+            this.childCount = childElements.size();
+            this.children = childrenBuilder.build();
+        }
+
+        boolean hasChildren() {
+            return childCount != 0;
+        }
+
+        int getChildCount() {
+            return childCount;
+        }
+
+        /**
+         * @return child filter elements with given name, in the order they appear in the filter
+         */
+        List<FilterNode> getChildren(final String childName) {
+            return children.get(childName);
+        }
+
+        @Override
+        public String toString() {
+            return element.toString();
+        }
+    }
 }
@@ -28,6 +28,8 @@ public class NetconfConfiguration implements ManagedService {
     private static final String TCP_ADDRESS_PROP = "tcp-address";
     private static final String TCP_PORT_PROP = "tcp-port";
     private static final String SSH_PK_PATH_PROP = "ssh-pk-path";
+    private static final String RPC_EXECUTOR_THREADS_PROP = "rpc-executor-threads";
+    private static final String NOTIFICATION_DELIVERY_THREADS_PROP = "notification-delivery-threads";
 
     /**
      * Default values used if no dictionary is provided.
@@ -35,6 +37,8 @@ public class NetconfConfiguration implements ManagedService {
 
     public static final LocalAddress NETCONF_LOCAL_ADDRESS = new LocalAddress("netconf");
     public static final long DEFAULT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(30);
+    public static final int DEFAULT_RPC_EXECUTOR_THREADS = 8;
+    public static final int DEFAULT_NOTIFICATION_DELIVERY_THREADS = 4;
 
     private static final String LOCAL_HOST = "127.0.0.1";
     private static final String INADDR_ANY = "0.0.0.0";
@@ -55,7 +59,8 @@ public class NetconfConfiguration implements ManagedService {
 
     private NetconfConfiguration() {
         netconfConfiguration = new NetconfConfigurationHolder(DEFAULT_TCP_SERVER_ADRESS,
-                DEFAULT_SSH_SERVER_ADRESS, DEFAULT_PRIVATE_KEY_PATH);
+                DEFAULT_SSH_SERVER_ADRESS, DEFAULT_PRIVATE_KEY_PATH, DEFAULT_RPC_EXECUTOR_THREADS,
+                DEFAULT_NOTIFICATION_DELIVERY_THREADS);
     }
 
     @Override
@@ -69,9 +74,17 @@ public class NetconfConfiguration implements ManagedService {
         final InetSocketAddress tcpServerAddress = new InetSocketAddress((String) dictionaryConfig.get(TCP_ADDRESS_PROP),
                 Integer.parseInt((String) dictionaryConfig.get(TCP_PORT_PROP)));
 
+        // optional, older configuration files do not contain them
+        final String rpcExecutorThreads = (String) dictionaryConfig.get(RPC_EXECUTOR_THREADS_PROP);
+        final String notificationDeliveryThreads = (String) dictionaryConfig.get(NOTIFICATION_DELIVERY_THREADS_PROP);
+
         netconfConfiguration = new NetconfConfigurationHolder(tcpServerAddress,
                 sshServerAddress,
-                (String) dictionaryConfig.get(SSH_PK_PATH_PROP));
+                (String) dictionaryConfig.get(SSH_PK_PATH_PROP),
+                rpcExecutorThreads == null ? DEFAULT_RPC_EXECUTOR_THREADS
+                        : Integer.parseInt(rpcExecutorThreads.trim()),
+                notificationDeliveryThreads == null ? DEFAULT_NOTIFICATION_DELIVERY_THREADS
+                        : Integer.parseInt(notificationDeliveryThreads.trim()));
 
         LOG.debug("CSS netconf server configuration was updated: {}", dictionaryConfig.toString());
     }
@@ -87,4 +100,18 @@ public class NetconfConfiguration implements ManagedService {
     public String getPrivateKeyPath() {
         return netconfConfiguration.getPrivateKeyPath();
     }
+
+    /**
+     * @return number of threads executing rpcs received by netconf server sessions
+     */
+    public int getRpcExecutorThreads() {
+        return netconfConfiguration.getRpcExecutorThreads();
+    }
+
+    /**
+     * @return number of threads delivering notifications to subscribed netconf server sessions
+     */
+    public int getNotificationDeliveryThreads() {
+        return netconfConfiguration.getNotificationDeliveryThreads();
+    }
 }
\ No newline at end of file
@@ -15,13 +15,19 @@ final class NetconfConfigurationHolder {
     private final InetSocketAddress tcpServerAddress;
     private final InetSocketAddress sshServerAddress;
     private final String privateKeyPath;
+    private final int rpcExecutorThreads;
+    private final int notificationDeliveryThreads;
 
     NetconfConfigurationHolder(final InetSocketAddress tcpServerAddress,
                                final InetSocketAddress sshServerAddress,
-                               final String privateKeyPath) {
+                               final String privateKeyPath,
+                               final int rpcExecutorThreads,
+                               final int notificationDeliveryThreads) {
         this.tcpServerAddress = tcpServerAddress;
         this.sshServerAddress = sshServerAddress;
         this.privateKeyPath = privateKeyPath;
+        this.rpcExecutorThreads = rpcExecutorThreads;
+        this.notificationDeliveryThreads = notificationDeliveryThreads;
     }
 
     String getPrivateKeyPath() {
@@ -35,4 +41,12 @@ final class NetconfConfigurationHolder {
     InetSocketAddress getTcpServerAddress() {
         return tcpServerAddress;
     }
+
+    int getRpcExecutorThreads() {
+        return rpcExecutorThreads;
+    }
+
+    int getNotificationDeliveryThreads() {
+        return notificationDeliveryThreads;
+    }
 }
@@ -38,6 +38,15 @@ public class NetconfConfigurationTest {
         Assert.assertEquals(new InetSocketAddress(newSshIp, newSshPort), config.getSshServerAddress());
         Assert.assertEquals(new InetSocketAddress(newTcpIp, newTcpPort), config.getTcpServerAddress());
         Assert.assertEquals(newSshKeyPath, config.getPrivateKeyPath());
+        Assert.assertEquals(NetconfConfiguration.DEFAULT_RPC_EXECUTOR_THREADS, config.getRpcExecutorThreads());
+        Assert.assertEquals(NetconfConfiguration.DEFAULT_NOTIFICATION_DELIVERY_THREADS,
+                config.getNotificationDeliveryThreads());
+
+        newValues.put("rpc-executor-threads", "16");
+        newValues.put("notification-delivery-threads", "2");
+        config.updated(newValues);
+        Assert.assertEquals(16, config.getRpcExecutorThreads());
+        Assert.assertEquals(2, config.getNotificationDeliveryThreads());
     }
 
     @Test
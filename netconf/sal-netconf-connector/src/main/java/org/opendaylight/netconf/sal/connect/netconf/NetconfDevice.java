@@ -231,6 +231,10 @@ public class NetconfDevice implements RemoteDevice<NetconfSessionPreferences, Ne
      * Set the transformer to null as is in initial state
      */
     private void resetMessageTransformer() {
+        if (messageTransformer instanceof NetconfMessageTransformer) {
+            LOG.info("{}: Schema lookup and parse statistics of the session: {}", id,
+                    ((NetconfMessageTransformer) messageTransformer).getStatistics());
+        }
         updateTransformer(null);
     }
 
@@ -12,18 +12,26 @@ import com.google.common.base.Strings;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.SettableFuture;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.EventLoop;
 import io.netty.util.concurrent.Future;
 import io.netty.util.concurrent.FutureListener;
 import io.netty.util.concurrent.GenericFutureListener;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.concurrent.GuardedBy;
 import org.opendaylight.controller.config.util.xml.XmlElement;
 import org.opendaylight.controller.config.util.xml.XmlUtil;
 import org.opendaylight.netconf.api.NetconfDocumentedException;
@@ -38,6 +46,7 @@ import org.opendaylight.netconf.client.conf.NetconfReconnectingClientConfigurati
 import org.opendaylight.netconf.sal.connect.api.RemoteDevice;
 import org.opendaylight.netconf.sal.connect.api.RemoteDeviceCommunicator;
 import org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil;
+import org.opendaylight.netconf.sal.connect.util.MessageCounter;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.common.RpcError;
@@ -57,8 +66,28 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
 
     private final Semaphore semaphore;
     private final int concurentRpcMsgs;
+    private final boolean outOfOrderReplies;
+    private final int rpcQueueSize;
+    private final long rpcQueueTimeoutNanos;
+    // Transformers of a device allocate message-ids independently, with out of order replies they are replaced by
+    // ids unique within this communicator, so that each reply matches a single request
+    private final MessageCounter messageIds = new MessageCounter();
 
     private final Queue<Request> requests = new ArrayDeque<>();
+    // Requests waiting for a permit, they are admitted in order as replies to outstanding requests arrive
+    @GuardedBy("sessionLock")
+    private final Queue<Request> queuedRequests = new ArrayDeque<>();
+    // Requests admitted from the queue and the time they spent in it, reported when the session goes down
+    @GuardedBy("sessionLock")
+    private long admittedRequests;
+    @GuardedBy("sessionLock")
+    private long queueWaitNanos;
+    @GuardedBy("sessionLock")
+    private long maxQueueWaitNanos;
+    private final AtomicLong expiredRequests = new AtomicLong();
+    // Event loop of the session channel, learned from the first write, queued requests expire on it
+    @GuardedBy("sessionLock")
+    private EventLoop eventLoop;
     private NetconfClientSession session;
 
     private Future<?> initFuture;
@@ -77,18 +106,57 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
 
     public NetconfDeviceCommunicator(final RemoteDeviceId id, final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice,
             final UserPreferences NetconfSessionPreferences, final int rpcMessageLimit) {
-        this(id, remoteDevice, Optional.of(NetconfSessionPreferences), rpcMessageLimit);
+        this(id, remoteDevice, Optional.of(NetconfSessionPreferences), rpcMessageLimit, false, 0, 0);
     }
 
     public NetconfDeviceCommunicator(final RemoteDeviceId id,
                                      final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice,
                                      final int rpcMessageLimit) {
-        this(id, remoteDevice, Optional.<UserPreferences>absent(), rpcMessageLimit);
+        this(id, remoteDevice, Optional.<UserPreferences>absent(), rpcMessageLimit, false, 0, 0);
+    }
+
+    /**
+     * @param outOfOrderReplies if true, replies are matched to outstanding requests by their message-id, allowing
+     *                          the device to reply in a different order than the requests were sent. Message-ids
+     *                          of sent requests are replaced by ids unique within this communicator. Otherwise
+     *                          replies are expected to arrive in the order of requests.
+     * @param rpcQueueSize maximum number of requests waiting for a reply to free up a slot once rpcMessageLimit
+     *                     requests are outstanding. If 0, requests over the limit are rejected immediately.
+     * @param rpcQueueTimeoutMillis maximum time a request can wait in the queue before it is failed, 0 means
+     *                              requests wait until they are admitted or cancelled
+     */
+    public NetconfDeviceCommunicator(final RemoteDeviceId id, final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice,
+            final UserPreferences NetconfSessionPreferences, final int rpcMessageLimit, final boolean outOfOrderReplies,
+            final int rpcQueueSize, final long rpcQueueTimeoutMillis) {
+        this(id, remoteDevice, Optional.of(NetconfSessionPreferences), rpcMessageLimit, outOfOrderReplies,
+                rpcQueueSize, rpcQueueTimeoutMillis);
+    }
+
+    /**
+     * @param outOfOrderReplies if true, replies are matched to outstanding requests by their message-id, allowing
+     *                          the device to reply in a different order than the requests were sent. Message-ids
+     *                          of sent requests are replaced by ids unique within this communicator. Otherwise
+     *                          replies are expected to arrive in the order of requests.
+     * @param rpcQueueSize maximum number of requests waiting for a reply to free up a slot once rpcMessageLimit
+     *                     requests are outstanding. If 0, requests over the limit are rejected immediately.
+     * @param rpcQueueTimeoutMillis maximum time a request can wait in the queue before it is failed, 0 means
+     *                              requests wait until they are admitted or cancelled
+     */
+    public NetconfDeviceCommunicator(final RemoteDeviceId id,
+                                     final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice,
+                                     final int rpcMessageLimit, final boolean outOfOrderReplies,
+                                     final int rpcQueueSize, final long rpcQueueTimeoutMillis) {
+        this(id, remoteDevice, Optional.<UserPreferences>absent(), rpcMessageLimit, outOfOrderReplies,
+                rpcQueueSize, rpcQueueTimeoutMillis);
     }
 
     private NetconfDeviceCommunicator(final RemoteDeviceId id, final RemoteDevice<NetconfSessionPreferences, NetconfMessage, NetconfDeviceCommunicator> remoteDevice,
-                                      final Optional<UserPreferences> overrideNetconfCapabilities, final int rpcMessageLimit) {
+                                      final Optional<UserPreferences> overrideNetconfCapabilities, final int rpcMessageLimit,
+                                      final boolean outOfOrderReplies, final int rpcQueueSize, final long rpcQueueTimeoutMillis) {
         this.concurentRpcMsgs = rpcMessageLimit;
+        this.outOfOrderReplies = outOfOrderReplies;
+        this.rpcQueueSize = rpcQueueSize;
+        this.rpcQueueTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(rpcQueueTimeoutMillis);
         this.id = id;
         this.remoteDevice = remoteDevice;
         this.overrideNetconfCapabilities = overrideNetconfCapabilities;
@@ -176,6 +244,7 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
         try {
             if( session != null ) {
                 session = null;
+                eventLoop = null;
 
                 /*
                  * Walk all requests, check if they have been executing
@@ -187,12 +256,31 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
                     if (r.future.isUncancellable()) {
                         futuresToCancel.add( r.future );
                         it.remove();
+                        // Outstanding requests hold a permit, make it available for the next session
+                        if (semaphore != null) {
+                            semaphore.release();
+                        }
                     } else if (r.future.isCancelled()) {
                         // This just does some house-cleaning
                         it.remove();
                     }
                 }
 
+                // Requests waiting for a permit are failed as well, unless they have been cancelled already
+                for (final Request r : queuedRequests) {
+                    r.cancelExpiry();
+                    if (r.future.setUncancellable()) {
+                        futuresToCancel.add( r.future );
+                    }
+                }
+                queuedRequests.clear();
+
+                if (admittedRequests > 0 || expiredRequests.get() > 0) {
+                    LOG.info("{}: {} requests waited for a free rpc slot, {}ms on average, {}ms at most, {} expired",
+                            id, admittedRequests, TimeUnit.NANOSECONDS.toMillis(getAverageQueueWaitNanos()),
+                            TimeUnit.NANOSECONDS.toMillis(maxQueueWaitNanos), expiredRequests.get());
+                }
+
                 remoteDevice.onRemoteSessionDown();
             }
         }
@@ -265,16 +353,18 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
 
     private void processMessage(final NetconfMessage message) {
         Request request = null;
+        final List<Request> expired = Lists.newArrayList();
         sessionLock.lock();
 
         try {
-            request = requests.peek();
+            // A reply matching no request is ignored, no caller is waiting for it
+            request = outOfOrderReplies ? findMatchingRequest(message) : requests.peek();
             if (request != null && request.future.isUncancellable()) {
-                requests.poll();
+                requests.remove(request);
                 // we have just removed one request from the queue
                 // we can also release one permit
                 if(semaphore != null) {
-                    semaphore.release();
+                    releasePermit(expired);
                 }
             } else {
                 request = null;
@@ -286,6 +376,8 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
             sessionLock.unlock();
         }
 
+        failExpiredRequests(expired);
+
         if( request != null ) {
 
             LOG.debug("{}: Message received {}", id, message);
@@ -326,46 +418,237 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
         }
     }
 
+    /**
+     * Find the outstanding request with the same message-id as the reply. Message-ids of requests are unique
+     * within this communicator, the queue is small (bounded by the concurrent rpc limit if set), hence a scan
+     * rather than an index.
+     */
+    private Request findMatchingRequest(final NetconfMessage reply) {
+        final String messageId = getMessageId(reply);
+        for (final Request r : requests) {
+            if (r.future.isUncancellable() && messageId.equals(r.messageId)) {
+                return r;
+            }
+        }
+        return null;
+    }
+
+    private static String getMessageId(final NetconfMessage message) {
+        return message.getDocument().getDocumentElement().getAttribute(NetconfMessageTransformUtil.MESSAGE_ID_ATTR);
+    }
+
     private static String msgToS(final NetconfMessage msg) {
         return XmlUtil.toString(msg.getDocument());
     }
 
     @Override
     public ListenableFuture<RpcResult<NetconfMessage>> sendRequest(final NetconfMessage message, final QName rpc) {
+        if(LOG.isTraceEnabled()) {
+            LOG.trace("{}: Sending message {}", id, msgToS(message));
+        }
+
+        if (outOfOrderReplies) {
+            message.getDocument().getDocumentElement().setAttribute(NetconfMessageTransformUtil.MESSAGE_ID_ATTR,
+                    messageIds.getNewMessageId(NetconfMessageTransformUtil.MESSAGE_ID_PREFIX));
+        }
+
+        final List<Request> expired = Lists.newArrayList();
         sessionLock.lock();
+        try {
+            // Requests already waiting for a permit go first
+            if (semaphore != null && (!queuedRequests.isEmpty() || !semaphore.tryAcquire())) {
+                return queueRequest(message, expired);
+            }
 
-        if (semaphore != null && !semaphore.tryAcquire()) {
+            return sendRequestWithLock(message, rpc);
+        } finally {
+            sessionLock.unlock();
+            failExpiredRequests(expired);
+        }
+    }
+
+    @GuardedBy("sessionLock")
+    private ListenableFuture<RpcResult<NetconfMessage>> queueRequest(final NetconfMessage message,
+                                                                     final List<Request> expired) {
+        // Expired requests are normally removed by their timer, this covers requests queued before the event loop
+        // of the session was known
+        final long now = System.nanoTime();
+        Request head;
+        while ((head = queuedRequests.peek()) != null && isExpired(head, now)) {
+            expired.add(queuedRequests.poll());
+        }
+
+        if (queuedRequests.size() >= rpcQueueSize) {
             LOG.warn("Limit of concurrent rpc messages was reached (limit :" +
                     concurentRpcMsgs + "). Rpc reply message is needed. Discarding request of Netconf device with id" + id.getName());
-            sessionLock.unlock();
             return Futures.immediateFailedFuture(new NetconfDocumentedException("Limit of rpc messages was reached (Limit :" +
                     concurentRpcMsgs + ") waiting for emptying the queue of Netconf device with id" + id.getName()));
         }
 
+        // The future stays cancellable until the request is actually sent
+        final Request req = new Request(new UncancellableFuture<RpcResult<NetconfMessage>>(false), message);
+        queuedRequests.add(req);
+        if (rpcQueueTimeoutNanos > 0 && eventLoop != null) {
+            req.expiry = eventLoop.schedule(() -> expireQueuedRequest(req), rpcQueueTimeoutNanos,
+                    TimeUnit.NANOSECONDS);
+        }
+        // Cancelled request does not hold its place in the queue
+        req.future.addListener(() -> {
+            if (req.future.isCancelled()) {
+                removeQueuedRequest(req);
+            }
+        }, MoreExecutors.directExecutor());
+        LOG.debug("{}: Limit of concurrent rpc messages was reached, request queued, {} requests waiting", id,
+                queuedRequests.size());
+        return req.future;
+    }
+
+    private boolean removeQueuedRequest(final Request req) {
+        sessionLock.lock();
         try {
-            return sendRequestWithLock(message, rpc);
+            req.cancelExpiry();
+            return queuedRequests.remove(req);
         } finally {
             sessionLock.unlock();
         }
     }
 
-    private ListenableFuture<RpcResult<NetconfMessage>> sendRequestWithLock(
-                                               final NetconfMessage message, final QName rpc) {
-        if(LOG.isTraceEnabled()) {
-            LOG.trace("{}: Sending message {}", id, msgToS(message));
+    private void expireQueuedRequest(final Request req) {
+        if (removeQueuedRequest(req)) {
+            failExpiredRequests(Collections.singletonList(req));
+        }
+    }
+
+    /**
+     * Hand the permit of a completed request over to the first admissible queued request, or release it if there
+     * is none. Queued requests which have been cancelled are dropped, those which waited for too long are added to
+     * the expired list, so they can be failed once the lock is released.
+     */
+    @GuardedBy("sessionLock")
+    private void releasePermit(final List<Request> expired) {
+        final long now = System.nanoTime();
+        Request next;
+        while ((next = queuedRequests.poll()) != null) {
+            next.cancelExpiry();
+            if (isExpired(next, now)) {
+                expired.add(next);
+            } else if (next.future.setUncancellable()) {
+                final long waited = now - next.queuedAt;
+                admittedRequests++;
+                queueWaitNanos += waited;
+                maxQueueWaitNanos = Math.max(maxQueueWaitNanos, waited);
+                LOG.debug("{}: Queued request admitted after {}ms, {} requests waiting", id,
+                        TimeUnit.NANOSECONDS.toMillis(waited), queuedRequests.size());
+                writeRequest(next);
+                return;
+            }
         }
 
+        semaphore.release();
+    }
+
+    private boolean isExpired(final Request queued, final long now) {
+        return rpcQueueTimeoutNanos > 0 && now - queued.queuedAt > rpcQueueTimeoutNanos;
+    }
+
+    private void failExpiredRequests(final List<Request> expired) {
+        for (final Request r : expired) {
+            if (r.future.setUncancellable()) {
+                expiredRequests.incrementAndGet();
+                LOG.warn("{}: Request timed out while waiting for a free rpc slot: {}", id, r.request);
+                r.future.set(createErrorRpcResult(RpcError.ErrorType.TRANSPORT, String.format(
+                        "Request to %s timed out while waiting for a free rpc slot", id.getName())));
+            }
+        }
+    }
+
+    /**
+     * @return number of requests currently waiting for a free rpc slot
+     */
+    public int getQueuedRequestCount() {
+        sessionLock.lock();
+        try {
+            return queuedRequests.size();
+        } finally {
+            sessionLock.unlock();
+        }
+    }
+
+    /**
+     * @return number of requests which waited for a free rpc slot and were sent
+     */
+    public long getAdmittedRequestCount() {
+        sessionLock.lock();
+        try {
+            return admittedRequests;
+        } finally {
+            sessionLock.unlock();
+        }
+    }
+
+    /**
+     * @return number of requests which timed out while waiting for a free rpc slot
+     */
+    public long getExpiredRequestCount() {
+        return expiredRequests.get();
+    }
+
+    /**
+     * @return average time admitted requests waited for a free rpc slot, in nanoseconds
+     */
+    public long getAverageQueueWaitNanos() {
+        sessionLock.lock();
+        try {
+            return admittedRequests == 0 ? 0 : queueWaitNanos / admittedRequests;
+        } finally {
+            sessionLock.unlock();
+        }
+    }
+
+    /**
+     * @return longest time an admitted request waited for a free rpc slot, in nanoseconds
+     */
+    public long getMaxQueueWaitNanos() {
+        sessionLock.lock();
+        try {
+            return maxQueueWaitNanos;
+        } finally {
+            sessionLock.unlock();
+        }
+    }
+
+    private ListenableFuture<RpcResult<NetconfMessage>> sendRequestWithLock(
+                                               final NetconfMessage message, final QName rpc) {
         if (session == null) {
             LOG.warn("{}: Session is disconnected, failing RPC request {}",
                     id, message);
+            // The request is not going anywhere, give the permit back
+            if (semaphore != null) {
+                semaphore.release();
+            }
             return Futures.immediateFuture( createSessionDownRpcResult() );
         }
 
         final Request req = new Request( new UncancellableFuture<RpcResult<NetconfMessage>>(true),
                                          message );
+        writeRequest(req);
+        return req.future;
+    }
+
+    /*
+     * Note this is invoked with sessionLock held: the order of requests has to match the order in which they are
+     * written, as replies are matched to them in that order. sendMessage() does not block, it only schedules
+     * the write on the channel's event loop.
+     */
+    @GuardedBy("sessionLock")
+    private void writeRequest(final Request req) {
         requests.add(req);
 
-        session.sendMessage(req.request).addListener(new FutureListener<Void>() {
+        final ChannelFuture sendFuture = session.sendMessage(req.request);
+        if (eventLoop == null && sendFuture.channel() != null) {
+            eventLoop = sendFuture.channel().eventLoop();
+        }
+        sendFuture.addListener(new FutureListener<Void>() {
             @Override
             public void operationComplete(final Future<Void> future) throws Exception {
                 if( !future.isSuccess() ) {
@@ -387,8 +670,6 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
                 }
             }
         });
-
-        return req.future;
     }
 
     private void processNotification(final NetconfMessage notification) {
@@ -407,11 +688,23 @@ public class NetconfDeviceCommunicator implements NetconfClientSessionListener,
     private static final class Request {
         final UncancellableFuture<RpcResult<NetconfMessage>> future;
         final NetconfMessage request;
+        final String messageId;
+        final long queuedAt = System.nanoTime();
+        // Expiry of a request waiting for a free rpc slot, guarded by sessionLock
+        ScheduledFuture<?> expiry;
 
         private Request(final UncancellableFuture<RpcResult<NetconfMessage>> future,
                         final NetconfMessage request) {
             this.future = future;
             this.request = request;
+            this.messageId = getMessageId(request);
+        }
+
+        void cancelExpiry() {
+            if (expiry != null) {
+                expiry.cancel(false);
+                expiry = null;
+            }
         }
     }
 }
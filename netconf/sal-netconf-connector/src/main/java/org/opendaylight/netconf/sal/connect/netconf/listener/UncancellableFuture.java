@@ -15,13 +15,15 @@ import javax.annotation.concurrent.GuardedBy;
 final class UncancellableFuture<V> extends AbstractFuture<V> {
     @GuardedBy("this")
     private boolean uncancellable = false;
+    @GuardedBy("this")
+    private boolean cancelling = false;
 
     public UncancellableFuture(final boolean uncancellable) {
         this.uncancellable = uncancellable;
     }
 
     public synchronized boolean setUncancellable() {
-        if (isCancelled()) {
+        if (cancelling || isCancelled()) {
             return false;
         }
 
@@ -34,8 +36,15 @@ final class UncancellableFuture<V> extends AbstractFuture<V> {
     }
 
     @Override
-    public synchronized boolean cancel(final boolean mayInterruptIfRunning) {
-        return uncancellable ? false : super.cancel(mayInterruptIfRunning);
+    public boolean cancel(final boolean mayInterruptIfRunning) {
+        synchronized (this) {
+            if (uncancellable) {
+                return false;
+            }
+            cancelling = true;
+        }
+        // Listeners run outside of the monitor, they may take locks held while calling setUncancellable()
+        return super.cancel(mayInterruptIfRunning);
     }
 
     @Override
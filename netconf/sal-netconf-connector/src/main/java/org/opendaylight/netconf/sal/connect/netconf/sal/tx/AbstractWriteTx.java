@@ -15,6 +15,7 @@ import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
 import com.google.common.util.concurrent.SettableFuture;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import javax.annotation.Nullable;
@@ -41,12 +42,15 @@ import org.slf4j.LoggerFactory;
 public abstract class AbstractWriteTx implements DOMDataWriteTransaction {
 
     private static final Logger LOG  = LoggerFactory.getLogger(AbstractWriteTx.class);
+    // Maximum number of edits sent in a single edit-config, devices may limit the size of incoming messages
+    private static final int MAX_EDIT_CONFIG_BATCH_SIZE = 256;
 
     protected final RemoteDeviceId id;
     protected final NetconfBaseOps netOps;
     protected final boolean rollbackSupport;
     protected final List<ListenableFuture<DOMRpcResult>> resultsFutures;
     private final List<TxListener> listeners = new CopyOnWriteArrayList<>();
+    private final List<EditConfigBatch> editBatches = new ArrayList<>();
     // Allow commit to be called only once
     protected boolean finished = false;
 
@@ -101,7 +105,7 @@ public abstract class AbstractWriteTx implements DOMDataWriteTransaction {
         }
 
         final DataContainerChild<?, ?> editStructure = netOps.createEditConfigStrcture(Optional.<NormalizedNode<?, ?>>fromNullable(data), Optional.of(ModifyAction.REPLACE), path);
-        editConfig(path, Optional.fromNullable(data), editStructure, Optional.of(ModifyAction.NONE), "put");
+        editConfig(path, editStructure, Optional.of(ModifyAction.NONE));
     }
 
     @Override
@@ -114,8 +118,10 @@ public abstract class AbstractWriteTx implements DOMDataWriteTransaction {
             return;
         }
 
+        // Merge relies on the default operation, so that missing parents of the merged data are created as well.
+        // Merges are therefore batched only with other merges.
         final DataContainerChild<?, ?> editStructure = netOps.createEditConfigStrcture(Optional.<NormalizedNode<?, ?>>fromNullable(data), Optional.<ModifyAction>absent(), path);
-        editConfig(path, Optional.fromNullable(data), editStructure, Optional.<ModifyAction>absent(), "merge");
+        editConfig(path, editStructure, Optional.<ModifyAction>absent());
     }
 
     /**
@@ -131,7 +137,7 @@ public abstract class AbstractWriteTx implements DOMDataWriteTransaction {
     public synchronized void delete(final LogicalDatastoreType store, final YangInstanceIdentifier path) {
         checkEditable(store);
         final DataContainerChild<?, ?> editStructure = netOps.createEditConfigStrcture(Optional.<NormalizedNode<?, ?>>absent(), Optional.of(ModifyAction.DELETE), path);
-        editConfig(path, Optional.<NormalizedNode<?, ?>>absent(), editStructure, Optional.of(ModifyAction.NONE), "delete");
+        editConfig(path, editStructure, Optional.of(ModifyAction.NONE));
     }
 
     @Override
@@ -166,7 +172,28 @@ public abstract class AbstractWriteTx implements DOMDataWriteTransaction {
         Preconditions.checkArgument(store == LogicalDatastoreType.CONFIGURATION, "Can edit only configuration data, not %s", store);
     }
 
-    protected abstract void editConfig(final YangInstanceIdentifier path, final Optional<NormalizedNode<?, ?>> data, final DataContainerChild<?, ?> editStructure, final Optional<ModifyAction> defaultOperation, final String operation);
+    /**
+     * Edits are not sent to the device right away, they are collected and sent on commit in as few edit-config
+     * rpcs as possible.
+     */
+    private void editConfig(final YangInstanceIdentifier path, final DataContainerChild<?, ?> editStructure, final Optional<ModifyAction> defaultOperation) {
+        if (editBatches.isEmpty() || !editBatches.get(editBatches.size() - 1).tryAdd(path, editStructure, defaultOperation, MAX_EDIT_CONFIG_BATCH_SIZE)) {
+            editBatches.add(new EditConfigBatch(path, editStructure, defaultOperation));
+        }
+    }
+
+    /**
+     * Send all edits collected so far to the device, results are added to resultsFutures.
+     */
+    protected void sendEdits() {
+        for (final EditConfigBatch batch : editBatches) {
+            LOG.trace("{}: Sending {} edits in one edit-config", id, batch.size());
+            resultsFutures.add(sendEditConfig(batch.toEditStructure(), batch.getDefaultOperation()));
+        }
+        editBatches.clear();
+    }
+
+    protected abstract ListenableFuture<DOMRpcResult> sendEditConfig(final DataContainerChild<?, ?> editStructure, final Optional<ModifyAction> defaultOperation);
 
     protected ListenableFuture<RpcResult<TransactionStatus>> resultsToTxStatus() {
         final SettableFuture<RpcResult<TransactionStatus>> transformed = SettableFuture.create();
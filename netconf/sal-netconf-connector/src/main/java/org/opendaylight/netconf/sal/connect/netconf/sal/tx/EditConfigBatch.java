@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.netconf.sal.connect.netconf.sal.tx;
+
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_CONFIG_QNAME;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.NETCONF_OPERATION_QNAME;
+import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil.toId;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.xml.transform.dom.DOMSource;
+import org.opendaylight.controller.config.util.xml.XmlUtil;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.edit.config.input.EditContent;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.ModifyAction;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.AnyXmlNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Edits of a single transaction which are sent to the device in one edit-config rpc.
+ *
+ * <p>
+ * Edits can only be batched if they use the same default operation. Either each of them carries its own operation
+ * attribute and they are sent with default-operation none, or they are merges without operation attribute sent
+ * with the default merge operation. Paths of batched edits must not overlap, since the order in which a device
+ * applies the nodes of one edit-config is not defined. The config trees of batched edits are merged, so that
+ * common parent nodes appear only once.
+ */
+final class EditConfigBatch {
+
+    private final Optional<ModifyAction> defaultOperation;
+    private final List<YangInstanceIdentifier> paths = new ArrayList<>();
+    private final List<DataContainerChild<?, ?>> editStructures = new ArrayList<>();
+
+    EditConfigBatch(final YangInstanceIdentifier path, final DataContainerChild<?, ?> editStructure,
+                    final Optional<ModifyAction> defaultOperation) {
+        this.defaultOperation = defaultOperation;
+        paths.add(path);
+        editStructures.add(editStructure);
+    }
+
+    /**
+     * Add an edit to this batch, if possible.
+     *
+     * @return false if the edit has to be sent in a separate edit-config
+     */
+    boolean tryAdd(final YangInstanceIdentifier path, final DataContainerChild<?, ?> editStructure,
+                   final Optional<ModifyAction> defaultOperation, final int maxSize) {
+        if (editStructures.size() >= maxSize || !this.defaultOperation.equals(defaultOperation)
+                || !isBatchable(paths.get(0), this.defaultOperation)) {
+            return false;
+        }
+        for (final YangInstanceIdentifier batched : paths) {
+            if (batched.contains(path) || path.contains(batched)) {
+                return false;
+            }
+        }
+
+        paths.add(path);
+        editStructures.add(editStructure);
+        return true;
+    }
+
+    private static boolean isBatchable(final YangInstanceIdentifier path, final Optional<ModifyAction> defaultOperation) {
+        // Top level data overlaps with everything
+        return !path.isEmpty() && (!defaultOperation.isPresent() || defaultOperation.get() == ModifyAction.NONE);
+    }
+
+    Optional<ModifyAction> getDefaultOperation() {
+        return defaultOperation;
+    }
+
+    int size() {
+        return editStructures.size();
+    }
+
+    DataContainerChild<?, ?> toEditStructure() {
+        if (editStructures.size() == 1) {
+            return editStructures.get(0);
+        }
+
+        final Document document = XmlUtil.newDocument();
+        final Element config = document.createElementNS(NETCONF_CONFIG_QNAME.getNamespace().toString(),
+                NETCONF_CONFIG_QNAME.getLocalName());
+        document.appendChild(config);
+        final Map<String, Set<QName>> listKeys = getListKeys(paths);
+        for (final DataContainerChild<?, ?> editStructure : editStructures) {
+            mergeChildren(config, getConfigElement(editStructure), listKeys);
+        }
+
+        final AnyXmlNode configContent = Builders.anyXmlBuilder().withNodeIdentifier(toId(NETCONF_CONFIG_QNAME))
+                .withValue(new DOMSource(config)).build();
+        return Builders.choiceBuilder().withNodeIdentifier(toId(EditContent.QNAME)).withChild(configContent).build();
+    }
+
+    private static Element getConfigElement(final DataContainerChild<?, ?> editStructure) {
+        Preconditions.checkArgument(editStructure instanceof ChoiceNode, "Unexpected edit structure %s", editStructure);
+        final Optional<DataContainerChild<?, ?>> config = ((ChoiceNode) editStructure).getChild(toId(NETCONF_CONFIG_QNAME));
+        Preconditions.checkArgument(config.isPresent() && config.get() instanceof AnyXmlNode,
+                "Missing config in edit structure %s", editStructure);
+        final Node node = ((AnyXmlNode) config.get()).getValue().getNode();
+        return node instanceof Document ? ((Document) node).getDocumentElement() : (Element) node;
+    }
+
+    /**
+     * Collect key leaves of lists with entries on the paths of batched edits, indexed by the element name of the
+     * list. Nodes shared by batched edits are on these paths, so this covers every list entry which can be shared.
+     */
+    private static Map<String, Set<QName>> getListKeys(final List<YangInstanceIdentifier> paths) {
+        final Map<String, Set<QName>> listKeys = new HashMap<>();
+        for (final YangInstanceIdentifier path : paths) {
+            for (final PathArgument pathArgument : path.getPathArguments()) {
+                if (pathArgument instanceof NodeIdentifierWithPredicates) {
+                    final QName list = pathArgument.getNodeType();
+                    listKeys.put(getName(list.getNamespace().toString(), list.getLocalName()),
+                            ((NodeIdentifierWithPredicates) pathArgument).getKeyValues().keySet());
+                }
+            }
+        }
+        return listKeys;
+    }
+
+    private static void mergeChildren(final Element target, final Element source,
+                                      final Map<String, Set<QName>> listKeys) {
+        for (Node child = source.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (!(child instanceof Element)) {
+                continue;
+            }
+
+            final Element element = (Element) child;
+            final Element existing = findSameNode(target, element, listKeys);
+            if (existing == null) {
+                target.appendChild(target.getOwnerDocument().importNode(element, true));
+            } else if (!isLeaf(element)) {
+                mergeChildren(existing, element, listKeys);
+            }
+            // otherwise the same key leaf is already present
+        }
+    }
+
+    /**
+     * Find the element representing the same data node as the one from the merged edit. Only nodes on the path
+     * to edited data can be shared, these do not have an operation attribute. Containers match by name, list
+     * entries by name and values of their key leaves. Edited nodes never match, since paths of batched edits do
+     * not overlap.
+     */
+    private static Element findSameNode(final Element parent, final Element element,
+                                        final Map<String, Set<QName>> listKeys) {
+        if (hasOperation(element)) {
+            return null;
+        }
+
+        for (Node child = parent.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (!(child instanceof Element)) {
+                continue;
+            }
+
+            final Element candidate = (Element) child;
+            if (!Objects.equals(candidate.getNamespaceURI(), element.getNamespaceURI())
+                    || !Objects.equals(candidate.getLocalName(), element.getLocalName())
+                    || hasOperation(candidate) || isLeaf(candidate) != isLeaf(element)) {
+                continue;
+            }
+
+            if (isLeaf(element) ? candidate.getTextContent().equals(element.getTextContent())
+                    : getKeys(candidate, listKeys).equals(getKeys(element, listKeys))) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private static List<String> getKeys(final Element element, final Map<String, Set<QName>> listKeys) {
+        final Set<QName> keyDefinition = listKeys.get(getName(element.getNamespaceURI(), element.getLocalName()));
+        if (keyDefinition == null) {
+            // Not a list entry
+            return Collections.emptyList();
+        }
+
+        final List<String> keys = new ArrayList<>();
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element && isKey(child, keyDefinition)) {
+                keys.add(getName(child.getNamespaceURI(), child.getLocalName()) + ' ' + child.getTextContent());
+            }
+        }
+        return keys;
+    }
+
+    private static boolean isKey(final Node child, final Set<QName> keyDefinition) {
+        for (final QName key : keyDefinition) {
+            if (key.getLocalName().equals(child.getLocalName())
+                    && key.getNamespace().toString().equals(child.getNamespaceURI())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String getName(final String namespace, final String localName) {
+        return namespace + ' ' + localName;
+    }
+
+    private static boolean isLeaf(final Element element) {
+        for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasOperation(final Element element) {
+        return element.hasAttributeNS(NETCONF_OPERATION_QNAME.getNamespace().toString(),
+                NETCONF_OPERATION_QNAME.getLocalName());
+    }
+}
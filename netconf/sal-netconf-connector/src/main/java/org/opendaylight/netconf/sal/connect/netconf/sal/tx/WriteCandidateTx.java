@@ -24,9 +24,7 @@ import org.opendaylight.netconf.sal.connect.netconf.util.NetconfRpcFutureCallbac
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.data.api.ModifyAction;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
-import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,13 +40,15 @@ import org.slf4j.LoggerFactory;
  *       <li>Second lock attempt has to succeed</li>
  *     </ul>
  *   </li>
- *   <li>Edit-config in candidate N times
+ *   <li>Edit-config in candidate on tx commit, edits are batched into as few rpcs as possible
  *     <ul>
  *       <li>If any issue occurs during edit, datastore is discarded using discard-changes rpc, unlocked and an exception is thrown async</li>
  *     </ul>
  *   </li>
  *   <li>Commit and Unlock candidate datastore async</li>
  * </ol>
+ * Edits and commit do not wait for replies to the previous rpcs. Unlock is sent only after the reply to commit
+ * arrives, on failure changes left in candidate datastore are discarded before unlock.
  */
 public class WriteCandidateTx extends AbstractWriteTx {
 
@@ -119,6 +119,7 @@ public class WriteCandidateTx extends AbstractWriteTx {
 
     @Override
     public synchronized ListenableFuture<RpcResult<TransactionStatus>> performCommit() {
+        sendEdits();
         resultsFutures.add(netOps.commit(new NetconfRpcFutureCallback("Commit", id)));
         final ListenableFuture<RpcResult<TransactionStatus>> txResult = resultsToTxStatus();
 
@@ -130,8 +131,7 @@ public class WriteCandidateTx extends AbstractWriteTx {
 
             @Override
             public void onFailure(final Throwable t) {
-                // TODO If lock is cause of this failure cleanup will issue warning log
-                // cleanup is trying to do unlock, but this will fail
+                // Changes have to be discarded while datastore is still locked
                 cleanup();
             }
         });
@@ -144,19 +144,14 @@ public class WriteCandidateTx extends AbstractWriteTx {
     }
 
     @Override
-    protected void editConfig(final YangInstanceIdentifier path,
-                              final Optional<NormalizedNode<?, ?>> data,
-                              final DataContainerChild<?, ?> editStructure,
-                              final Optional<ModifyAction> defaultOperation,
-                              final String operation) {
-
+    protected ListenableFuture<DOMRpcResult> sendEditConfig(final DataContainerChild<?, ?> editStructure,
+                                                            final Optional<ModifyAction> defaultOperation) {
         final NetconfRpcFutureCallback editConfigCallback = new NetconfRpcFutureCallback("Edit candidate", id);
 
         if (defaultOperation.isPresent()) {
-            resultsFutures.add(netOps.editConfigCandidate(
-                    editConfigCallback, editStructure, defaultOperation.get(), rollbackSupport));
+            return netOps.editConfigCandidate(editConfigCallback, editStructure, defaultOperation.get(), rollbackSupport);
         } else {
-            resultsFutures.add(netOps.editConfigCandidate(editConfigCallback, editStructure, rollbackSupport));
+            return netOps.editConfigCandidate(editConfigCallback, editStructure, rollbackSupport);
         }
     }
 
@@ -13,8 +13,6 @@ import com.google.common.base.Optional;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
-import java.util.ArrayList;
-import java.util.List;
 import org.opendaylight.controller.md.sal.common.api.TransactionStatus;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
@@ -23,9 +21,7 @@ import org.opendaylight.netconf.sal.connect.netconf.util.NetconfRpcFutureCallbac
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
 import org.opendaylight.yangtools.yang.common.RpcResult;
 import org.opendaylight.yangtools.yang.data.api.ModifyAction;
-import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
-import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,7 +34,7 @@ import org.slf4j.LoggerFactory;
  *       <li> Lock has to succeed, if it does not, transaction is failed</li>
  *     </ul>
  *   </li>
- *   <li>Edit-config in running N times
+ *   <li>Edit-config in running on tx commit, edits are batched into as few rpcs as possible
  *     <ul>
  *       <li>If any issue occurs during edit, datastore is unlocked and an exception is thrown</li>
  *     </ul>
@@ -49,7 +45,6 @@ import org.slf4j.LoggerFactory;
 public class WriteRunningTx extends AbstractWriteTx {
 
     private static final Logger LOG  = LoggerFactory.getLogger(WriteRunningTx.class);
-    private final List<Change> changes = new ArrayList<>();
 
     public WriteRunningTx(final RemoteDeviceId id, final NetconfBaseOps netOps,
                           final boolean rollbackSupport) {
@@ -89,44 +84,23 @@ public class WriteRunningTx extends AbstractWriteTx {
 
     @Override
     public synchronized ListenableFuture<RpcResult<TransactionStatus>> performCommit() {
-        for (final Change change : changes) {
-            resultsFutures.add(change.execute(id, netOps, rollbackSupport));
-        }
+        sendEdits();
         unlock();
         return resultsToTxStatus();
     }
 
     @Override
-    protected void editConfig(final YangInstanceIdentifier path,
-                              final Optional<NormalizedNode<?, ?>> data,
-                              final DataContainerChild<?, ?> editStructure,
-                              final Optional<ModifyAction> defaultOperation,
-                              final String operation) {
-        changes.add(new Change(editStructure, defaultOperation));
+    protected ListenableFuture<DOMRpcResult> sendEditConfig(final DataContainerChild<?, ?> editStructure,
+                                                            final Optional<ModifyAction> defaultOperation) {
+        final NetconfRpcFutureCallback editConfigCallback = new NetconfRpcFutureCallback("Edit running", id);
+        if (defaultOperation.isPresent()) {
+            return netOps.editConfigRunning(editConfigCallback, editStructure, defaultOperation.get(), rollbackSupport);
+        } else {
+            return netOps.editConfigRunning(editConfigCallback, editStructure, rollbackSupport);
+        }
     }
 
     private void unlock() {
         netOps.unlockRunning(new NetconfRpcFutureCallback("Unlock running", id));
     }
-
-    private static class Change {
-
-        private final DataContainerChild<?, ?> editStructure;
-        private final Optional<ModifyAction> defaultOperation;
-
-        private Change(final DataContainerChild<?, ?> editStructure, final Optional<ModifyAction> defaultOperation) {
-            this.editStructure = editStructure;
-            this.defaultOperation = defaultOperation;
-        }
-
-        private ListenableFuture<DOMRpcResult> execute(final RemoteDeviceId id, final NetconfBaseOps netOps,
-                                                       final boolean rollbackSupport) {
-            final NetconfRpcFutureCallback editConfigCallback = new NetconfRpcFutureCallback("Edit running", id);
-            if (defaultOperation.isPresent()) {
-                return netOps.editConfigRunning(editConfigCallback, editStructure, defaultOperation.get(), rollbackSupport);
-            } else {
-                return netOps.editConfigRunning(editConfigCallback, editStructure, rollbackSupport);
-            }
-        }
-    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.connect.netconf.schema.mapping;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of a {@link NetconfMessageTransformer}, splitting the time spent on replies and notifications of a device
+ * into schema lookup and parsing.
+ */
+public final class MessageTransformerStatistics {
+
+    private final AtomicLong schemaLookups = new AtomicLong();
+    private final AtomicLong schemaLookupNanos = new AtomicLong();
+    private final AtomicLong notificationSchemasCreated = new AtomicLong();
+    private final AtomicLong parses = new AtomicLong();
+    private final AtomicLong parseNanos = new AtomicLong();
+
+    MessageTransformerStatistics() {
+    }
+
+    void schemaLookupFinished(final long startNanos) {
+        schemaLookupNanos.addAndGet(System.nanoTime() - startNanos);
+        schemaLookups.incrementAndGet();
+    }
+
+    void notificationSchemaCreated() {
+        notificationSchemasCreated.incrementAndGet();
+    }
+
+    void parseFinished(final long startNanos) {
+        parseNanos.addAndGet(System.nanoTime() - startNanos);
+        parses.incrementAndGet();
+    }
+
+    /**
+     * @return number of schema lookups for received replies and notifications
+     */
+    public long getSchemaLookups() {
+        return schemaLookups.get();
+    }
+
+    /**
+     * @return total time spent looking up schemas, in nanoseconds
+     */
+    public long getSchemaLookupNanos() {
+        return schemaLookupNanos.get();
+    }
+
+    /**
+     * @return number of notification schemas which were not cached yet and had to be created
+     */
+    public long getNotificationSchemasCreated() {
+        return notificationSchemasCreated.get();
+    }
+
+    /**
+     * @return number of parsed replies and notifications, including the ones which failed to parse
+     */
+    public long getParses() {
+        return parses.get();
+    }
+
+    /**
+     * @return total time spent parsing, in nanoseconds
+     */
+    public long getParseNanos() {
+        return parseNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return "MessageTransformerStatistics{schemaLookups=" + getSchemaLookups()
+                + ", schemaLookupNanos=" + getSchemaLookupNanos()
+                + ", notificationSchemasCreated=" + getNotificationSchemasCreated()
+                + ", parses=" + getParses()
+                + ", parseNanos=" + getParseNanos() + '}';
+    }
+}
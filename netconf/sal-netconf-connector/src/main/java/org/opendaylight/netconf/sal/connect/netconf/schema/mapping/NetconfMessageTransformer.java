@@ -23,6 +23,10 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.Date;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 import javax.annotation.Nonnull;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.dom.DOMResult;
@@ -77,7 +81,16 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
     private final MessageCounter counter;
     private final Map<QName, RpcDefinition> mappedRpcs;
     private final Multimap<QName, NotificationDefinition> mappedNotifications;
-    private final DomToNormalizedNodeParserFactory parserFactory;
+    private final ContainerSchemaNode schemaForDataRead;
+    private final ConcurrentMap<QName, ContainerSchemaNode> notificationSchemas = new ConcurrentHashMap<>();
+    /**
+     * Parsers created by {@link DomToNormalizedNodeParserFactory} are not safe for concurrent use, hence each parse
+     * borrows a factory from this pool. This allows replies and notifications of a single device to be parsed in
+     * parallel, while the factories, and the schema context they hold, go away together with this transformer.
+     */
+    private final Queue<DomToNormalizedNodeParserFactory> parserFactories = new ConcurrentLinkedQueue<>();
+    private final boolean strictParsing;
+    private final MessageTransformerStatistics statistics = new MessageTransformerStatistics();
 
     public NetconfMessageTransformer(final SchemaContext schemaContext, final boolean strictParsing) {
         this(schemaContext, strictParsing, BaseSchema.BASE_NETCONF_CTX);
@@ -86,14 +99,16 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
     public NetconfMessageTransformer(final SchemaContext schemaContext, final boolean strictParsing, final BaseSchema baseSchema) {
         this.counter = new MessageCounter();
         this.schemaContext = schemaContext;
-        parserFactory = DomToNormalizedNodeParserFactory.getInstance(XmlUtils.DEFAULT_XML_CODEC_PROVIDER, schemaContext, strictParsing);
+        this.strictParsing = strictParsing;
         mappedRpcs = Maps.uniqueIndex(schemaContext.getOperations(), QNAME_FUNCTION);
         mappedNotifications = Multimaps.index(schemaContext.getNotifications(), QNAME_NOREV_FUNCTION);
+        schemaForDataRead = NetconfMessageTransformUtil.createSchemaForDataRead(schemaContext);
         this.baseSchema = baseSchema;
     }
 
     @Override
-    public synchronized DOMNotification toNotification(final NetconfMessage message) {
+    public DOMNotification toNotification(final NetconfMessage message) {
+        final long lookupStart = System.nanoTime();
         final Map.Entry<Date, XmlElement> stripped = NetconfMessageTransformUtil.stripNotification(message);
         final QName notificationNoRev;
         try {
@@ -101,25 +116,36 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
         } catch (final MissingNameSpaceException e) {
             throw new IllegalArgumentException("Unable to parse notification " + message + ", cannot find namespace", e);
         }
-        final Collection<NotificationDefinition> notificationDefinitions = mappedNotifications.get(notificationNoRev);
-        Preconditions.checkArgument(notificationDefinitions.size() > 0,
-                "Unable to parse notification %s, unknown notification. Available notifications: %s", notificationDefinitions, mappedNotifications.keySet());
-
-        final NotificationDefinition mostRecentNotification = getMostRecentNotification(notificationDefinitions);
-
-        final ContainerSchemaNode notificationAsContainerSchemaNode = NetconfMessageTransformUtil.createSchemaForNotification(mostRecentNotification);
+        final ContainerSchemaNode notificationAsContainerSchemaNode = getNotificationSchema(notificationNoRev);
+        statistics.schemaLookupFinished(lookupStart);
 
         final Element element = stripped.getValue().getDomElement();
         final ContainerNode content;
         try {
-            content = parserFactory.getContainerNodeParser().parse(Collections.singleton(element),
-                notificationAsContainerSchemaNode);
+            content = parseContainer(element, notificationAsContainerSchemaNode);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException(String.format("Failed to parse notification %s", element), e);
         }
         return new NetconfDeviceNotification(content, stripped.getKey());
     }
 
+    private ContainerSchemaNode getNotificationSchema(final QName notificationNoRev) {
+        final ContainerSchemaNode cached = notificationSchemas.get(notificationNoRev);
+        if (cached != null) {
+            return cached;
+        }
+
+        final Collection<NotificationDefinition> notificationDefinitions = mappedNotifications.get(notificationNoRev);
+        Preconditions.checkArgument(notificationDefinitions.size() > 0,
+                "Unable to parse notification %s, unknown notification. Available notifications: %s", notificationDefinitions, mappedNotifications.keySet());
+
+        final NotificationDefinition mostRecentNotification = getMostRecentNotification(notificationDefinitions);
+        final ContainerSchemaNode schema = NetconfMessageTransformUtil.createSchemaForNotification(mostRecentNotification);
+        statistics.notificationSchemaCreated();
+        final ContainerSchemaNode existing = notificationSchemas.putIfAbsent(notificationNoRev, schema);
+        return existing != null ? existing : schema;
+    }
+
     private static NotificationDefinition getMostRecentNotification(final Collection<NotificationDefinition> notificationDefinitions) {
         Comparator<NotificationDefinition> cmp = (o1, o2) -> o1.getQName().getRevision().compareTo(o2.getQName().getRevision());
 
@@ -174,16 +200,17 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
 
 
     @Override
-    public synchronized DOMRpcResult toRpcResult(final NetconfMessage message, final SchemaPath rpc) {
+    public DOMRpcResult toRpcResult(final NetconfMessage message, final SchemaPath rpc) {
+        final long lookupStart = System.nanoTime();
         final NormalizedNode<?, ?> normalizedNode;
         final QName rpcQName = rpc.getLastComponent();
         if (NetconfMessageTransformUtil.isDataRetrievalOperation(rpcQName)) {
             final Element xmlData = NetconfMessageTransformUtil.getDataSubtree(message.getDocument());
-            final ContainerSchemaNode schemaForDataRead = NetconfMessageTransformUtil.createSchemaForDataRead(schemaContext);
             final ContainerNode dataNode;
+            statistics.schemaLookupFinished(lookupStart);
 
             try {
-                dataNode = parserFactory.getContainerNodeParser().parse(Collections.singleton(xmlData), schemaForDataRead);
+                dataNode = parseContainer(xmlData, schemaForDataRead);
             } catch (IllegalArgumentException e) {
                 throw new IllegalArgumentException(String.format("Failed to parse data response %s", xmlData), e);
             }
@@ -203,6 +230,7 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
 
             final RpcDefinition rpcDefinition = currentMappedRpcs.get(rpcQName);
             Preconditions.checkArgument(rpcDefinition != null, "Unable to parse response of %s, the rpc is unknown", rpcQName);
+            statistics.schemaLookupFinished(lookupStart);
 
             // In case no input for rpc is defined, we can simply construct the payload here
             if (rpcDefinition.getOutput() == null) {
@@ -213,8 +241,7 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
             } else {
                 final Element element = message.getDocument().getDocumentElement();
                 try {
-                    normalizedNode = parserFactory.getContainerNodeParser().parse(Collections.singleton(element),
-                        rpcDefinition.getOutput());
+                    normalizedNode = parseContainer(element, rpcDefinition.getOutput());
                 } catch (IllegalArgumentException e) {
                     throw new IllegalArgumentException(String.format("Failed to parse RPC response %s", element), e);
                 }
@@ -223,6 +250,28 @@ public class NetconfMessageTransformer implements MessageTransformer<NetconfMess
         return new DefaultDOMRpcResult(normalizedNode);
     }
 
+    private ContainerNode parseContainer(final Element element, final ContainerSchemaNode schema) {
+        DomToNormalizedNodeParserFactory factory = parserFactories.poll();
+        if (factory == null) {
+            factory = DomToNormalizedNodeParserFactory.getInstance(XmlUtils.DEFAULT_XML_CODEC_PROVIDER, schemaContext,
+                strictParsing);
+        }
+        final long parseStart = System.nanoTime();
+        try {
+            return factory.getContainerNodeParser().parse(Collections.singleton(element), schema);
+        } finally {
+            statistics.parseFinished(parseStart);
+            parserFactories.offer(factory);
+        }
+    }
+
+    /**
+     * @return schema lookup and parse counters of this transformer
+     */
+    public MessageTransformerStatistics getStatistics() {
+        return statistics;
+    }
+
     static class NetconfDeviceNotification implements DOMNotification, DOMEvent {
         private final ContainerNode content;
         private final SchemaPath schemaPath;
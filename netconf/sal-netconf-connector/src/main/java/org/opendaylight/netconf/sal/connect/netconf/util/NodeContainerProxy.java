@@ -9,8 +9,8 @@ package org.opendaylight.netconf.sal.connect.netconf.util;
 
 import com.google.common.base.Function;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -34,12 +34,14 @@ import org.opendaylight.yangtools.yang.model.api.UsesNode;
 public final class NodeContainerProxy implements ContainerSchemaNode {
 
     private final Map<QName, DataSchemaNode> childNodes;
+    private final Set<DataSchemaNode> childNodeSet;
     private final QName qName;
     private final Set<AugmentationSchema> availableAugmentations;
 
     public NodeContainerProxy(final QName qName, final Map<QName, DataSchemaNode> childNodes, final Set<AugmentationSchema> availableAugmentations) {
         this.availableAugmentations = availableAugmentations;
         this.childNodes = Preconditions.checkNotNull(childNodes, "childNodes");
+        this.childNodeSet = ImmutableSet.copyOf(childNodes.values());
         this.qName = qName;
     }
 
@@ -67,7 +69,7 @@ public final class NodeContainerProxy implements ContainerSchemaNode {
 
     @Override
     public Set<DataSchemaNode> getChildNodes() {
-        return Sets.newHashSet(childNodes.values());
+        return childNodeSet;
     }
 
     @Override
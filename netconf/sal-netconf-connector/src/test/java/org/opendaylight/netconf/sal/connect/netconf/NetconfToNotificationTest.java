@@ -26,6 +26,7 @@ import org.opendaylight.controller.md.sal.dom.api.DOMEvent;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
 import org.opendaylight.netconf.api.NetconfMessage;
 import org.opendaylight.netconf.notifications.NetconfNotification;
+import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.MessageTransformerStatistics;
 import org.opendaylight.netconf.sal.connect.netconf.schema.mapping.NetconfMessageTransformer;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
 import org.opendaylight.yangtools.yang.model.api.Module;
@@ -89,4 +90,20 @@ public class NetconfToNotificationTest {
         assertEquals(new SimpleDateFormat(NetconfNotification.RFC3339_DATE_FORMAT_WITH_MILLIS_BLUEPRINT).parse("2015-10-23T09:42:27.67175+00:00"),
                 ((DOMEvent) domNotification).getEventTime());
     }
+
+    @Test
+    public void testNotificationStatistics() throws Exception {
+        final SchemaContext schemaContext = getNotificationSchemaContext(getClass(), false);
+        messageTransformer = new NetconfMessageTransformer(schemaContext, true);
+        messageTransformer.toNotification(userNotification);
+        messageTransformer.toNotification(userNotification);
+
+        // the notification schema is created once and reused by the following notifications
+        final MessageTransformerStatistics statistics = messageTransformer.getStatistics();
+        assertEquals(2, statistics.getSchemaLookups());
+        assertEquals(1, statistics.getNotificationSchemasCreated());
+        assertEquals(2, statistics.getParses());
+        assertTrue(statistics.getSchemaLookupNanos() >= 0);
+        assertTrue(statistics.getParseNanos() >= 0);
+    }
 }
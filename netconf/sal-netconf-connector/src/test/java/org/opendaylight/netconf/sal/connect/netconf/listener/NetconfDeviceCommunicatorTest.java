@@ -12,9 +12,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Matchers.same;
+import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -22,12 +24,14 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.opendaylight.netconf.api.xml.XmlNetconfConstants.URN_IETF_PARAMS_XML_NS_NETCONF_BASE_1_0;
 import com.google.common.base.CharMatcher;
 import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
 import com.google.common.util.concurrent.ListenableFuture;
+import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
@@ -100,8 +104,13 @@ public class NetconfDeviceCommunicatorTest {
         return sendRequest( UUID.randomUUID().toString(), true );
     }
 
-    @SuppressWarnings("unchecked")
     private ListenableFuture<RpcResult<NetconfMessage>> sendRequest( final String messageID, final boolean doLastTest ) throws Exception {
+        return sendRequest( messageID, doLastTest, null );
+    }
+
+    @SuppressWarnings("unchecked")
+    private ListenableFuture<RpcResult<NetconfMessage>> sendRequest( final String messageID, final boolean doLastTest,
+                                                                     final Channel channel ) throws Exception {
         Document doc = DocumentBuilderFactory.newInstance().newDocumentBuilder().newDocument();
         Element element = doc.createElement( "request" );
         element.setAttribute( "message-id", messageID );
@@ -111,6 +120,7 @@ public class NetconfDeviceCommunicatorTest {
         ChannelFuture mockChannelFuture = mock( ChannelFuture.class );
         doReturn( mockChannelFuture ).when( mockChannelFuture )
             .addListener( any( (GenericFutureListener.class ) ) );
+        doReturn( channel ).when( mockChannelFuture ).channel();
         doReturn( mockChannelFuture ).when( mockSession ).sendMessage( same( message ) );
 
         ListenableFuture<RpcResult<NetconfMessage>> resultFuture =
@@ -335,6 +345,64 @@ public class NetconfDeviceCommunicatorTest {
         verifyResponseMessage( resultFuture2.get(), messageID2 );
     }
 
+    @Test
+    public void testOnOutOfOrderResponseMessages() throws Exception {
+        communicator = new NetconfDeviceCommunicator(
+                new RemoteDeviceId("test", InetSocketAddress.createUnresolved("localhost", 22)), mockDevice, 10, true, 0, 0);
+        setupSession();
+
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture1 = sendRequest( "m-0", true );
+        String messageID1 = getLastSentMessageId();
+
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture2 = sendRequest( "m-0", true );
+        String messageID2 = getLastSentMessageId();
+
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture3 = sendRequest( "m-0", true );
+        String messageID3 = getLastSentMessageId();
+
+        // Requests created by different transformers are sent with unique message-ids
+        assertEquals( 3, Sets.newHashSet( messageID1, messageID2, messageID3 ).size() );
+
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID2 ) );
+        verifyResponseMessage( resultFuture2.get(), messageID2 );
+        assertFalse( resultFuture1.isDone() );
+        assertFalse( resultFuture3.isDone() );
+
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID3 ) );
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID1 ) );
+        verifyResponseMessage( resultFuture1.get(), messageID1 );
+        verifyResponseMessage( resultFuture3.get(), messageID3 );
+    }
+
+    @Test
+    public void testOnUnmatchedOutOfOrderResponseMessage() throws Exception {
+        communicator = new NetconfDeviceCommunicator(
+                new RemoteDeviceId("test", InetSocketAddress.createUnresolved("localhost", 22)), mockDevice, 10, true, 0, 0);
+        setupSession();
+
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture1 = sendRequest( UUID.randomUUID().toString(), true );
+        String messageID1 = getLastSentMessageId();
+
+        ListenableFuture<RpcResult<NetconfMessage>> resultFuture2 = sendRequest( UUID.randomUUID().toString(), true );
+        String messageID2 = getLastSentMessageId();
+
+        // Reply with unknown message-id is ignored, outstanding requests keep waiting for their replies
+        communicator.onMessage( mockSession, createSuccessResponseMessage( UUID.randomUUID().toString() ) );
+        assertFalse( resultFuture1.isDone() );
+        assertFalse( resultFuture2.isDone() );
+
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID2 ) );
+        verifyResponseMessage( resultFuture2.get(), messageID2 );
+        communicator.onMessage( mockSession, createSuccessResponseMessage( messageID1 ) );
+        verifyResponseMessage( resultFuture1.get(), messageID1 );
+    }
+
+    private String getLastSentMessageId() {
+        final ArgumentCaptor<NetconfMessage> captor = ArgumentCaptor.forClass( NetconfMessage.class );
+        verify( mockSession, atLeastOnce() ).sendMessage( captor.capture() );
+        return captor.getValue().getDocument().getDocumentElement().getAttribute( "message-id" );
+    }
+
     @Test
     public void testOnResponseMessageWithError() throws Exception {
         setupSession();
@@ -452,6 +520,78 @@ public class NetconfDeviceCommunicatorTest {
         assertNotNull("ListenableFuture is null", resultFuture);
     }
 
+    @Test
+    public void testQueuedConcurrentMessageLimit() throws Exception {
+        communicator = new NetconfDeviceCommunicator(
+                new RemoteDeviceId("test", InetSocketAddress.createUnresolved("localhost", 22)), mockDevice, 2, false, 2, 0);
+        setupSession();
+
+        final String messageID1 = UUID.randomUUID().toString();
+        final ListenableFuture<RpcResult<NetconfMessage>> resultFuture1 = sendRequest(messageID1, true);
+        final String messageID2 = UUID.randomUUID().toString();
+        final ListenableFuture<RpcResult<NetconfMessage>> resultFuture2 = sendRequest(messageID2, true);
+        verify(mockSession, times(2)).sendMessage(any(NetconfMessage.class));
+
+        // Over the limit, these wait for a free slot
+        final ListenableFuture<RpcResult<NetconfMessage>> queuedFuture1 = sendRequest(UUID.randomUUID().toString(), true);
+        final String messageID4 = UUID.randomUUID().toString();
+        final ListenableFuture<RpcResult<NetconfMessage>> queuedFuture2 = sendRequest(messageID4, true);
+        assertEquals(2, communicator.getQueuedRequestCount());
+        verify(mockSession, times(2)).sendMessage(any(NetconfMessage.class));
+
+        // Queue is full
+        final ListenableFuture<RpcResult<NetconfMessage>> rejectedFuture = sendRequest(UUID.randomUUID().toString(), true);
+        assertEquals(false, rejectedFuture instanceof UncancellableFuture);
+
+        // Cancelled request leaves the queue right away, the next one takes over the slot
+        assertTrue(queuedFuture1.cancel(false));
+        assertEquals(1, communicator.getQueuedRequestCount());
+        communicator.onMessage(mockSession, createSuccessResponseMessage(messageID1));
+        verifyResponseMessage(resultFuture1.get(), messageID1);
+        verify(mockSession, times(3)).sendMessage(any(NetconfMessage.class));
+        assertEquals(0, communicator.getQueuedRequestCount());
+        assertEquals(1, communicator.getAdmittedRequestCount());
+        assertTrue(communicator.getMaxQueueWaitNanos() >= communicator.getAverageQueueWaitNanos());
+        assertTrue(communicator.getAverageQueueWaitNanos() >= 0);
+
+        communicator.onMessage(mockSession, createSuccessResponseMessage(messageID2));
+        communicator.onMessage(mockSession, createSuccessResponseMessage(messageID4));
+        verifyResponseMessage(resultFuture2.get(), messageID2);
+        verifyResponseMessage(queuedFuture2.get(), messageID4);
+    }
+
+    @Test
+    public void testQueuedRequestExpiry() throws Exception {
+        communicator = new NetconfDeviceCommunicator(
+                new RemoteDeviceId("test", InetSocketAddress.createUnresolved("localhost", 22)), mockDevice, 1, false, 2, 100);
+        setupSession();
+
+        final EventLoopGroup group = new NioEventLoopGroup(1);
+        try {
+            final Channel channel = mock(Channel.class);
+            doReturn(group.next()).when(channel).eventLoop();
+
+            final String messageID1 = UUID.randomUUID().toString();
+            final ListenableFuture<RpcResult<NetconfMessage>> resultFuture1 = sendRequest(messageID1, true, channel);
+            final ListenableFuture<RpcResult<NetconfMessage>> queuedFuture =
+                    sendRequest(UUID.randomUUID().toString(), true, channel);
+            assertEquals(1, communicator.getQueuedRequestCount());
+
+            // No reply arrives, the queued request expires on its own
+            final RpcResult<NetconfMessage> expired = queuedFuture.get(5, TimeUnit.SECONDS);
+            verifyErrorRpcResult(expired, RpcError.ErrorType.TRANSPORT, "operation-failed");
+            assertEquals(0, communicator.getQueuedRequestCount());
+            verify(mockSession, times(1)).sendMessage(any(NetconfMessage.class));
+            assertEquals(1, communicator.getExpiredRequestCount());
+            assertEquals(0, communicator.getAdmittedRequestCount());
+
+            communicator.onMessage(mockSession, createSuccessResponseMessage(messageID1));
+            verifyResponseMessage(resultFuture1.get(), messageID1);
+        } finally {
+            group.shutdownGracefully();
+        }
+    }
+
     private static NetconfMessage createErrorResponseMessage( final String messageID ) throws Exception {
         String xmlStr =
             "<rpc-reply xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"" +
@@ -24,6 +24,7 @@ import static org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTr
 
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.SettableFuture;
 import java.net.InetSocketAddress;
 import org.junit.Assert;
 import org.junit.Before;
@@ -104,6 +105,38 @@ public class NetconfDeviceWriteOnlyTxTest {
         fail("Submit should fail");
     }
 
+    @Test
+    public void testUnlockAfterFailedCommitReply() throws Exception {
+        final CheckedFuture<DefaultDOMRpcResult, Exception> successFuture =
+                Futures.immediateCheckedFuture(new DefaultDOMRpcResult(((NormalizedNode<?, ?>) null)));
+        final SettableFuture<DefaultDOMRpcResult> commitReply = SettableFuture.create();
+
+        doReturn(successFuture).when(rpc).invokeRpc(any(SchemaPath.class), any(NormalizedNode.class));
+        doReturn(Futures.makeChecked(commitReply, e -> e)).when(rpc).invokeRpc(
+                toPath(NetconfMessageTransformUtil.NETCONF_COMMIT_QNAME), NetconfMessageTransformUtil.COMMIT_RPC_CONTENT);
+
+        final WriteCandidateTx tx = new WriteCandidateTx(id, new NetconfBaseOps(rpc, mock(SchemaContext.class)),
+                false);
+        final CheckedFuture<Void, TransactionCommitFailedException> submitFuture = tx.submit();
+
+        // nothing is sent after commit until its reply arrives
+        verify(rpc, never()).invokeRpc(toPath(NetconfMessageTransformUtil.NETCONF_UNLOCK_QNAME), NetconfBaseOps.getUnLockContent(NETCONF_CANDIDATE_QNAME));
+        verify(rpc, never()).invokeRpc(eq(toPath(NetconfMessageTransformUtil.NETCONF_DISCARD_CHANGES_QNAME)), any(NormalizedNode.class));
+
+        commitReply.set(new DefaultDOMRpcResult(RpcResultBuilder.newError(RpcError.ErrorType.APPLICATION, "a", "m")));
+
+        try {
+            submitFuture.checkedGet();
+            fail("Submit should fail");
+        } catch (final TransactionCommitFailedException e) {
+            final InOrder inOrder = inOrder(rpc);
+            inOrder.verify(rpc).invokeRpc(toPath(NetconfMessageTransformUtil.NETCONF_LOCK_QNAME), NetconfBaseOps.getLockContent(NETCONF_CANDIDATE_QNAME));
+            inOrder.verify(rpc).invokeRpc(toPath(NetconfMessageTransformUtil.NETCONF_COMMIT_QNAME), NetconfMessageTransformUtil.COMMIT_RPC_CONTENT);
+            inOrder.verify(rpc).invokeRpc(eq(toPath(NetconfMessageTransformUtil.NETCONF_DISCARD_CHANGES_QNAME)), any(NormalizedNode.class));
+            inOrder.verify(rpc).invokeRpc(toPath(NetconfMessageTransformUtil.NETCONF_UNLOCK_QNAME), NetconfBaseOps.getUnLockContent(NETCONF_CANDIDATE_QNAME));
+        }
+    }
+
     @Test
     public void testFailedCommit() throws Exception {
         final CheckedFuture<DefaultDOMRpcResult, Exception> rpcErrorFuture =
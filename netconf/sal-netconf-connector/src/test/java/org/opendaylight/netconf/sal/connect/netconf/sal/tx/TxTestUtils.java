@@ -18,6 +18,9 @@ class TxTestUtils {
 
     private static final QName Q_NAME_1 = QName.create("test:namespace", "2013-07-22", "c");
     private static final QName Q_NAME_2 = QName.create(Q_NAME_1, "a");
+    private static final QName Q_NAME_3 = QName.create(Q_NAME_1, "b");
+    private static final QName LIST_QNAME = QName.create(Q_NAME_1, "l");
+    private static final QName LIST_KEY_QNAME = QName.create(Q_NAME_1, "name");
 
     static YangInstanceIdentifier getContainerId() {
         return YangInstanceIdentifier.builder()
@@ -32,6 +35,29 @@ class TxTestUtils {
                 .build();
     }
 
+    static YangInstanceIdentifier getSecondLeafId() {
+        return YangInstanceIdentifier.builder()
+                .node(Q_NAME_1)
+                .node(Q_NAME_3)
+                .build();
+    }
+
+    static YangInstanceIdentifier getListEntryLeafId(final String name, final String leaf) {
+        return YangInstanceIdentifier.builder()
+                .node(Q_NAME_1)
+                .node(LIST_QNAME)
+                .nodeWithKey(LIST_QNAME, LIST_KEY_QNAME, name)
+                .node(QName.create(Q_NAME_1, leaf))
+                .build();
+    }
+
+    static LeafNode<String> getListEntryLeafNode(final String leaf, final String value) {
+        return Builders.<String>leafBuilder()
+                .withNodeIdentifier(new YangInstanceIdentifier.NodeIdentifier(QName.create(Q_NAME_1, leaf)))
+                .withValue(value)
+                .build();
+    }
+
     static ContainerNode getContainerNode() {
         return Builders.containerBuilder()
                 .withNodeIdentifier(new YangInstanceIdentifier.NodeIdentifier(Q_NAME_1))
@@ -45,4 +71,11 @@ class TxTestUtils {
                 .build();
     }
 
+    static LeafNode<String> getSecondLeafNode() {
+        return Builders.<String>leafBuilder()
+                .withNodeIdentifier(new YangInstanceIdentifier.NodeIdentifier(Q_NAME_3))
+                .withValue("data2")
+                .build();
+    }
+
 }
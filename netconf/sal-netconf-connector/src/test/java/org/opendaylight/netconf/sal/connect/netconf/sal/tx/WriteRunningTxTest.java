@@ -8,6 +8,8 @@
 
 package org.opendaylight.netconf.sal.connect.netconf.sal.tx;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doReturn;
@@ -15,10 +17,14 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import com.google.common.base.Optional;
 import com.google.common.util.concurrent.Futures;
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
@@ -27,9 +33,19 @@ import org.opendaylight.controller.md.sal.dom.spi.DefaultDOMRpcResult;
 import org.opendaylight.netconf.sal.connect.netconf.util.NetconfBaseOps;
 import org.opendaylight.netconf.sal.connect.netconf.util.NetconfMessageTransformUtil;
 import org.opendaylight.netconf.sal.connect.util.RemoteDeviceId;
+import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.netconf.base._1._0.rev110601.edit.config.input.EditContent;
+import org.opendaylight.yangtools.yang.data.api.schema.AnyXmlNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
+import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.opendaylight.yangtools.yang.test.util.YangParserTestUtils;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
 
 public class WriteRunningTxTest {
 
@@ -63,4 +79,97 @@ public class WriteRunningTxTest {
         //check, if unlock is called
         verify(rpc).invokeRpc(eq(SchemaPath.create(true, NetconfMessageTransformUtil.NETCONF_UNLOCK_QNAME)), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testSubmitBatchesEdits() throws Exception {
+        final WriteRunningTx tx = new WriteRunningTx(id, netconfOps, true);
+        tx.put(LogicalDatastoreType.CONFIGURATION, TxTestUtils.getLeafId(), TxTestUtils.getLeafNode());
+        tx.delete(LogicalDatastoreType.CONFIGURATION, TxTestUtils.getSecondLeafId());
+        tx.submit().get();
+        //check, if both edits are sent in one edit-config
+        final ContainerNode editConfig = captureEditConfigs(1).get(0);
+        assertEquals("none", getDefaultOperation(editConfig));
+        final Element configElement = getConfigElement(editConfig);
+        //common parent is present only once
+        assertEquals(1, configElement.getElementsByTagNameNS("test:namespace", "c").getLength());
+        assertEquals("", getOperation(configElement, "c"));
+        assertEquals("replace", getOperation(configElement, "a"));
+        assertEquals("delete", getOperation(configElement, "b"));
+    }
+
+    @Test
+    public void testSubmitNestedMerge() throws Exception {
+        final WriteRunningTx tx = new WriteRunningTx(id, netconfOps, true);
+        tx.merge(LogicalDatastoreType.CONFIGURATION, TxTestUtils.getLeafId(), TxTestUtils.getLeafNode());
+        tx.merge(LogicalDatastoreType.CONFIGURATION, TxTestUtils.getSecondLeafId(), TxTestUtils.getSecondLeafNode());
+        tx.put(LogicalDatastoreType.CONFIGURATION, TxTestUtils.getContainerId(), TxTestUtils.getContainerNode());
+        tx.submit().get();
+        //merges are sent together with the default merge operation, so that parent c is created if it is missing
+        final List<ContainerNode> editConfigs = captureEditConfigs(2);
+        final ContainerNode merges = editConfigs.get(0);
+        assertNull(getDefaultOperation(merges));
+        final Element configElement = getConfigElement(merges);
+        assertEquals(1, configElement.getElementsByTagNameNS("test:namespace", "c").getLength());
+        assertEquals("", getOperation(configElement, "c"));
+        assertEquals("", getOperation(configElement, "a"));
+        assertEquals("", getOperation(configElement, "b"));
+        //put is not batched with merges
+        final ContainerNode put = editConfigs.get(1);
+        assertEquals("none", getDefaultOperation(put));
+        assertEquals("replace", getOperation(getConfigElement(put), "c"));
+    }
+
+    @Test
+    public void testSubmitListEntryMerges() throws Exception {
+        final WriteRunningTx tx = new WriteRunningTx(id, netconfOps, true);
+        tx.merge(LogicalDatastoreType.CONFIGURATION, TxTestUtils.getListEntryLeafId("first", "x"),
+                TxTestUtils.getListEntryLeafNode("x", "1"));
+        tx.merge(LogicalDatastoreType.CONFIGURATION, TxTestUtils.getListEntryLeafId("first", "y"),
+                TxTestUtils.getListEntryLeafNode("y", "2"));
+        tx.merge(LogicalDatastoreType.CONFIGURATION, TxTestUtils.getListEntryLeafId("second", "x"),
+                TxTestUtils.getListEntryLeafNode("x", "3"));
+        tx.submit().get();
+        //leaves of the same entry share it, entries with different keys are kept apart
+        final Element configElement = getConfigElement(captureEditConfigs(1).get(0));
+        assertEquals(1, configElement.getElementsByTagNameNS("test:namespace", "c").getLength());
+        final NodeList entries = configElement.getElementsByTagNameNS("test:namespace", "l");
+        assertEquals(2, entries.getLength());
+        assertEquals(1, ((Element) entries.item(0)).getElementsByTagNameNS("test:namespace", "name").getLength());
+        assertEquals(1, ((Element) entries.item(0)).getElementsByTagNameNS("test:namespace", "x").getLength());
+        assertEquals(1, ((Element) entries.item(0)).getElementsByTagNameNS("test:namespace", "y").getLength());
+        assertEquals(1, ((Element) entries.item(1)).getElementsByTagNameNS("test:namespace", "x").getLength());
+        assertEquals(0, ((Element) entries.item(1)).getElementsByTagNameNS("test:namespace", "y").getLength());
+    }
+
+    private List<ContainerNode> captureEditConfigs(final int count) {
+        final ArgumentCaptor<NormalizedNode> captor = ArgumentCaptor.forClass(NormalizedNode.class);
+        verify(rpc, times(count)).invokeRpc(
+                eq(SchemaPath.create(true, NetconfMessageTransformUtil.NETCONF_EDIT_CONFIG_QNAME)), captor.capture());
+        final List<ContainerNode> editConfigs = new ArrayList<>();
+        for (final NormalizedNode<?, ?> editConfig : captor.getAllValues()) {
+            editConfigs.add((ContainerNode) editConfig);
+        }
+        return editConfigs;
+    }
+
+    private static String getDefaultOperation(final ContainerNode editConfig) {
+        final Optional<DataContainerChild<?, ?>> defaultOperation = editConfig.getChild(
+                NetconfMessageTransformUtil.toId(NetconfMessageTransformUtil.NETCONF_DEFAULT_OPERATION_QNAME));
+        return defaultOperation.isPresent() ? (String) defaultOperation.get().getValue() : null;
+    }
+
+    private static Element getConfigElement(final ContainerNode editConfig) {
+        final ChoiceNode editContent = (ChoiceNode) editConfig
+                .getChild(NetconfMessageTransformUtil.toId(EditContent.QNAME)).get();
+        final AnyXmlNode config = (AnyXmlNode) editContent
+                .getChild(NetconfMessageTransformUtil.toId(NetconfMessageTransformUtil.NETCONF_CONFIG_QNAME)).get();
+        final Node node = config.getValue().getNode();
+        return node instanceof Document ? ((Document) node).getDocumentElement() : (Element) node;
+    }
+
+    private static String getOperation(final Element configElement, final String name) {
+        final Element element = (Element) configElement.getElementsByTagNameNS("test:namespace", name).item(0);
+        return element.getAttributeNS(NetconfMessageTransformUtil.NETCONF_OPERATION_QNAME.getNamespace().toString(),
+                "operation");
+    }
+}
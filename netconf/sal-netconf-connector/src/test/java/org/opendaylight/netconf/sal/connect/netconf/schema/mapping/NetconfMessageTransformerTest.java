@@ -38,6 +38,9 @@ import java.io.IOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.xml.transform.dom.DOMSource;
 import org.custommonkey.xmlunit.Diff;
 import org.custommonkey.xmlunit.ElementNameAndAttributeQualifier;
@@ -208,6 +211,42 @@ public class NetconfMessageTransformerTest {
         assertEquals(schemaNode, schemaParent.getValue().iterator().next());
     }
 
+    @Test
+    public void testConcurrentGetConfigResponse() throws Exception {
+        final String reply = "<rpc-reply message-id=\"101\" xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\">\n" +
+                "<data>\n" +
+                "<netconf-state xmlns=\"urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring\">\n" +
+                "<schemas>\n" +
+                "<schema>\n" +
+                "<identifier>module</identifier>\n" +
+                "<version>2012-12-12</version>\n" +
+                "<format xmlns:x=\"urn:ietf:params:xml:ns:yang:ietf-netconf-monitoring\">x:yang</format>\n" +
+                "</schema>\n" +
+                "</schemas>\n" +
+                "</netconf-state>\n" +
+                "</data>\n" +
+                "</rpc-reply>";
+
+        final NetconfMessageTransformer transformer = getTransformer(getSchema(true));
+        final DOMRpcResult expected = transformer.toRpcResult(
+                new NetconfMessage(XmlUtil.readXmlToDocument(reply)), toPath(NETCONF_GET_CONFIG_QNAME));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<DOMRpcResult>> results = Lists.newArrayList();
+            for (int i = 0; i < 64; i++) {
+                results.add(executor.submit(() -> transformer.toRpcResult(
+                        new NetconfMessage(XmlUtil.readXmlToDocument(reply)), toPath(NETCONF_GET_CONFIG_QNAME))));
+            }
+
+            for (final Future<DOMRpcResult> result : results) {
+                assertEquals(expected.getResult(), result.get().getResult());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
     @Test
     public void testGetConfigRequest() throws Exception {
         final DataContainerChild<?, ?> filter = toFilterStructure(
@@ -316,6 +355,24 @@ public class NetconfMessageTransformerTest {
         assertNull(compositeNodeRpcResult.getResult());
     }
 
+    @Test
+    public void testResponseStatistics() throws Exception {
+        final NetconfMessage dataResponse = new NetconfMessage(XmlUtil.readXmlToDocument(
+                "<rpc-reply xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><data/></rpc-reply>"));
+        final NetconfMessage okResponse = new NetconfMessage(XmlUtil.readXmlToDocument(
+                "<rpc-reply xmlns=\"urn:ietf:params:xml:ns:netconf:base:1.0\"><ok/></rpc-reply>"));
+        netconfMessageTransformer.toRpcResult(dataResponse, toPath(NETCONF_GET_CONFIG_QNAME));
+        netconfMessageTransformer.toRpcResult(okResponse, toPath(NETCONF_COMMIT_QNAME));
+
+        // schema is looked up for both replies, the ok reply has no content to parse
+        final MessageTransformerStatistics statistics = netconfMessageTransformer.getStatistics();
+        assertEquals(2, statistics.getSchemaLookups());
+        assertEquals(1, statistics.getParses());
+        assertEquals(0, statistics.getNotificationSchemasCreated());
+        assertTrue(statistics.getSchemaLookupNanos() >= 0);
+        assertTrue(statistics.getParseNanos() >= 0);
+    }
+
     public SchemaContext getSchema(boolean addBase) {
         final ModuleInfoBackedContext moduleInfoBackedContext = ModuleInfoBackedContext.create();
         if(addBase) {
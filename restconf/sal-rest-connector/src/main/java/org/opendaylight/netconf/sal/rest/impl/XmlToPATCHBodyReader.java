@@ -25,15 +25,14 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.ext.MessageBodyReader;
 import javax.ws.rs.ext.Provider;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLStreamException;
 import org.opendaylight.netconf.sal.rest.api.Draft02;
 import org.opendaylight.netconf.sal.rest.api.RestconfService;
 import org.opendaylight.netconf.sal.restconf.impl.InstanceIdentifierContext;
 import org.opendaylight.netconf.sal.restconf.impl.PATCHContext;
 import org.opendaylight.netconf.sal.restconf.impl.PATCHEditOperation;
 import org.opendaylight.netconf.sal.restconf.impl.PATCHEntity;
+import org.opendaylight.netconf.sal.restconf.impl.PATCHXmlStreamReader;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfDocumentedException;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfError.ErrorTag;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfError.ErrorType;
@@ -52,7 +51,6 @@ import org.opendaylight.yangtools.yang.model.api.SchemaNode;
 import org.opendaylight.yangtools.yang.model.util.SchemaContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
@@ -68,25 +66,6 @@ public class XmlToPATCHBodyReader extends AbstractIdentifierAwareJaxRsProvider i
         MessageBodyReader<PATCHContext> {
 
     private final static Logger LOG = LoggerFactory.getLogger(XmlToPATCHBodyReader.class);
-    private static final DocumentBuilderFactory BUILDERFACTORY;
-
-    static {
-        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        try {
-            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-            factory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-            factory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-            factory.setXIncludeAware(false);
-            factory.setExpandEntityReferences(false);
-        } catch (final ParserConfigurationException e) {
-            throw new ExceptionInInitializerError(e);
-        }
-        factory.setNamespaceAware(true);
-        factory.setCoalescing(true);
-        factory.setIgnoringElementContentWhitespace(true);
-        factory.setIgnoringComments(true);
-        BUILDERFACTORY = factory;
-    }
 
     @Override
     public boolean isReadable(final Class<?> type, final Type genericType,
@@ -108,15 +87,7 @@ public class XmlToPATCHBodyReader extends AbstractIdentifierAwareJaxRsProvider i
                 return new PATCHContext(path, null, null);
             }
 
-            final DocumentBuilder dBuilder;
-            try {
-                dBuilder = BUILDERFACTORY.newDocumentBuilder();
-            } catch (final ParserConfigurationException e) {
-                throw new IllegalStateException("Failed to parse XML document", e);
-            }
-            final Document doc = dBuilder.parse(entityStream);
-
-            return parse(path, doc);
+            return parse(path, entityStream);
         } catch (final RestconfDocumentedException e) {
             throw e;
         } catch (final Exception e) {
@@ -127,81 +98,96 @@ public class XmlToPATCHBodyReader extends AbstractIdentifierAwareJaxRsProvider i
         }
     }
 
-    private PATCHContext parse(final InstanceIdentifierContext<?> pathContext, final Document doc) {
+    private PATCHContext parse(final InstanceIdentifierContext<?> pathContext, final InputStream entityStream)
+            throws XMLStreamException {
         final List<PATCHEntity> resultCollection = new ArrayList<>();
-        final String patchId = doc.getElementsByTagName("patch-id").item(0).getFirstChild().getNodeValue();
-        final NodeList editNodes = doc.getElementsByTagName("edit");
         final DomToNormalizedNodeParserFactory parserFactory =
                 DomToNormalizedNodeParserFactory.getInstance(XmlUtils.DEFAULT_XML_CODEC_PROVIDER,
                         pathContext.getSchemaContext());
 
-        for (int i = 0; i < editNodes.getLength(); i++) {
-            DataSchemaNode schemaNode = (DataSchemaNode) pathContext.getSchemaNode();
-            final Element element = (Element) editNodes.item(i);
-            final String operation = element.getElementsByTagName("operation").item(0).getFirstChild().getNodeValue();
-            final String editId = element.getElementsByTagName("edit-id").item(0).getFirstChild().getNodeValue();
-            final String target = element.getElementsByTagName("target").item(0).getFirstChild().getNodeValue();
-            final List<Element> values = readValueNodes(element, operation);
-            final Element firstValueElement = values != null ? values.get(0) : null;
-
-            // get namespace according to schema node from path context or value
-            final String namespace = (firstValueElement == null) ?
-                    schemaNode.getQName().getNamespace().toString() : firstValueElement.getNamespaceURI();
-
-            // find module according to namespace
-            final Module module = pathContext.getSchemaContext().findModuleByNamespace(
-                    URI.create(namespace)).iterator().next();
-
-            // initialize codec + set default prefix derived from module name
-            final StringModuleInstanceIdentifierCodec codec = new StringModuleInstanceIdentifierCodec(
-                    pathContext.getSchemaContext(), module.getName());
-
-            // find complete path to target and target schema node
-            // target can be also empty (only slash)
-            YangInstanceIdentifier targetII;
-            final SchemaNode targetNode;
-            if (target.equals("/")) {
-                targetII = pathContext.getInstanceIdentifier();
-                targetNode = pathContext.getSchemaContext();
-            } else {
-                targetII = codec.deserialize(codec.serialize(pathContext.getInstanceIdentifier())
-                        .concat(prepareNonCondXpath(schemaNode, target.replaceFirst("/", ""), firstValueElement,
-                                namespace, module.getQNameModule().getFormattedRevision())));
+        // edits are parsed as they are read, only one of them is held as DOM at a time
+        final String patchId = PATCHXmlStreamReader.readPATCH(entityStream,
+                element -> resultCollection.add(parseEdit(pathContext, parserFactory, element)));
+        if (patchId == null) {
+            LOG.debug("Missing patch-id in PATCH request to {}", pathContext.getSchemaNode());
+            throw new RestconfDocumentedException("Error parsing input", ErrorType.PROTOCOL,
+                    ErrorTag.MALFORMED_MESSAGE);
+        }
 
-                targetNode = SchemaContextUtil.findDataSchemaNode(pathContext.getSchemaContext(),
-                        codec.getDataContextTree().getChild(targetII).getDataSchemaNode().getPath().getParent());
+        return new PATCHContext(pathContext, ImmutableList.copyOf(resultCollection), patchId);
+    }
 
-                // move schema node
-                schemaNode = (DataSchemaNode) SchemaContextUtil.findDataSchemaNode(pathContext.getSchemaContext(),
-                        codec.getDataContextTree().getChild(targetII).getDataSchemaNode().getPath());
-            }
+    /**
+     * Parse single edit operation
+     * @param pathContext Context of request path
+     * @param parserFactory Parser of edit values
+     * @param element Element of edit operation
+     * @return Parsed edit operation
+     */
+    private PATCHEntity parseEdit(final InstanceIdentifierContext<?> pathContext,
+                                  final DomToNormalizedNodeParserFactory parserFactory, final Element element) {
+        DataSchemaNode schemaNode = (DataSchemaNode) pathContext.getSchemaNode();
+        final String operation = element.getElementsByTagName("operation").item(0).getFirstChild().getNodeValue();
+        final String editId = element.getElementsByTagName("edit-id").item(0).getFirstChild().getNodeValue();
+        final String target = element.getElementsByTagName("target").item(0).getFirstChild().getNodeValue();
+        final List<Element> values = readValueNodes(element, operation);
+        final Element firstValueElement = values != null ? values.get(0) : null;
+
+        // get namespace according to schema node from path context or value
+        final String namespace = (firstValueElement == null) ?
+                schemaNode.getQName().getNamespace().toString() : firstValueElement.getNamespaceURI();
+
+        // find module according to namespace
+        final Module module = pathContext.getSchemaContext().findModuleByNamespace(
+                URI.create(namespace)).iterator().next();
+
+        // initialize codec + set default prefix derived from module name
+        final StringModuleInstanceIdentifierCodec codec = new StringModuleInstanceIdentifierCodec(
+                pathContext.getSchemaContext(), module.getName());
+
+        // find complete path to target and target schema node
+        // target can be also empty (only slash)
+        YangInstanceIdentifier targetII;
+        final SchemaNode targetNode;
+        if (target.equals("/")) {
+            targetII = pathContext.getInstanceIdentifier();
+            targetNode = pathContext.getSchemaContext();
+        } else {
+            targetII = codec.deserialize(codec.serialize(pathContext.getInstanceIdentifier())
+                    .concat(prepareNonCondXpath(schemaNode, target.replaceFirst("/", ""), firstValueElement,
+                            namespace, module.getQNameModule().getFormattedRevision())));
+
+            targetNode = SchemaContextUtil.findDataSchemaNode(pathContext.getSchemaContext(),
+                    codec.getDataContextTree().getChild(targetII).getDataSchemaNode().getPath().getParent());
+
+            // move schema node
+            schemaNode = (DataSchemaNode) SchemaContextUtil.findDataSchemaNode(pathContext.getSchemaContext(),
+                    codec.getDataContextTree().getChild(targetII).getDataSchemaNode().getPath());
+        }
 
-            if (targetNode == null) {
-                LOG.debug("Target node {} not found in path {} ", target, pathContext.getSchemaNode());
-                throw new RestconfDocumentedException("Error parsing input", ErrorType.PROTOCOL,
-                        ErrorTag.MALFORMED_MESSAGE);
-            } else {
-                if (PATCHEditOperation.isPatchOperationWithValue(operation)) {
-                    NormalizedNode<?, ?> parsed = null;
-                    if (schemaNode instanceof ContainerSchemaNode) {
-                        parsed = parserFactory.getContainerNodeParser().parse(values, (ContainerSchemaNode) schemaNode);
-                    } else if (schemaNode instanceof ListSchemaNode) {
-                        parsed = parserFactory.getMapNodeParser().parse(values, (ListSchemaNode) schemaNode);
-                    }
-
-                    // for lists allow to manipulate with list items through their parent
-                    if (targetII.getLastPathArgument() instanceof NodeIdentifierWithPredicates) {
-                        targetII = targetII.getParent();
-                    }
-
-                    resultCollection.add(new PATCHEntity(editId, operation, targetII, parsed));
-                } else {
-                    resultCollection.add(new PATCHEntity(editId, operation, targetII));
+        if (targetNode == null) {
+            LOG.debug("Target node {} not found in path {} ", target, pathContext.getSchemaNode());
+            throw new RestconfDocumentedException("Error parsing input", ErrorType.PROTOCOL,
+                    ErrorTag.MALFORMED_MESSAGE);
+        } else {
+            if (PATCHEditOperation.isPatchOperationWithValue(operation)) {
+                NormalizedNode<?, ?> parsed = null;
+                if (schemaNode instanceof ContainerSchemaNode) {
+                    parsed = parserFactory.getContainerNodeParser().parse(values, (ContainerSchemaNode) schemaNode);
+                } else if (schemaNode instanceof ListSchemaNode) {
+                    parsed = parserFactory.getMapNodeParser().parse(values, (ListSchemaNode) schemaNode);
                 }
+
+                // for lists allow to manipulate with list items through their parent
+                if (targetII.getLastPathArgument() instanceof NodeIdentifierWithPredicates) {
+                    targetII = targetII.getParent();
+                }
+
+                return new PATCHEntity(editId, operation, targetII, parsed);
+            } else {
+                return new PATCHEntity(editId, operation, targetII);
             }
         }
-
-        return new PATCHContext(pathContext, ImmutableList.copyOf(resultCollection), patchId);
     }
 
     /**
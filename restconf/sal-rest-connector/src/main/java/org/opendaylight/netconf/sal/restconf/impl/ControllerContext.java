@@ -97,6 +97,9 @@ public class ControllerContext implements SchemaContextListener {
     private DataNormalizer dataNormalizer;
 
     public void setGlobalSchema(final SchemaContext globalSchema) {
+        if (this.globalSchema != globalSchema) {
+            JsonCodecFactoryCache.invalidate(this.globalSchema);
+        }
         this.globalSchema = globalSchema;
         this.dataNormalizer = new DataNormalizer(globalSchema);
     }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.restconf.impl;
+
+import com.google.common.base.Optional;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.CacheStats;
+import com.google.common.cache.LoadingCache;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.opendaylight.controller.md.sal.dom.api.DOMMountPoint;
+import org.opendaylight.controller.md.sal.dom.api.DOMMountPointService;
+import org.opendaylight.controller.sal.core.api.mount.MountProvisionListener;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+/**
+ * Cache of {@link JSONCodecFactory} instances shared by JSON writers of RESTCONF. Codec factory builds codecs
+ * of leaves and types lazily, so creating it for every response throws this work away. Factory holds its
+ * {@link SchemaContext}, so the values are soft and the number of entries is bounded, entries of the global schema
+ * and of mount points are also invalidated when they are replaced or removed.
+ */
+public final class JsonCodecFactoryCache {
+
+    private static final int MAX_CACHED_FACTORIES = 64;
+
+    private static final LoadingCache<SchemaContext, JSONCodecFactory> CODECS = CacheBuilder.newBuilder()
+            .weakKeys().softValues().maximumSize(MAX_CACHED_FACTORIES).recordStats()
+            .build(CacheLoader.from(JSONCodecFactory::create));
+
+    private JsonCodecFactoryCache() {
+        throw new UnsupportedOperationException("Util class");
+    }
+
+    /**
+     * Get codec factory of schema context, create it if it is not cached yet.
+     *
+     * @param schemaContext
+     *            - schema context
+     * @return {@link JSONCodecFactory}
+     */
+    public static JSONCodecFactory get(final SchemaContext schemaContext) {
+        Preconditions.checkNotNull(schemaContext, "Schema context is missing");
+        return CODECS.getUnchecked(schemaContext);
+    }
+
+    /**
+     * Drop codec factory of schema context, which is being replaced.
+     *
+     * @param schemaContext
+     *            - schema context, null is ignored
+     */
+    public static void invalidate(final SchemaContext schemaContext) {
+        if (schemaContext != null) {
+            CODECS.invalidate(schemaContext);
+        }
+    }
+
+    /**
+     * @return number of cached codec factories
+     */
+    public static long size() {
+        return CODECS.size();
+    }
+
+    /**
+     * @return hit, miss and eviction statistics of the cache
+     */
+    public static CacheStats stats() {
+        return CODECS.stats();
+    }
+
+    /**
+     * Listener invalidating codec factory of mount point, when the mount point is removed. Schema context of mount
+     * point is not available after its removal, so it is remembered when the mount point is created.
+     */
+    public static final class MountPointListener implements MountProvisionListener {
+
+        private final DOMMountPointService mountService;
+        private final Map<YangInstanceIdentifier, SchemaContext> mountedSchemas = new ConcurrentHashMap<>();
+
+        public MountPointListener(final DOMMountPointService mountService) {
+            this.mountService = Preconditions.checkNotNull(mountService);
+        }
+
+        @Override
+        public void onMountPointCreated(final YangInstanceIdentifier path) {
+            final Optional<DOMMountPoint> mountPoint = this.mountService.getMountPoint(path);
+            if (mountPoint.isPresent() && mountPoint.get().getSchemaContext() != null) {
+                this.mountedSchemas.put(path, mountPoint.get().getSchemaContext());
+            }
+        }
+
+        @Override
+        public void onMountPointRemoved(final YangInstanceIdentifier path) {
+            invalidate(this.mountedSchemas.remove(path));
+        }
+    }
+}
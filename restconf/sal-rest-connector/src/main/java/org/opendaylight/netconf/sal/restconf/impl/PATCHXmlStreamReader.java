@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.restconf.impl;
+
+import com.google.common.base.Strings;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.function.Consumer;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Streaming reader of yang-patch XML documents. Document is read with StAX and only a single edit is kept in memory
+ * as DOM at a time, so the size of the request does not determine memory needed to parse it. Each edit element
+ * is detached from the document and carries all namespace declarations in scope, so prefixes used in its values
+ * can still be resolved.
+ */
+public final class PATCHXmlStreamReader {
+
+    private static final String PATCH_ID = "patch-id";
+    private static final String EDIT = "edit";
+
+    private static final XMLInputFactory INPUT_FACTORY;
+    private static final DocumentBuilderFactory BUILDERFACTORY;
+
+    static {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        // no DTDs nor external entities, the same as for DOM readers
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        INPUT_FACTORY = factory;
+
+        final DocumentBuilderFactory builderFactory = DocumentBuilderFactory.newInstance();
+        builderFactory.setNamespaceAware(true);
+        BUILDERFACTORY = builderFactory;
+    }
+
+    private PATCHXmlStreamReader() {
+        throw new UnsupportedOperationException("Util class");
+    }
+
+    /**
+     * Read yang-patch document and hand over its edits one by one, in the order they appear in the document.
+     *
+     * @param entityStream
+     *            - stream of yang-patch document
+     * @param editConsumer
+     *            - consumer of edit elements
+     * @return value of patch-id, null if it is missing
+     * @throws XMLStreamException
+     *             if document is not well-formed
+     */
+    public static String readPATCH(final InputStream entityStream, final Consumer<Element> editConsumer)
+            throws XMLStreamException {
+        final XMLStreamReader reader = INPUT_FACTORY.createXMLStreamReader(entityStream);
+        try {
+            // namespaces declared by enclosing elements, innermost first
+            final Deque<Map<String, String>> namespaces = new ArrayDeque<>();
+            String patchId = null;
+            while (reader.hasNext()) {
+                final int event = reader.next();
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    namespaces.pop();
+                    continue;
+                }
+                if (event != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+
+                namespaces.push(getDeclaredNamespaces(reader));
+                // both branches consume the element including its end
+                if (PATCH_ID.equals(reader.getLocalName()) && patchId == null) {
+                    patchId = reader.getElementText();
+                    namespaces.pop();
+                } else if (EDIT.equals(reader.getLocalName())) {
+                    editConsumer.accept(readElement(reader, namespaces));
+                    namespaces.pop();
+                }
+            }
+            return patchId;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static Element readElement(final XMLStreamReader reader, final Deque<Map<String, String>> namespaces)
+            throws XMLStreamException {
+        final Document doc;
+        try {
+            doc = BUILDERFACTORY.newDocumentBuilder().newDocument();
+        } catch (final ParserConfigurationException e) {
+            throw new IllegalStateException("Failed to create XML document", e);
+        }
+
+        final Element root = createElement(doc, reader);
+        // declare namespaces of enclosing elements, inner declarations override outer ones
+        final Map<String, String> inScope = new LinkedHashMap<>();
+        for (final Iterator<Map<String, String>> it = namespaces.descendingIterator(); it.hasNext();) {
+            inScope.putAll(it.next());
+        }
+        for (final Entry<String, String> namespace : inScope.entrySet()) {
+            root.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, xmlnsAttribute(namespace.getKey()),
+                    namespace.getValue());
+        }
+        doc.appendChild(root);
+
+        Node current = root;
+        while (current != doc) {
+            switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    final Element child = createElement(doc, reader);
+                    current.appendChild(child);
+                    current = child;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    current = current.getParentNode();
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    current.appendChild(doc.createTextNode(reader.getText()));
+                    break;
+                default:
+                    break;
+            }
+        }
+        return root;
+    }
+
+    private static Element createElement(final Document doc, final XMLStreamReader reader) {
+        final Element element = doc.createElementNS(Strings.emptyToNull(reader.getNamespaceURI()),
+                qualifiedName(reader.getPrefix(), reader.getLocalName()));
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            element.setAttributeNS(XMLConstants.XMLNS_ATTRIBUTE_NS_URI, xmlnsAttribute(reader.getNamespacePrefix(i)),
+                    reader.getNamespaceURI(i));
+        }
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            element.setAttributeNS(Strings.emptyToNull(reader.getAttributeNamespace(i)),
+                    qualifiedName(reader.getAttributePrefix(i), reader.getAttributeLocalName(i)),
+                    reader.getAttributeValue(i));
+        }
+        return element;
+    }
+
+    private static Map<String, String> getDeclaredNamespaces(final XMLStreamReader reader) {
+        final Map<String, String> declared = new LinkedHashMap<>();
+        for (int i = 0; i < reader.getNamespaceCount(); i++) {
+            declared.put(Strings.nullToEmpty(reader.getNamespacePrefix(i)), reader.getNamespaceURI(i));
+        }
+        return declared;
+    }
+
+    private static String qualifiedName(final String prefix, final String localName) {
+        return Strings.isNullOrEmpty(prefix) ? localName : prefix + ':' + localName;
+    }
+
+    private static String xmlnsAttribute(final String prefix) {
+        return Strings.isNullOrEmpty(prefix) ? XMLConstants.XMLNS_ATTRIBUTE
+                : XMLConstants.XMLNS_ATTRIBUTE + ':' + prefix;
+    }
+}
@@ -7,25 +7,30 @@
  */
 package org.opendaylight.netconf.sal.restconf.impl;
 
+import com.google.common.cache.CacheStats;
 import java.math.BigInteger;
 import java.util.Collection;
 import java.util.Collections;
 import org.opendaylight.controller.config.yang.md.sal.rest.connector.Config;
 import org.opendaylight.controller.config.yang.md.sal.rest.connector.Delete;
 import org.opendaylight.controller.config.yang.md.sal.rest.connector.Get;
+import org.opendaylight.controller.config.yang.md.sal.rest.connector.JsonCodecCache;
 import org.opendaylight.controller.config.yang.md.sal.rest.connector.Operational;
 import org.opendaylight.controller.config.yang.md.sal.rest.connector.Post;
 import org.opendaylight.controller.config.yang.md.sal.rest.connector.Put;
 import org.opendaylight.controller.config.yang.md.sal.rest.connector.RestConnectorRuntimeMXBean;
 import org.opendaylight.controller.config.yang.md.sal.rest.connector.Rpcs;
+import org.opendaylight.controller.config.yang.md.sal.rest.connector.Streams;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataBroker;
 import org.opendaylight.controller.md.sal.dom.api.DOMMountPointService;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotificationService;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
 import org.opendaylight.controller.sal.core.api.Broker.ProviderSession;
 import org.opendaylight.controller.sal.core.api.Provider;
+import org.opendaylight.controller.sal.core.api.mount.MountProvisionListener;
 import org.opendaylight.controller.sal.core.api.model.SchemaService;
 import org.opendaylight.netconf.sal.rest.api.RestConnector;
+import org.opendaylight.netconf.sal.streams.listeners.Notificator;
 import org.opendaylight.netconf.sal.streams.websockets.WebSocketServer;
 import org.opendaylight.yang.gen.v1.urn.ietf.params.xml.ns.yang.ietf.inet.types.rev130715.PortNumber;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
@@ -35,6 +40,7 @@ public class RestconfProviderImpl implements Provider, AutoCloseable, RestConnec
 
     private final StatisticsRestconfServiceWrapper stats = StatisticsRestconfServiceWrapper.getInstance();
     private ListenerRegistration<SchemaContextListener> listenerRegistration;
+    private ListenerRegistration<MountProvisionListener> mountListenerRegistration;
     private PortNumber port;
     private Thread webSocketServerThread;
 
@@ -54,7 +60,12 @@ public class RestconfProviderImpl implements Provider, AutoCloseable, RestConnec
         BrokerFacade.getInstance().setDomNotificationService(session.getService(DOMNotificationService.class));
 
         ControllerContext.getInstance().setSchemas(schemaService.getGlobalContext());
-        ControllerContext.getInstance().setMountService(session.getService(DOMMountPointService.class));
+        final DOMMountPointService mountService = session.getService(DOMMountPointService.class);
+        ControllerContext.getInstance().setMountService(mountService);
+        if (mountService != null) {
+            this.mountListenerRegistration =
+                    mountService.registerProvisionListener(new JsonCodecFactoryCache.MountPointListener(mountService));
+        }
 
         this.webSocketServerThread = new Thread(WebSocketServer.createInstance(this.port.getValue().intValue()));
         this.webSocketServerThread.setName("Web socket server on port " + this.port);
@@ -73,6 +84,10 @@ public class RestconfProviderImpl implements Provider, AutoCloseable, RestConnec
             this.listenerRegistration.close();
         }
 
+        if (this.mountListenerRegistration != null) {
+            this.mountListenerRegistration.close();
+        }
+
         WebSocketServer.destroyInstance();
         this.webSocketServerThread.interrupt();
     }
@@ -127,4 +142,23 @@ public class RestconfProviderImpl implements Provider, AutoCloseable, RestConnec
         rpcs.setReceivedRequests(rpcInvoke);
         return rpcs;
     }
+
+    @Override
+    public Streams getStreams() {
+        final Streams streams = new Streams();
+        streams.setQueuedNotifications(BigInteger.valueOf(Notificator.getQueuedNotifications()));
+        streams.setDroppedNotifications(BigInteger.valueOf(Notificator.getDroppedNotifications()));
+        return streams;
+    }
+
+    @Override
+    public JsonCodecCache getJsonCodecCache() {
+        final CacheStats cacheStats = JsonCodecFactoryCache.stats();
+        final JsonCodecCache cache = new JsonCodecCache();
+        cache.setSize(BigInteger.valueOf(JsonCodecFactoryCache.size()));
+        cache.setHitCount(BigInteger.valueOf(cacheStats.hitCount()));
+        cache.setMissCount(BigInteger.valueOf(cacheStats.missCount()));
+        cache.setEvictionCount(BigInteger.valueOf(cacheStats.evictionCount()));
+        return cache;
+    }
 }
@@ -7,12 +7,9 @@
  */
 package org.opendaylight.netconf.sal.streams.listeners;
 
-import com.google.common.eventbus.AsyncEventBus;
-import com.google.common.eventbus.EventBus;
 import io.netty.channel.Channel;
 import io.netty.util.internal.ConcurrentSet;
 import java.util.Set;
-import java.util.concurrent.Executors;
 import org.opendaylight.yangtools.concepts.ListenerRegistration;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,20 +22,11 @@ abstract class AbstractCommonSubscriber extends AbstractQueryParams implements B
     private static final Logger LOG = LoggerFactory.getLogger(AbstractCommonSubscriber.class);
 
     private final Set<Channel> subscribers = new ConcurrentSet<>();
-    private final EventBus eventBus;
+    private final StreamEventQueue eventQueue = new StreamEventQueue();
 
-    @SuppressWarnings("rawtypes")
-    private EventBusChangeRecorder eventBusChangeRecorder;
     @SuppressWarnings("rawtypes")
     private ListenerRegistration registration;
 
-    /**
-     * Creating {@link EventBus}
-     */
-    protected AbstractCommonSubscriber() {
-        this.eventBus = new AsyncEventBus(Executors.newSingleThreadExecutor());
-    }
-
     @Override
     public final boolean hasSubscribers() {
         return !this.subscribers.isEmpty();
@@ -49,6 +37,16 @@ abstract class AbstractCommonSubscriber extends AbstractQueryParams implements B
         return this.subscribers;
     }
 
+    @Override
+    public final int getQueuedNotifications() {
+        return this.eventQueue.getQueuedNotifications();
+    }
+
+    @Override
+    public final long getDroppedNotifications() {
+        return this.eventQueue.getDroppedNotifications();
+    }
+
     @Override
     public final void close() throws Exception {
         this.registration.close();
@@ -71,7 +69,7 @@ abstract class AbstractCommonSubscriber extends AbstractQueryParams implements B
         }
         final Event event = new Event(EventType.REGISTER);
         event.setSubscriber(subscriber);
-        this.eventBus.post(event);
+        this.eventQueue.post(event);
     }
 
     /**
@@ -84,7 +82,7 @@ abstract class AbstractCommonSubscriber extends AbstractQueryParams implements B
         LOG.debug("Subscriber {} is removed.", subscriber.remoteAddress());
         final Event event = new Event(EventType.DEREGISTER);
         event.setSubscriber(subscriber);
-        this.eventBus.post(event);
+        this.eventQueue.post(event);
     }
 
     /**
@@ -108,34 +106,31 @@ abstract class AbstractCommonSubscriber extends AbstractQueryParams implements B
     }
 
     /**
-     * Creating and registering {@link EventBusChangeRecorder} of specific
-     * listener on {@link EventBus}
+     * Creating {@link EventBusChangeRecorder} of specific listener processing
+     * events of this stream
      *
      * @param listener
      *            - specific listener of notifications
      */
-    @SuppressWarnings({ "unchecked", "rawtypes" })
     protected <T extends BaseListenerInterface> void register(final T listener) {
-        this.eventBusChangeRecorder = new EventBusChangeRecorder(listener);
-        this.eventBus.register(this.eventBusChangeRecorder);
+        this.eventQueue.setRecorder(new EventBusChangeRecorder<>(listener));
     }
 
     /**
-     * Post event to event bus
+     * Post event to be dispatched to subscribers
      *
      * @param event
      *            - data of incoming notifications
      */
     protected void post(final Event event) {
-        this.eventBus.post(event);
+        this.eventQueue.post(event);
     }
 
     /**
-     * Removes all subscribers and unregisters event bus change recorder form
-     * event bus
+     * Removes all subscribers and stops processing of events of this stream
      */
     protected void unregister() {
         this.subscribers.clear();
-        this.eventBus.unregister(this.eventBusChangeRecorder);
+        this.eventQueue.setRecorder(null);
     }
 }
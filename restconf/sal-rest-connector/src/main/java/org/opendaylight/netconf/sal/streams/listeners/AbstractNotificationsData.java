@@ -7,10 +7,13 @@
  */
 package org.opendaylight.netconf.sal.streams.listeners;
 
-import java.io.ByteArrayOutputStream;
+import com.google.gson.stream.JsonWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufOutputStream;
+import io.netty.buffer.PooledByteBufAllocator;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
-import java.io.UnsupportedEncodingException;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import javax.xml.parsers.DocumentBuilder;
@@ -34,6 +37,7 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
 import org.opendaylight.yangtools.yang.data.impl.codec.xml.XMLStreamNormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.impl.codec.xml.XmlDocumentUtils;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
@@ -181,29 +185,40 @@ abstract class AbstractNotificationsData {
     }
 
     /**
-     * Generating of {@link Document} transforming to string
+     * Generating of {@link Document} transforming to buffer
      *
      * @param doc
      *            - {@link Document} with data
-     * @return - string from {@link Document}
+     * @return - pooled buffer with UTF-8 encoded {@link Document}
      */
-    protected String transformDoc(final Document doc) {
-        try {
-            final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    protected ByteBuf transformDoc(final Document doc) {
+        final ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
+        try (Writer writer = new OutputStreamWriter(new ByteBufOutputStream(buf), StandardCharsets.UTF_8)) {
             final Transformer transformer = ListenersConstants.FACTORY.newTransformer();
             transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "no");
             transformer.setOutputProperty(OutputKeys.METHOD, "xml");
             transformer.setOutputProperty(OutputKeys.INDENT, "yes");
             transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
             transformer.setOutputProperty("{http://xml.apache.org/xslt}indent-amount", "4");
-            transformer.transform(new DOMSource(doc),
-                    new StreamResult(new OutputStreamWriter(out, StandardCharsets.UTF_8)));
-            final byte[] charData = out.toByteArray();
-            return new String(charData, "UTF-8");
-        } catch (TransformerException | UnsupportedEncodingException e) {
+            transformer.transform(new DOMSource(doc), new StreamResult(writer));
+        } catch (TransformerException | IOException e) {
             final String msg = "Error during transformation of Document into String";
             LOG.error(msg, e);
-            return msg;
+            buf.clear();
+            buf.writeBytes(msg.getBytes(StandardCharsets.UTF_8));
         }
+        return buf;
+    }
+
+    /**
+     * Create JSON writer of event data
+     *
+     * @param buf
+     *            - pooled buffer receiving UTF-8 encoded JSON
+     * @return {@link JsonWriter}, has to be closed to flush written data
+     */
+    protected static JsonWriter createJsonWriter(final ByteBuf buf) {
+        return JsonWriterFactory.createJsonWriter(
+                new OutputStreamWriter(new ByteBufOutputStream(buf), StandardCharsets.UTF_8));
     }
 }
@@ -7,16 +7,19 @@
  */
 package org.opendaylight.netconf.sal.streams.listeners;
 
-import java.io.StringReader;
 import java.util.Date;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfDocumentedException;
+import org.opendaylight.netconf.sal.restconf.impl.RestconfError.ErrorTag;
+import org.opendaylight.netconf.sal.restconf.impl.RestconfError.ErrorType;
 import org.w3c.dom.Document;
-import org.xml.sax.InputSource;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
 
 /**
  * Features of query parameters part of both notifications
@@ -28,7 +31,9 @@ abstract class AbstractQueryParams extends AbstractNotificationsData {
     protected Date stop = null;
     protected String filter = null;
 
-    private String xml;
+    // Filter compiled when query parameters are set, XPathExpression is not thread-safe, it is evaluated while
+    // holding its lock
+    private XPathExpression compiledFilter = null;
 
     /**
      * Set query parameters for listener
@@ -44,24 +49,33 @@ abstract class AbstractQueryParams extends AbstractNotificationsData {
         this.start = start;
         this.stop = stop;
         this.filter = filter;
+        this.compiledFilter = filter == null ? null : compileFilter(filter);
+    }
+
+    private static XPathExpression compileFilter(final String filter) {
+        try {
+            return XPathFactory.newInstance().newXPath().compile(filter);
+        } catch (final XPathExpressionException e) {
+            throw new RestconfDocumentedException("Invalid filter " + filter, ErrorType.PROTOCOL,
+                    ErrorTag.INVALID_VALUE, e);
+        }
     }
 
     /**
      * Checking query parameters on specific notification
      *
-     * @param xml
+     * @param doc
      *            - data of notification
      * @param listener
      *            - listener of notification
      * @return true if notification meets the requirements of query parameters,
      *         false otherwise
      */
-    protected <T extends BaseListenerInterface> boolean checkQueryParams(final String xml, final T listener) {
-        this.xml = xml;
+    protected <T extends BaseListenerInterface> boolean checkQueryParams(final Document doc, final T listener) {
         final Date now = new Date();
         if (this.stop != null) {
             if ((this.start.compareTo(now) < 0) && (this.stop.compareTo(now) > 0)) {
-                return checkFilter();
+                return checkFilter(doc);
             }
             if (this.stop.compareTo(now) < 0) {
                 try {
@@ -73,10 +87,10 @@ abstract class AbstractQueryParams extends AbstractNotificationsData {
         } else if (this.start != null) {
             if (this.start.compareTo(now) < 0) {
                 this.start = null;
-                return checkFilter();
+                return checkFilter(doc);
             }
         } else {
-            return checkFilter();
+            return checkFilter(doc);
         }
         return false;
     }
@@ -84,33 +98,73 @@ abstract class AbstractQueryParams extends AbstractNotificationsData {
     /**
      * Check if is filter used and then prepare and post data do client
      *
-     * @param change
+     * @param doc
      *            - data of notification
      */
-    private boolean checkFilter() {
-        if (this.filter == null) {
+    private boolean checkFilter(final Document doc) {
+        if (this.compiledFilter == null) {
             return true;
         } else {
             try {
-                return parseFilterParam();
-            } catch (final Exception e) {
-                throw new RestconfDocumentedException("Problem while parsing filter.", e);
+                return parseFilterParam(doc);
+            } catch (final XPathExpressionException e) {
+                throw new RestconfDocumentedException("Problem while evaluating filter.", e);
             }
         }
     }
 
     /**
-     * Parse and evaluate filter value by xml
+     * Evaluate compiled filter on notification
      *
+     * @param doc
+     *            - data of notification
      * @return true or false - depends on filter expression and data of
      *         notifiaction
-     * @throws Exception
+     * @throws XPathExpressionException
      */
-    private boolean parseFilterParam() throws Exception {
-        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        final DocumentBuilder builder = factory.newDocumentBuilder();
-        final Document docOfXml = builder.parse(new InputSource(new StringReader(this.xml)));
-        final XPath xPath = XPathFactory.newInstance().newXPath();
-        return (boolean) xPath.compile(this.filter).evaluate(docOfXml, XPathConstants.BOOLEAN);
+    private boolean parseFilterParam(final Document doc) throws XPathExpressionException {
+        final Document filteredDoc = withoutNamespaces(doc);
+        final XPathExpression expression = this.compiledFilter;
+        synchronized (expression) {
+            return (boolean) expression.evaluate(filteredDoc, XPathConstants.BOOLEAN);
+        }
+    }
+
+    /**
+     * Filters were always evaluated on notification parsed without namespace awareness, so that unprefixed names
+     * match elements from any namespace. Copy the notification without namespaces to keep that behavior, which is
+     * still much cheaper than serializing and parsing it.
+     *
+     * @param doc
+     *            - data of notification
+     * @return copy of notification with elements and attributes created without namespaces
+     */
+    private static Document withoutNamespaces(final Document doc) {
+        final Document copy = createDocument();
+        copy.appendChild(copyWithoutNamespaces(copy, doc.getDocumentElement()));
+        return copy;
+    }
+
+    private static Node copyWithoutNamespaces(final Document doc, final Node node) {
+        if (node instanceof Text) {
+            return doc.createTextNode(node.getNodeValue());
+        }
+        if (!(node instanceof Element)) {
+            return null;
+        }
+
+        final Element copy = doc.createElement(node.getNodeName());
+        final NamedNodeMap attributes = node.getAttributes();
+        for (int i = 0; i < attributes.getLength(); i++) {
+            final Node attribute = attributes.item(i);
+            copy.setAttribute(attribute.getNodeName(), attribute.getNodeValue());
+        }
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            final Node copiedChild = copyWithoutNamespaces(doc, child);
+            if (copiedChild != null) {
+                copy.appendChild(copiedChild);
+            }
+        }
+        return copy;
     }
 }
@@ -44,4 +44,18 @@ interface BaseListenerInterface extends AutoCloseable {
      * @return outputType
      */
     String getOutputType();
+
+    /**
+     * Get number of events waiting to be written to subscribers of the stream
+     *
+     * @return number of queued notifications
+     */
+    int getQueuedNotifications();
+
+    /**
+     * Get number of notifications dropped because subscribers of the stream did not keep up
+     *
+     * @return number of dropped notifications
+     */
+    long getDroppedNotifications();
 }
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.netconf.sal.streams.listeners;
 
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 
 /**
@@ -16,7 +17,7 @@ import io.netty.channel.Channel;
 class Event {
     private final EventType type;
     private Channel subscriber;
-    private String data;
+    private ByteBuf data;
 
     /**
      * Creates new event specified by {@link EventType} type.
@@ -48,11 +49,11 @@ class Event {
     }
 
     /**
-     * Gets event String.
+     * Gets event data, rendered once and shared by all subscribers.
      *
-     * @return String representation of event data.
+     * @return UTF-8 encoded event data, released once delivered to subscribers.
      */
-    public String getData() {
+    public ByteBuf getData() {
         return this.data;
     }
 
@@ -60,9 +61,9 @@ class Event {
      * Sets event data.
      *
      * @param data
-     *            String.
+     *            UTF-8 encoded data, ownership is passed to the event.
      */
-    public void setData(final String data) {
+    public void setData(final ByteBuf data) {
         this.data = data;
     }
 
@@ -7,16 +7,36 @@
  */
 package org.opendaylight.netconf.sal.streams.listeners;
 
-import com.google.common.eventbus.Subscribe;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Delivers events of a stream to its subscribers. Events are processed one by one, see {@link StreamEventQueue}.
+ *
+ * <p>
+ * Frames are written without flush and subscribers are flushed in batches, once the stream has no more queued
+ * events or after {@link #MAX_UNFLUSHED_EVENTS} events. A subscriber, whose channel is not writable since its
+ * outbound buffer reached the high watermark, does not get new frames. It is disconnected if it does not become
+ * writable before {@link #MAX_DROPPED_FRAMES} frames are dropped for it.
+ */
 class EventBusChangeRecorder<T extends BaseListenerInterface> {
 
     private static final Logger LOG = LoggerFactory.getLogger(EventBusChangeRecorder.class);
+
+    static final int MAX_UNFLUSHED_EVENTS = 64;
+    static final int MAX_DROPPED_FRAMES = 256;
+
     private final T listener;
+    private final Set<Channel> unflushed = new HashSet<>();
+    private final Map<Channel, Integer> droppedFrames = new HashMap<>();
+    private int unflushedEvents;
 
     /**
      * Event bus change recorder of specific listener of notifications
@@ -28,7 +48,6 @@ class EventBusChangeRecorder<T extends BaseListenerInterface> {
         this.listener = listener;
     }
 
-    @Subscribe
     public void recordCustomerChange(final Event event) {
         if (event.getType() == EventType.REGISTER) {
             final Channel subscriber = event.getSubscriber();
@@ -37,17 +56,80 @@ class EventBusChangeRecorder<T extends BaseListenerInterface> {
             }
         } else if (event.getType() == EventType.DEREGISTER) {
             this.listener.getSubscribers().remove(event.getSubscriber());
+            forgetSubscriber(event.getSubscriber());
             Notificator.removeListenerIfNoSubscriberExists(this.listener);
         } else if (event.getType() == EventType.NOTIFY) {
-            for (final Channel subscriber : this.listener.getSubscribers()) {
-                if (subscriber.isActive()) {
-                    LOG.debug("Data are sent to subscriber {}:", subscriber.remoteAddress());
-                    subscriber.writeAndFlush(new TextWebSocketFrame(event.getData()));
-                } else {
-                    LOG.debug("Subscriber {} is removed - channel is not active yet.", subscriber.remoteAddress());
-                    this.listener.getSubscribers().remove(subscriber);
+            final ByteBuf data = event.getData();
+            try {
+                for (final Channel subscriber : this.listener.getSubscribers()) {
+                    if (subscriber.isActive()) {
+                        sendData(subscriber, data);
+                    } else {
+                        LOG.debug("Subscriber {} is removed - channel is not active yet.", subscriber.remoteAddress());
+                        this.listener.getSubscribers().remove(subscriber);
+                        forgetSubscriber(subscriber);
+                    }
                 }
+            } finally {
+                data.release();
+            }
+
+            if (++this.unflushedEvents >= MAX_UNFLUSHED_EVENTS) {
+                flush();
             }
         }
     }
+
+    private void sendData(final Channel subscriber, final ByteBuf data) {
+        if (!subscriber.isWritable()) {
+            final Integer previous = this.droppedFrames.get(subscriber);
+            final int dropped = previous == null ? 1 : previous + 1;
+            if (dropped > MAX_DROPPED_FRAMES) {
+                LOG.warn("Subscriber {} of stream {} is not reading data, {} frames were dropped, disconnecting it",
+                        subscriber.remoteAddress(), this, MAX_DROPPED_FRAMES);
+                this.listener.getSubscribers().remove(subscriber);
+                forgetSubscriber(subscriber);
+                subscriber.close();
+                return;
+            }
+            if (dropped == 1) {
+                LOG.debug("Subscriber {} of stream {} is not writable, dropping frames", subscriber.remoteAddress(),
+                        this);
+            }
+            this.droppedFrames.put(subscriber, dropped);
+            return;
+        }
+
+        final Integer dropped = this.droppedFrames.remove(subscriber);
+        if (dropped != null) {
+            LOG.debug("Subscriber {} of stream {} caught up, {} frames were dropped", subscriber.remoteAddress(), this,
+                    dropped);
+        }
+
+        LOG.debug("Data are sent to subscriber {}:", subscriber.remoteAddress());
+        // all subscribers share the same rendered data, each frame releases its own reference
+        subscriber.write(new TextWebSocketFrame(data.duplicate().retain()));
+        this.unflushed.add(subscriber);
+    }
+
+    /**
+     * Flush frames written to subscribers since the last flush.
+     */
+    void flush() {
+        for (final Channel subscriber : this.unflushed) {
+            subscriber.flush();
+        }
+        this.unflushed.clear();
+        this.unflushedEvents = 0;
+    }
+
+    private void forgetSubscriber(final Channel subscriber) {
+        this.unflushed.remove(subscriber);
+        this.droppedFrames.remove(subscriber);
+    }
+
+    @Override
+    public String toString() {
+        return this.listener.getStreamName();
+    }
 }
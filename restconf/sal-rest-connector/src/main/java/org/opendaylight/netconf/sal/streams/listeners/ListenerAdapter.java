@@ -8,26 +8,37 @@
 package org.opendaylight.netconf.sal.streams.listeners;
 
 import com.google.common.base.Preconditions;
+import com.google.gson.stream.JsonWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import java.io.IOException;
+import java.util.Date;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.dom.DOMResult;
-import org.json.JSONObject;
-import org.json.XML;
 import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeEvent;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataChangeListener;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
+import org.opendaylight.netconf.sal.restconf.impl.JsonCodecFactoryCache;
+import org.opendaylight.netconf.sal.restconf.impl.RestconfDocumentedException;
 import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
 import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifierWithPredicates;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeWithValue;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.opendaylight.yangtools.yang.data.api.schema.LeafSetEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.UnkeyedListEntryNode;
+import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
+import org.opendaylight.yangtools.yang.data.impl.schema.Builders;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
 import org.opendaylight.yangtools.yang.model.api.Module;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
@@ -78,9 +89,9 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements DOMData
     @Override
     public void onDataChanged(final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> change) {
         this.change = change;
-        final String xml = prepareXml();
-        if (checkQueryParams(xml, this)) {
-            prepareAndPostData(xml);
+        final Document doc = prepareXml();
+        if (checkQueryParams(doc, this)) {
+            prepareAndPostData(doc);
         }
     }
 
@@ -111,31 +122,110 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements DOMData
     /**
      * Prepare data of notification and data to client
      *
-     * @param xml
+     * @param doc
      */
-    private void prepareAndPostData(final String xml) {
+    private void prepareAndPostData(final Document doc) {
         final Event event = new Event(EventType.NOTIFY);
         if (this.outputType.equals(NotificationOutputType.JSON)) {
-            final JSONObject jsonObject = XML.toJSONObject(xml);
-            event.setData(jsonObject.toString());
+            event.setData(prepareJson());
         } else {
-            event.setData(xml);
+            event.setData(transformDoc(doc));
         }
         post(event);
     }
 
+    /**
+     * Prepare data change event in JSON, encoded as specified by RFC7951.
+     *
+     * @return pooled buffer with UTF-8 encoded json
+     */
+    private ByteBuf prepareJson() {
+        final SchemaContext schemaContext = ControllerContext.getInstance().getGlobalSchema();
+        final DataSchemaContextTree dataContextTree = DataSchemaContextTree.from(schemaContext);
+        final JSONCodecFactory codecFactory = JsonCodecFactoryCache.get(schemaContext);
+        final ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
+        try (JsonWriter jsonWriter = createJsonWriter(buf)) {
+            jsonWriter.beginObject();
+            jsonWriter.name("ietf-restconf:notification").beginObject();
+            jsonWriter.name("event-time").value(toRFC3339(new Date()));
+            jsonWriter.name("sal-remote:data-changed-notification").beginObject();
+            jsonWriter.name("data-change-event").beginArray();
+
+            for (final Entry<YangInstanceIdentifier, NormalizedNode<?, ?>> entry
+                    : this.change.getCreatedData().entrySet()) {
+                writeDataChangeEvent(jsonWriter, entry.getKey(), Operation.CREATED, entry.getValue(), codecFactory,
+                        dataContextTree);
+            }
+            for (final Entry<YangInstanceIdentifier, NormalizedNode<?, ?>> entry
+                    : this.change.getUpdatedData().entrySet()) {
+                writeDataChangeEvent(jsonWriter, entry.getKey(), Operation.UPDATED, entry.getValue(), codecFactory,
+                        dataContextTree);
+            }
+            for (final YangInstanceIdentifier path : this.change.getRemovedPaths()) {
+                writeDataChangeEvent(jsonWriter, path, Operation.DELETED, null, codecFactory, dataContextTree);
+            }
+
+            jsonWriter.endArray();
+            jsonWriter.endObject();
+            jsonWriter.endObject();
+            jsonWriter.endObject();
+        } catch (final IOException e) {
+            buf.release();
+            throw new RestconfDocumentedException("Problem while writing data change event to JSON.", e);
+        }
+        return buf;
+    }
+
+    private static void writeDataChangeEvent(final JsonWriter jsonWriter, final YangInstanceIdentifier path,
+            final Operation operation, final NormalizedNode<?, ?> data, final JSONCodecFactory codecFactory,
+            final DataSchemaContextTree dataSchemaContextTree) throws IOException {
+        if (ControllerContext.getInstance().isNodeMixin(path)) {
+            return;
+        }
+
+        jsonWriter.beginObject();
+        jsonWriter.name("path").value(createPathValue(path));
+        jsonWriter.name("operation").value(operation.value);
+        if (data != null) {
+            jsonWriter.name("data").beginObject();
+            final SchemaPath parentPath =
+                    dataSchemaContextTree.getChild(path).getDataSchemaNode().getPath().getParent();
+            final NormalizedNodeWriter nodeWriter = NormalizedNodeWriter.forStreamWriter(
+                    JSONNormalizedNodeStreamWriter.createNestedWriter(codecFactory, parentPath, null, jsonWriter));
+            nodeWriter.write(wrapListEntry(data));
+            nodeWriter.flush();
+            jsonWriter.endObject();
+        }
+        jsonWriter.endObject();
+    }
+
+    /**
+     * JSON writer emits list entries only as part of their list, wrap them in a list with the single entry.
+     */
+    @SuppressWarnings("unchecked")
+    private static NormalizedNode<?, ?> wrapListEntry(final NormalizedNode<?, ?> data) {
+        if (data instanceof MapEntryNode) {
+            return ImmutableNodes.mapNodeBuilder(data.getNodeType()).withChild((MapEntryNode) data).build();
+        } else if (data instanceof UnkeyedListEntryNode) {
+            return Builders.unkeyedListBuilder().withNodeIdentifier(NodeIdentifier.create(data.getNodeType()))
+                    .withChild((UnkeyedListEntryNode) data).build();
+        } else if (data instanceof LeafSetEntryNode) {
+            return Builders.leafSetBuilder().withNodeIdentifier(NodeIdentifier.create(data.getNodeType()))
+                    .withChild((LeafSetEntryNode<Object>) data).build();
+        }
+        return data;
+    }
+
     /**
      * Tracks events of data change by customer.
      */
 
     /**
-     * Prepare data in printable form and transform it to String.
+     * Prepare data in printable form.
      *
-     * @param change
-     *            DataChangeEvent
      * @return Data in printable form.
      */
-    private String prepareXml() {
+    private Document prepareXml() {
         final SchemaContext schemaContext = ControllerContext.getInstance().getGlobalSchema();
         final DataSchemaContextTree dataContextTree = DataSchemaContextTree.from(schemaContext);
         final Document doc = createDocument();
@@ -147,7 +237,7 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements DOMData
         addValuesToDataChangedNotificationEventElement(doc, dataChangedNotificationEventElement, this.change,
                 schemaContext, dataContextTree);
         notificationElement.appendChild(dataChangedNotificationEventElement);
-        return transformDoc(doc);
+        return doc;
     }
 
     /**
@@ -284,8 +374,19 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements DOMData
      * @param element
      *            {@link Element}
      */
+    private static void addPathAsValueToElement(final YangInstanceIdentifier path, final Element element) {
+        element.setTextContent(createPathValue(path));
+    }
+
+    /**
+     * Creates value of path, with nodes prefixed by module names.
+     *
+     * @param path
+     *            Path to data in data store.
+     * @return path in printable form
+     */
     @SuppressWarnings("rawtypes")
-    private void addPathAsValueToElement(final YangInstanceIdentifier path, final Element element) {
+    private static String createPathValue(final YangInstanceIdentifier path) {
         final YangInstanceIdentifier normalizedPath = ControllerContext.getInstance().toXpathRepresentation(path);
         final StringBuilder textContent = new StringBuilder();
 
@@ -294,13 +395,13 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements DOMData
                 continue;
             }
             textContent.append("/");
-            writeIdentifierWithNamespacePrefix(element, textContent, pathArgument.getNodeType());
+            writeIdentifierWithNamespacePrefix(textContent, pathArgument.getNodeType());
             if (pathArgument instanceof NodeIdentifierWithPredicates) {
                 final Map<QName, Object> predicates = ((NodeIdentifierWithPredicates) pathArgument).getKeyValues();
                 for (final QName keyValue : predicates.keySet()) {
                     final String predicateValue = String.valueOf(predicates.get(keyValue));
                     textContent.append("[");
-                    writeIdentifierWithNamespacePrefix(element, textContent, keyValue);
+                    writeIdentifierWithNamespacePrefix(textContent, keyValue);
                     textContent.append("='");
                     textContent.append(predicateValue);
                     textContent.append("'");
@@ -313,21 +414,18 @@ public class ListenerAdapter extends AbstractCommonSubscriber implements DOMData
                 textContent.append("]");
             }
         }
-        element.setTextContent(textContent.toString());
+        return textContent.toString();
     }
 
     /**
      * Writes identifier that consists of prefix and QName.
      *
-     * @param element
-     *            {@link Element}
      * @param textContent
      *            StringBuilder
      * @param qName
      *            QName
      */
-    private static void writeIdentifierWithNamespacePrefix(final Element element, final StringBuilder textContent,
-            final QName qName) {
+    private static void writeIdentifierWithNamespacePrefix(final StringBuilder textContent, final QName qName) {
         final Module module = ControllerContext.getInstance().getGlobalSchema()
                 .findModuleByNamespaceAndRevision(qName.getNamespace(), qName.getRevision());
 
@@ -8,17 +8,18 @@
 package org.opendaylight.netconf.sal.streams.listeners;
 
 import com.google.common.base.Preconditions;
+import com.google.gson.stream.JsonWriter;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
 import java.io.IOException;
-import java.io.StringWriter;
-import java.io.Writer;
 import java.util.Collection;
 import java.util.Date;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.transform.dom.DOMResult;
-import org.json.JSONObject;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotification;
 import org.opendaylight.controller.md.sal.dom.api.DOMNotificationListener;
 import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
+import org.opendaylight.netconf.sal.restconf.impl.JsonCodecFactoryCache;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfDocumentedException;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
@@ -26,9 +27,7 @@ import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeStreamWriter;
 import org.opendaylight.yangtools.yang.data.api.schema.stream.NormalizedNodeWriter;
-import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
 import org.opendaylight.yangtools.yang.data.codec.gson.JSONNormalizedNodeStreamWriter;
-import org.opendaylight.yangtools.yang.data.codec.gson.JsonWriterFactory;
 import org.opendaylight.yangtools.yang.model.api.SchemaContext;
 import org.opendaylight.yangtools.yang.model.api.SchemaPath;
 import org.slf4j.Logger;
@@ -89,9 +88,9 @@ public class NotificationListenerAdapter extends AbstractCommonSubscriber implem
         this.schemaContext = ControllerContext.getInstance().getGlobalSchema();
         this.notification = notification;
 
-        final String xml = prepareXml();
-        if (checkQueryParams(xml, this)) {
-            prepareAndPostData(xml);
+        final Document doc = prepareXml();
+        if (checkQueryParams(doc, this)) {
+            prepareAndPostData(doc);
         }
     }
 
@@ -117,14 +116,14 @@ public class NotificationListenerAdapter extends AbstractCommonSubscriber implem
     /**
      * Prepare data of notification and data to client
      *
-     * @param xml
+     * @param doc
      */
-    private void prepareAndPostData(final String xml) {
+    private void prepareAndPostData(final Document doc) {
         final Event event = new Event(EventType.NOTIFY);
         if (this.outputType.equals("JSON")) {
             event.setData(prepareJson());
         } else {
-            event.setData(xml);
+            event.setData(transformDoc(doc));
         }
         post(event);
     }
@@ -132,31 +131,35 @@ public class NotificationListenerAdapter extends AbstractCommonSubscriber implem
     /**
      * Prepare json from notification data
      *
-     * @return json as {@link String}
+     * @return pooled buffer with UTF-8 encoded json
      */
-    private String prepareJson() {
-        final JSONObject json = new JSONObject();
-        json.put("ietf-restconf:notification",
-                new JSONObject(writeBodyToString()).put("event-time", ListenerAdapter.toRFC3339(new Date())));
-        return json.toString();
+    private ByteBuf prepareJson() {
+        final ByteBuf buf = PooledByteBufAllocator.DEFAULT.buffer();
+        try (JsonWriter jsonWriter = createJsonWriter(buf)) {
+            jsonWriter.beginObject();
+            jsonWriter.name("ietf-restconf:notification").beginObject();
+            jsonWriter.name("event-time").value(toRFC3339(new Date()));
+            writeBody(jsonWriter);
+            jsonWriter.endObject();
+            jsonWriter.endObject();
+        } catch (final IOException e) {
+            buf.release();
+            throw new RestconfDocumentedException("Problem while writing body of notification to JSON. ", e);
+        }
+        return buf;
     }
 
-    private String writeBodyToString() {
-        final Writer writer = new StringWriter();
+    private void writeBody(final JsonWriter jsonWriter) throws IOException {
+        // nested writer emits the notification as a member of the enclosing object
         final NormalizedNodeStreamWriter jsonStream =
-                JSONNormalizedNodeStreamWriter.createExclusiveWriter(JSONCodecFactory.create(this.schemaContext),
-                        this.notification.getType(), null, JsonWriterFactory.createJsonWriter(writer));
+                JSONNormalizedNodeStreamWriter.createNestedWriter(JsonCodecFactoryCache.get(this.schemaContext),
+                        this.notification.getType(), null, jsonWriter);
         final NormalizedNodeWriter nodeWriter = NormalizedNodeWriter.forStreamWriter(jsonStream);
-        try {
-            nodeWriter.write(this.notification.getBody());
-            nodeWriter.close();
-        } catch (final IOException e) {
-            throw new RestconfDocumentedException("Problem while writing body of notification to JSON. ", e);
-        }
-        return writer.toString();
+        nodeWriter.write(this.notification.getBody());
+        nodeWriter.flush();
     }
 
-    private String prepareXml() {
+    private Document prepareXml() {
         final Document doc = createDocument();
         final Element notificationElement = basePartDoc(doc);
 
@@ -165,7 +168,7 @@ public class NotificationListenerAdapter extends AbstractCommonSubscriber implem
         addValuesToNotificationEventElement(doc, notificationEventElement, this.notification, this.schemaContext);
         notificationElement.appendChild(notificationEventElement);
 
-        return transformDoc(doc);
+        return doc;
     }
 
     private void addValuesToNotificationEventElement(final Document doc, final Element element,
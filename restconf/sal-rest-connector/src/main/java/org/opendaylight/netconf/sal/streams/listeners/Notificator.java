@@ -44,6 +44,36 @@ public class Notificator {
         return dataChangeListener.keySet();
     }
 
+    /**
+     * Returns number of events waiting to be written to subscribers, summed over all streams
+     */
+    public static long getQueuedNotifications() {
+        long queued = 0;
+        for (final BaseListenerInterface listener : getAllListeners()) {
+            queued += listener.getQueuedNotifications();
+        }
+        return queued;
+    }
+
+    /**
+     * Returns number of notifications dropped because subscribers did not keep up, summed over all streams
+     */
+    public static long getDroppedNotifications() {
+        long dropped = 0;
+        for (final BaseListenerInterface listener : getAllListeners()) {
+            dropped += listener.getDroppedNotifications();
+        }
+        return dropped;
+    }
+
+    private static List<BaseListenerInterface> getAllListeners() {
+        final List<BaseListenerInterface> listeners = new ArrayList<>(dataChangeListener.values());
+        for (final List<NotificationListenerAdapter> streamListeners : notificationListenersByStreamName.values()) {
+            listeners.addAll(streamListeners);
+        }
+        return listeners;
+    }
+
     /**
      * Gets {@link ListenerAdapter} specified by stream name.
      *
@@ -131,6 +161,13 @@ public class Notificator {
         }
     }
 
+    /**
+     * Stops threads dispatching events of all streams, they are started again by the next event.
+     */
+    public static void stopEventDispatching() {
+        StreamEventQueue.shutdownDispatcher();
+    }
+
     /**
      * Delete {@link ListenerAdapter} listener specified in parameter.
      *
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Queue of events of a single stream. Events of all streams are dispatched by a shared pool of threads, events of
+ * a single stream are processed one by one in the order they were posted. Number of queued notifications is
+ * bounded, when subscribers of the stream cannot keep up, new notifications are dropped. Registration of
+ * subscribers is never dropped.
+ *
+ * <p>
+ * Dispatching threads are stopped by {@link #shutdownDispatcher()} and started again by the next posted event.
+ */
+final class StreamEventQueue implements Runnable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StreamEventQueue.class);
+
+    /**
+     * Maximal number of notifications waiting for delivery in a single stream.
+     */
+    static final int MAX_QUEUED_NOTIFICATIONS = 1024;
+
+    private static final int DISPATCHER_THREADS = Runtime.getRuntime().availableProcessors();
+
+    // guarded by StreamEventQueue.class
+    private static ThreadPoolExecutor dispatcher;
+
+    private final Supplier<Executor> dispatcherSupplier;
+
+    // all fields are guarded by this
+    private final Queue<Event> events = new ArrayDeque<>();
+    private EventBusChangeRecorder<?> recorder;
+    private boolean draining;
+    private int queuedNotifications;
+    private long droppedNotifications;
+    // dropped in the current overflow, reported once the stream catches up
+    private long overflowDropped;
+
+    StreamEventQueue() {
+        this(StreamEventQueue::getDispatcher);
+    }
+
+    @VisibleForTesting
+    StreamEventQueue(final Supplier<Executor> dispatcherSupplier) {
+        this.dispatcherSupplier = dispatcherSupplier;
+    }
+
+    private static synchronized Executor getDispatcher() {
+        if (dispatcher == null) {
+            dispatcher = new ThreadPoolExecutor(DISPATCHER_THREADS, DISPATCHER_THREADS, 60, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<>(), new ThreadFactoryBuilder()
+                    .setNameFormat("restconf-stream-dispatcher-%d").setDaemon(true).build());
+            dispatcher.allowCoreThreadTimeOut(true);
+        }
+        return dispatcher;
+    }
+
+    /**
+     * Stop threads dispatching events of all streams. Events of streams, which were waiting for a thread, are
+     * discarded.
+     */
+    static synchronized void shutdownDispatcher() {
+        if (dispatcher == null) {
+            return;
+        }
+        for (final Runnable pending : dispatcher.shutdownNow()) {
+            ((StreamEventQueue) pending).discardPending();
+        }
+        dispatcher = null;
+    }
+
+    /**
+     * Set recorder processing events of this queue. Events posted without recorder are discarded.
+     *
+     * @param recorder
+     *            - recorder of stream listener, null to stop processing
+     */
+    synchronized void setRecorder(final EventBusChangeRecorder<?> recorder) {
+        this.recorder = recorder;
+        if (recorder == null) {
+            clear();
+        }
+    }
+
+    /**
+     * Post event to be processed by recorder of the stream.
+     *
+     * @param event
+     *            - event to be processed
+     */
+    void post(final Event event) {
+        synchronized (this) {
+            if (this.recorder == null) {
+                discard(event);
+                return;
+            }
+            if (event.getType() == EventType.NOTIFY) {
+                if (this.queuedNotifications >= MAX_QUEUED_NOTIFICATIONS) {
+                    this.droppedNotifications++;
+                    if (this.overflowDropped++ == 0) {
+                        LOG.warn("Subscribers of stream {} are not keeping up, dropping notifications until {} queued "
+                                + "ones are delivered", this.recorder, this.queuedNotifications);
+                    }
+                    discard(event);
+                    return;
+                }
+                this.queuedNotifications++;
+            }
+
+            this.events.add(event);
+            if (this.draining) {
+                return;
+            }
+            this.draining = true;
+        }
+
+        try {
+            this.dispatcherSupplier.get().execute(this);
+        } catch (final RejectedExecutionException e) {
+            LOG.warn("Unable to dispatch events of stream {}, discarding them", this.recorder, e);
+            discardPending();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (true) {
+            final Event event;
+            final EventBusChangeRecorder<?> currentRecorder;
+            synchronized (this) {
+                event = this.events.poll();
+                currentRecorder = this.recorder;
+                if (currentRecorder == null) {
+                    this.draining = false;
+                    return;
+                }
+                if (event != null && event.getType() == EventType.NOTIFY) {
+                    this.queuedNotifications--;
+                    if (this.overflowDropped != 0 && this.queuedNotifications == 0) {
+                        LOG.warn("Subscribers of stream {} caught up, {} notifications were dropped", currentRecorder,
+                                this.overflowDropped);
+                        this.overflowDropped = 0;
+                    }
+                }
+            }
+
+            if (event == null) {
+                // subscribers are flushed once all queued events are written, events posted meanwhile are processed
+                // by this task
+                currentRecorder.flush();
+                synchronized (this) {
+                    if (this.events.isEmpty()) {
+                        this.draining = false;
+                        return;
+                    }
+                }
+                continue;
+            }
+
+            try {
+                currentRecorder.recordCustomerChange(event);
+            } catch (final RuntimeException e) {
+                LOG.warn("Failed to process event {} of stream {}", event.getType(), currentRecorder, e);
+            }
+        }
+    }
+
+    synchronized int getQueuedNotifications() {
+        return this.queuedNotifications;
+    }
+
+    synchronized long getDroppedNotifications() {
+        return this.droppedNotifications;
+    }
+
+    private synchronized void discardPending() {
+        clear();
+        this.draining = false;
+    }
+
+    private void clear() {
+        for (final Event event : this.events) {
+            discard(event);
+        }
+        this.events.clear();
+        this.queuedNotifications = 0;
+    }
+
+    private static void discard(final Event event) {
+        if (event.getData() != null) {
+            event.getData().release();
+        }
+    }
+}
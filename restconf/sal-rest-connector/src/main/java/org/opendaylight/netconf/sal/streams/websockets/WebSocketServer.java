@@ -11,6 +11,7 @@ package org.opendaylight.netconf.sal.streams.websockets;
 import com.google.common.base.Preconditions;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
@@ -26,6 +27,12 @@ public class WebSocketServer implements Runnable {
 
     private static final Logger LOG = LoggerFactory.getLogger(WebSocketServer.class);
 
+    /**
+     * Subscriber channels stop being writable once this much data waits to be sent to them, and are writable again
+     * when it drops below half of it. Stream events are not written to channels which are not writable.
+     */
+    private static final int WRITE_BUFFER_HIGH_WATER_MARK = 1024 * 1024;
+
     private static WebSocketServer instance = null;
 
     private final int port;
@@ -86,7 +93,9 @@ public class WebSocketServer implements Runnable {
         try {
             final ServerBootstrap serverBootstrap = new ServerBootstrap();
             serverBootstrap.group(bossGroup, workerGroup).channel(NioServerSocketChannel.class)
-                    .childHandler(new WebSocketServerInitializer());
+                    .childHandler(new WebSocketServerInitializer())
+                    .childOption(ChannelOption.WRITE_BUFFER_HIGH_WATER_MARK, WRITE_BUFFER_HIGH_WATER_MARK)
+                    .childOption(ChannelOption.WRITE_BUFFER_LOW_WATER_MARK, WRITE_BUFFER_HIGH_WATER_MARK / 2);
 
             final Channel channel = serverBootstrap.bind(port).sync().channel();
             LOG.info("Web socket server started at port {}.", port);
@@ -100,11 +109,12 @@ public class WebSocketServer implements Runnable {
     }
 
     /**
-     * Stops the web socket server and removes all listeners.
+     * Stops the web socket server, removes all listeners and stops dispatching of their events.
      */
     private void stop() {
         LOG.debug("Stopping the web socket server instance on port {}", port);
         Notificator.removeAllListeners();
+        Notificator.stopEventDispatching();
         if (bossGroup != null) {
             bossGroup.shutdownGracefully();
             bossGroup = null;
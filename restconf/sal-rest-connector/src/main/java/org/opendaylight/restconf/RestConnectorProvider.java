@@ -21,7 +21,9 @@ import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
 import org.opendaylight.controller.sal.core.api.Broker.ProviderSession;
 import org.opendaylight.controller.sal.core.api.Provider;
 import org.opendaylight.controller.sal.core.api.model.SchemaService;
+import org.opendaylight.controller.sal.core.api.mount.MountProvisionListener;
 import org.opendaylight.netconf.sal.rest.api.RestConnector;
+import org.opendaylight.netconf.sal.restconf.impl.JsonCodecFactoryCache;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfDocumentedException;
 import org.opendaylight.restconf.common.wrapper.services.ServicesWrapperImpl;
 import org.opendaylight.restconf.handlers.DOMDataBrokerHandler;
@@ -59,6 +61,7 @@ public class RestConnectorProvider implements Provider, RestConnector, AutoClose
     };
 
     private ListenerRegistration<SchemaContextListener> listenerRegistration;
+    private ListenerRegistration<MountProvisionListener> mountListenerRegistration;
 
     private SchemaContextHandler schemaCtxHandler;
     private static TransactionChainHandler transactionChainHandler;
@@ -71,8 +74,10 @@ public class RestConnectorProvider implements Provider, RestConnector, AutoClose
 
         final ServicesWrapperImpl wrapperServices = ServicesWrapperImpl.getInstance();
 
-        RestConnectorProvider.mountPointServiceHandler = new DOMMountPointServiceHandler(
-                session.getService(DOMMountPointService.class));
+        final DOMMountPointService mountService = session.getService(DOMMountPointService.class);
+        RestConnectorProvider.mountPointServiceHandler = new DOMMountPointServiceHandler(mountService);
+        this.mountListenerRegistration =
+                mountService.registerProvisionListener(new JsonCodecFactoryCache.MountPointListener(mountService));
 
         RestConnectorProvider.dataBroker = session.getService(DOMDataBroker.class);
         final DOMDataBrokerHandler brokerHandler = new DOMDataBrokerHandler(RestConnectorProvider.dataBroker);
@@ -129,6 +134,9 @@ public class RestConnectorProvider implements Provider, RestConnector, AutoClose
         if (this.listenerRegistration != null) {
             this.listenerRegistration.close();
         }
+        if (this.mountListenerRegistration != null) {
+            this.mountListenerRegistration.close();
+        }
 
         // close transaction chain
         if ((transactionChainHandler != null) && (transactionChainHandler.get() != null)) {
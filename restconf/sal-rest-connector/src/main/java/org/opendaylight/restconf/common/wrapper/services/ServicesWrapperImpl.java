@@ -7,6 +7,7 @@
  */
 package org.opendaylight.restconf.common.wrapper.services;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import javax.ws.rs.Path;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
@@ -89,6 +90,11 @@ public class ServicesWrapperImpl implements BaseServicesWrapper, TransactionServ
         return this.delegRestconfDataService.readData(identifier, uriInfo);
     }
 
+    @Override
+    public ListenableFuture<Response> readDataAsync(final String identifier, final UriInfo uriInfo) {
+        return this.delegRestconfDataService.readDataAsync(identifier, uriInfo);
+    }
+
     @Override
     public Response putData(final String identifier, final NormalizedNodeContext payload, final UriInfo uriInfo) {
         return this.delegRestconfDataService.putData(identifier, payload, uriInfo);
@@ -125,6 +131,12 @@ public class ServicesWrapperImpl implements BaseServicesWrapper, TransactionServ
         return this.delegRestconfInvokeOpsService.invokeRpc(identifier, payload, uriInfo);
     }
 
+    @Override
+    public ListenableFuture<NormalizedNodeContext> invokeRpcAsync(final String identifier,
+            final NormalizedNodeContext payload, final UriInfo uriInfo) {
+        return this.delegRestconfInvokeOpsService.invokeRpcAsync(identifier, payload, uriInfo);
+    }
+
     @Override
     public NormalizedNodeContext subscribeToStream(final String identifier, final UriInfo uriInfo) {
         return this.delegRestconfSubscrService.subscribeToStream(identifier, uriInfo);
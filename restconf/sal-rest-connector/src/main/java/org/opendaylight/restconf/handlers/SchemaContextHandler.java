@@ -12,6 +12,7 @@ import java.util.Collection;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
+import org.opendaylight.netconf.sal.restconf.impl.JsonCodecFactoryCache;
 import org.opendaylight.netconf.sal.restconf.impl.RestconfDocumentedException;
 import org.opendaylight.restconf.Draft18.IetfYangLibrary;
 import org.opendaylight.restconf.Draft18.MonitoringModule;
@@ -48,6 +49,9 @@ public class SchemaContextHandler implements SchemaContextListenerHandler {
     @Override
     public void onGlobalContextUpdated(final SchemaContext context) {
         Preconditions.checkNotNull(context);
+        if (this.context != context) {
+            JsonCodecFactoryCache.invalidate(this.context);
+        }
         this.context = null;
         this.context = context;
         this.moduleSetId++;
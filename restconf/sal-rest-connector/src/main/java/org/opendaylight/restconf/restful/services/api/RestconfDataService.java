@@ -7,6 +7,7 @@
  */
 package org.opendaylight.restconf.restful.services.api;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.DELETE;
 import javax.ws.rs.Encoded;
@@ -62,6 +63,23 @@ public interface RestconfDataService {
             MediaType.APPLICATION_XML, MediaType.TEXT_XML })
     Response readData(@Context UriInfo uriInfo);
 
+    /**
+     * Get target data resource without waiting for the data store. Errors of request are thrown immediately,
+     * errors of read complete the returned future.
+     *
+     * <p>
+     * This is not a resource method. Jersey 1 (JAX-RS 1.1) has no AsyncResponse, so
+     * {@link #readData(String, UriInfo)} waits for the returned future. Once the front end moves to JAX-RS 2,
+     * the resource method can resume an AsyncResponse from it instead.
+     *
+     * @param identifier
+     *            - path to target
+     * @param uriInfo
+     *            - URI info
+     * @return {@link ListenableFuture} of {@link Response}
+     */
+    ListenableFuture<Response> readDataAsync(String identifier, UriInfo uriInfo);
+
     /**
      * Create or replace the target data resource.
      *
@@ -7,6 +7,7 @@
  */
 package org.opendaylight.restconf.restful.services.api;
 
+import com.google.common.util.concurrent.ListenableFuture;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.Encoded;
 import javax.ws.rs.POST;
@@ -47,4 +48,24 @@ public interface RestconfInvokeOperationsService {
             MediaType.APPLICATION_XML, MediaType.TEXT_XML })
     NormalizedNodeContext invokeRpc(@Encoded @PathParam("identifier") String identifier,
             NormalizedNodeContext payload, @Context UriInfo uriInfo);
+
+    /**
+     * Invoke RPC operation without waiting for its result. Errors of request are thrown immediately, errors of
+     * the operation complete the returned future.
+     *
+     * <p>
+     * This is not a resource method. Jersey 1 (JAX-RS 1.1) has no AsyncResponse, so
+     * {@link #invokeRpc(String, NormalizedNodeContext, UriInfo)} waits for the returned future.
+     *
+     * @param identifier
+     *            - module name and rpc identifier string for the desired
+     *            operation
+     * @param payload
+     *            - {@link NormalizedNodeContext} - the body of the operation
+     * @param uriInfo
+     *            - URI info
+     * @return {@link ListenableFuture} of {@link NormalizedNodeContext}
+     */
+    ListenableFuture<NormalizedNodeContext> invokeRpcAsync(String identifier, NormalizedNodeContext payload,
+            UriInfo uriInfo);
 }
@@ -7,8 +7,11 @@
  */
 package org.opendaylight.restconf.restful.services.impl;
 
+import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.List;
@@ -35,6 +38,7 @@ import org.opendaylight.restconf.handlers.TransactionChainHandler;
 import org.opendaylight.restconf.restful.services.api.RestconfDataService;
 import org.opendaylight.restconf.restful.transaction.TransactionVarsWrapper;
 import org.opendaylight.restconf.restful.utils.DeleteDataTransactionUtil;
+import org.opendaylight.restconf.restful.utils.FutureCallbackTx;
 import org.opendaylight.restconf.restful.utils.PatchDataTransactionUtil;
 import org.opendaylight.restconf.restful.utils.PostDataTransactionUtil;
 import org.opendaylight.restconf.restful.utils.PutDataTransactionUtil;
@@ -72,6 +76,11 @@ public class RestconfDataServiceImpl implements RestconfDataService {
 
     @Override
     public Response readData(final String identifier, final UriInfo uriInfo) {
+        return FutureCallbackTx.getResult(readDataAsync(identifier, uriInfo));
+    }
+
+    @Override
+    public ListenableFuture<Response> readDataAsync(final String identifier, final UriInfo uriInfo) {
         final SchemaContextRef schemaContextRef = new SchemaContextRef(this.schemaContextHandler.get());
         final InstanceIdentifierContext<?> instanceIdentifier = ParserIdentifier.toInstanceIdentifier(
                 identifier, schemaContextRef.get(), Optional.of(this.mountPointServiceHandler.get()));
@@ -115,8 +124,14 @@ public class RestconfDataServiceImpl implements RestconfDataService {
 
         final TransactionVarsWrapper transactionNode = new TransactionVarsWrapper(
                 instanceIdentifier, mountPoint, transactionChain);
-        final NormalizedNode<?, ?> node =
-                ReadDataTransactionUtil.readData(parameters.getContent(), transactionNode, withDefa);
+        final ListenableFuture<NormalizedNode<?, ?>> node =
+                ReadDataTransactionUtil.readDataAsync(parameters.getContent(), transactionNode, withDefa);
+        return Futures.transform(node, (Function<NormalizedNode<?, ?>, Response>)
+                data -> createReadResponse(instanceIdentifier, data, parameters));
+    }
+
+    private static Response createReadResponse(final InstanceIdentifierContext<?> instanceIdentifier,
+            final NormalizedNode<?, ?> node, final WriterParameters parameters) {
         if (node == null) {
             throw new RestconfDocumentedException(
                     "Request could not be completed because the relevant data model content does not exist",
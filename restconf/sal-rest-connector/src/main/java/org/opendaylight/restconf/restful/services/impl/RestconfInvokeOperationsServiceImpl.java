@@ -7,6 +7,9 @@
  */
 package org.opendaylight.restconf.restful.services.impl;
 
+import com.google.common.base.Function;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import java.net.URI;
 import javax.ws.rs.core.UriInfo;
 import org.opendaylight.controller.md.sal.dom.api.DOMMountPoint;
@@ -21,6 +24,7 @@ import org.opendaylight.restconf.handlers.RpcServiceHandler;
 import org.opendaylight.restconf.handlers.SchemaContextHandler;
 import org.opendaylight.restconf.restful.services.api.RestconfInvokeOperationsService;
 import org.opendaylight.restconf.restful.utils.CreateStreamUtil;
+import org.opendaylight.restconf.restful.utils.FutureCallbackTx;
 import org.opendaylight.restconf.restful.utils.RestconfInvokeOperationsUtil;
 import org.opendaylight.restconf.restful.utils.RestconfStreamsConstants;
 import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
@@ -44,34 +48,49 @@ public class RestconfInvokeOperationsServiceImpl implements RestconfInvokeOperat
 
     @Override
     public NormalizedNodeContext invokeRpc(final String identifier, final NormalizedNodeContext payload, final UriInfo uriInfo) {
+        return FutureCallbackTx.getResult(invokeRpcAsync(identifier, payload, uriInfo));
+    }
+
+    @Override
+    public ListenableFuture<NormalizedNodeContext> invokeRpcAsync(final String identifier,
+            final NormalizedNodeContext payload, final UriInfo uriInfo) {
         final SchemaContextRef refSchemaCtx = new SchemaContextRef(this.schemaContextHandler.get());
         final SchemaPath schemaPath = payload.getInstanceIdentifierContext().getSchemaNode().getPath();
         final DOMMountPoint mountPoint = payload.getInstanceIdentifierContext().getMountPoint();
         final URI namespace = payload.getInstanceIdentifierContext().getSchemaNode().getQName().getNamespace();
-        DOMRpcResult response;
+        final ListenableFuture<DOMRpcResult> response;
 
-        SchemaContextRef schemaContextRef;
+        final SchemaContextRef schemaContextRef;
 
         if (mountPoint == null) {
             if (namespace.toString().equals(RestconfStreamsConstants.SAL_REMOTE_NAMESPACE)) {
                 if (identifier.contains(RestconfStreamsConstants.CREATE_DATA_SUBSCR)) {
-                    response = CreateStreamUtil.createDataChangeNotifiStream(payload, refSchemaCtx);
+                    response = Futures.immediateFuture(
+                            CreateStreamUtil.createDataChangeNotifiStream(payload, refSchemaCtx));
                 } else if (identifier.contains(RestconfStreamsConstants.CREATE_NOTIFICATION_STREAM)) {
-                    response = CreateStreamUtil.createYangNotifiStream(payload, refSchemaCtx);
+                    response = Futures.immediateFuture(CreateStreamUtil.createYangNotifiStream(payload, refSchemaCtx));
                 } else {
                     throw new RestconfDocumentedException("Not supported operation", ErrorType.RPC,
                             ErrorTag.OPERATION_NOT_SUPPORTED);
                 }
             } else {
-                response = RestconfInvokeOperationsUtil.invokeRpc(payload.getData(), schemaPath,
+                response = RestconfInvokeOperationsUtil.invokeRpcAsync(payload.getData(), schemaPath,
                         this.rpcServiceHandler);
             }
             schemaContextRef = new SchemaContextRef(this.schemaContextHandler.get());
         } else {
-            response = RestconfInvokeOperationsUtil.invokeRpcViaMountPoint(mountPoint, payload.getData(), schemaPath);
+            response = RestconfInvokeOperationsUtil.invokeRpcViaMountPointAsync(mountPoint, payload.getData(),
+                    schemaPath);
             schemaContextRef = new SchemaContextRef(mountPoint.getSchemaContext());
         }
 
+        return Futures.transform(response, (Function<DOMRpcResult, NormalizedNodeContext>)
+                rpcResult -> createResultContext(rpcResult, payload, mountPoint, schemaContextRef));
+    }
+
+    private static NormalizedNodeContext createResultContext(final DOMRpcResult response,
+            final NormalizedNodeContext payload, final DOMMountPoint mountPoint,
+            final SchemaContextRef schemaContextRef) {
         final DOMRpcResult result = RestconfInvokeOperationsUtil.checkResponse(response);
 
         RpcDefinition resultNodeSchema = null;
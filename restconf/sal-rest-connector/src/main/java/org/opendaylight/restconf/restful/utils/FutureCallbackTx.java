@@ -7,12 +7,16 @@
  */
 package org.opendaylight.restconf.restful.utils;
 
+import com.google.common.base.Throwables;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.FutureCallback;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import javax.annotation.Nullable;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcException;
 import org.opendaylight.controller.md.sal.dom.spi.DefaultDOMRpcResult;
@@ -26,7 +30,7 @@ import org.slf4j.LoggerFactory;
  * Add callback for future objects and result set to the data factory.
  *
  */
-final class FutureCallbackTx {
+public final class FutureCallbackTx {
 
     private final static Logger LOG = LoggerFactory.getLogger(FutureCallbackTx.class);
 
@@ -71,6 +75,65 @@ final class FutureCallbackTx {
         }
     }
 
+    /**
+     * Transform future object to future of its result without waiting for it. Failures are handled the same way
+     * as by {@link #addCallback(CheckedFuture, String, FutureDataFactory)}, rpc exception completes the returned
+     * future with rpc result containing the error, other failures with {@link RestconfDocumentedException}.
+     *
+     * @param listenableFuture
+     *            - future object
+     * @param txType
+     *            - type of operation (READ, POST, PUT, DELETE)
+     * @return {@link ListenableFuture} of result
+     */
+    static <T> ListenableFuture<T> toResultFuture(final ListenableFuture<T> listenableFuture, final String txType) {
+        final SettableFuture<T> resultFuture = SettableFuture.create();
+        Futures.addCallback(listenableFuture, new FutureCallback<T>() {
+
+            @Override
+            public void onFailure(final Throwable t) {
+                LOG.warn("Transaction({}) FAILED!", txType, t);
+                if (t instanceof DOMRpcException) {
+                    resultFuture.set((T) rpcErrorResult(t));
+                } else if (t instanceof RestconfDocumentedException) {
+                    resultFuture.setException(t);
+                } else {
+                    resultFuture.setException(new RestconfDocumentedException(
+                            "  Transaction(" + txType + ") not committed correctly", t));
+                }
+            }
+
+            @Override
+            public void onSuccess(final T result) {
+                LOG.trace("Transaction({}) SUCCESSFUL!", txType);
+                resultFuture.set(result);
+            }
+
+        });
+        return resultFuture;
+    }
+
+    /**
+     * Wait for result of future created by asynchronous operations of RESTCONF services.
+     *
+     * @param future
+     *            - future of result
+     * @return result of future
+     */
+    public static <T> T getResult(final ListenableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            final String msg = "Problem while waiting for response";
+            LOG.warn(msg);
+            throw new RestconfDocumentedException(msg, e);
+        } catch (final ExecutionException e) {
+            Throwables.propagateIfInstanceOf(e.getCause(), RestconfDocumentedException.class);
+            throw new RestconfDocumentedException("Problem while waiting for response", e.getCause());
+        }
+    }
+
     /**
      * Handling logger and result of callback - on success or on failure
      * <ul>
@@ -93,9 +156,7 @@ final class FutureCallbackTx {
             dataFactory.setFailureStatus();
             LOG.warn("Transaction({}) FAILED!", txType, t);
             if (t instanceof DOMRpcException) {
-                final List<RpcError> rpcErrorList = new ArrayList<>();
-                rpcErrorList.add(RpcResultBuilder.newError(RpcError.ErrorType.RPC, "operation-failed", t.getMessage()));
-                dataFactory.setResult((T) new DefaultDOMRpcResult(rpcErrorList));
+                dataFactory.setResult((T) rpcErrorResult(t));
             } else {
                 throw new RestconfDocumentedException("  Transaction(" + txType + ") not committed correctly", t);
             }
@@ -104,4 +165,10 @@ final class FutureCallbackTx {
             dataFactory.setResult(result);
         }
     }
+
+    private static DefaultDOMRpcResult rpcErrorResult(final Throwable t) {
+        final List<RpcError> rpcErrorList = new ArrayList<>();
+        rpcErrorList.add(RpcResultBuilder.newError(RpcError.ErrorType.RPC, "operation-failed", t.getMessage()));
+        return new DefaultDOMRpcResult(rpcErrorList);
+    }
 }
@@ -12,7 +12,9 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.CheckedFuture;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
 import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionCommitFailedException;
@@ -59,6 +61,8 @@ public final class PatchDataTransactionUtil {
         final List<PATCHStatusEntity> editCollection = new ArrayList<>();
         boolean noError = true;
         final DOMDataReadWriteTransaction tx = transactionNode.getTransactionChain().newReadWriteTransaction();
+        final ExistenceChecks existenceChecks = new ExistenceChecks(tx, LogicalDatastoreType.CONFIGURATION,
+                context.getData());
 
         for (final PATCHEntity patchEntity : context.getData()) {
             final PATCHEditOperation operation = PATCHEditOperation.valueOf(patchEntity.getOperation().toUpperCase());
@@ -67,7 +71,8 @@ public final class PatchDataTransactionUtil {
                     case CREATE:
                         try {
                             createDataWithinTransaction(LogicalDatastoreType.CONFIGURATION,
-                                    patchEntity.getTargetNode(), patchEntity.getNode(), tx, schemaContextRef);
+                                    patchEntity.getTargetNode(), patchEntity.getNode(), tx, schemaContextRef,
+                                    existenceChecks);
                             editCollection.add(new PATCHStatusEntity(patchEntity.getEditId(), true, null));
                         } catch (final RestconfDocumentedException e) {
                             editCollection.add(new PATCHStatusEntity(patchEntity.getEditId(),
@@ -78,7 +83,7 @@ public final class PatchDataTransactionUtil {
                     case DELETE:
                         try {
                             deleteDataWithinTransaction(LogicalDatastoreType.CONFIGURATION, patchEntity.getTargetNode(),
-                                    tx);
+                                    tx, existenceChecks);
                             editCollection.add(new PATCHStatusEntity(patchEntity.getEditId(), true, null));
                         } catch (final RestconfDocumentedException e) {
                             editCollection.add(new PATCHStatusEntity(patchEntity.getEditId(),
@@ -89,7 +94,8 @@ public final class PatchDataTransactionUtil {
                     case MERGE:
                         try {
                             mergeDataWithinTransaction(LogicalDatastoreType.CONFIGURATION,
-                                    patchEntity.getTargetNode(), patchEntity.getNode(), tx, schemaContextRef);
+                                    patchEntity.getTargetNode(), patchEntity.getNode(), tx, schemaContextRef,
+                                    existenceChecks);
                             editCollection.add(new PATCHStatusEntity(patchEntity.getEditId(), true, null));
                         } catch (final RestconfDocumentedException e) {
                             editCollection.add(new PATCHStatusEntity(patchEntity.getEditId(),
@@ -100,7 +106,8 @@ public final class PatchDataTransactionUtil {
                     case REPLACE:
                         try {
                             replaceDataWithinTransaction(LogicalDatastoreType.CONFIGURATION,
-                                    patchEntity.getTargetNode(), patchEntity.getNode(), schemaContextRef, tx);
+                                    patchEntity.getTargetNode(), patchEntity.getNode(), schemaContextRef, tx,
+                                    existenceChecks);
                             editCollection.add(new PATCHStatusEntity(patchEntity.getEditId(), true, null));
                         } catch (final RestconfDocumentedException e) {
                             editCollection.add(new PATCHStatusEntity(patchEntity.getEditId(),
@@ -111,7 +118,7 @@ public final class PatchDataTransactionUtil {
                     case REMOVE:
                         try {
                             removeDataWithinTransaction(LogicalDatastoreType.CONFIGURATION, patchEntity.getTargetNode(),
-                                    tx);
+                                    tx, existenceChecks);
                             editCollection.add(new PATCHStatusEntity(patchEntity.getEditId(), true, null));
                         } catch (final RestconfDocumentedException e) {
                             editCollection.add(new PATCHStatusEntity(patchEntity.getEditId(),
@@ -160,14 +167,16 @@ public final class PatchDataTransactionUtil {
      * @param payload Data to be created
      * @param rWTransaction Transaction
      * @param schemaContextRef Soft reference for global schema context
+     * @param existenceChecks Existence of data checked by edits
      */
     private static void createDataWithinTransaction(final LogicalDatastoreType dataStore,
                                                     final YangInstanceIdentifier path,
                                                     final NormalizedNode<?, ?> payload,
                                                     final DOMDataReadWriteTransaction rWTransaction,
-                                                    final SchemaContextRef schemaContextRef) {
+                                                    final SchemaContextRef schemaContextRef,
+                                                    final ExistenceChecks existenceChecks) {
         LOG.trace("POST {} within Restconf PATCH: {} with payload {}", dataStore.name(), path, payload);
-        createData(payload, schemaContextRef.get(), path, rWTransaction, dataStore, true);
+        createData(payload, schemaContextRef.get(), path, rWTransaction, dataStore, existenceChecks, true);
     }
 
     /**
@@ -175,13 +184,16 @@ public final class PatchDataTransactionUtil {
      * @param dataStore Datastore to delete data from
      * @param path Path for data to be deleted
      * @param readWriteTransaction Transaction
+     * @param existenceChecks Existence of data checked by edits
      */
     private static void deleteDataWithinTransaction(final LogicalDatastoreType dataStore,
                                                     final YangInstanceIdentifier path,
-                                                    final DOMDataReadWriteTransaction readWriteTransaction) {
+                                                    final DOMDataReadWriteTransaction readWriteTransaction,
+                                                    final ExistenceChecks existenceChecks) {
         LOG.trace("Delete {} within Restconf PATCH: {}", dataStore.name(), path);
-        checkItemExistsWithinTransaction(readWriteTransaction, dataStore, path);
+        checkItemExists(existenceChecks, path);
         readWriteTransaction.delete(dataStore, path);
+        existenceChecks.modified(path);
     }
 
     /**
@@ -191,12 +203,14 @@ public final class PatchDataTransactionUtil {
      * @param payload Data to be merged
      * @param writeTransaction Transaction
      * @param schemaContextRef Soft reference for global schema context
+     * @param existenceChecks Existence of data checked by edits
      */
     private static void mergeDataWithinTransaction(final LogicalDatastoreType dataStore,
                                                    final YangInstanceIdentifier path,
                                                    final NormalizedNode<?, ?> payload,
                                                    final DOMDataReadWriteTransaction writeTransaction,
-                                                   final SchemaContextRef schemaContextRef) {
+                                                   final SchemaContextRef schemaContextRef,
+                                                   final ExistenceChecks existenceChecks) {
         LOG.trace("Merge {} within Restconf PATCH: {} with payload {}", dataStore.name(), path, payload);
         TransactionUtil.ensureParentsByMerge(path, schemaContextRef.get(), writeTransaction);
 
@@ -206,6 +220,7 @@ public final class PatchDataTransactionUtil {
         } else {
             writeTransaction.put(dataStore, path, payload);
         }
+        existenceChecks.modified(path);
     }
 
     /**
@@ -213,12 +228,15 @@ public final class PatchDataTransactionUtil {
      * @param dataStore Datastore to delete data from
      * @param path Path for data to be deleted
      * @param writeTransaction Transaction
+     * @param existenceChecks Existence of data checked by edits
      */
     private static void removeDataWithinTransaction(final LogicalDatastoreType dataStore,
                                                     final YangInstanceIdentifier path,
-                                                    final DOMDataWriteTransaction writeTransaction) {
+                                                    final DOMDataWriteTransaction writeTransaction,
+                                                    final ExistenceChecks existenceChecks) {
         LOG.trace("Remove {} within Restconf PATCH: {}", dataStore.name(), path);
         writeTransaction.delete(dataStore, path);
+        existenceChecks.modified(path);
     }
 
     /**
@@ -228,14 +246,16 @@ public final class PatchDataTransactionUtil {
      * @param payload Data to be created
      * @param schemaContextRef Soft reference for global schema context
      * @param rWTransaction Transaction
+     * @param existenceChecks Existence of data checked by edits
      */
     private static void replaceDataWithinTransaction(final LogicalDatastoreType dataStore,
                                                      final YangInstanceIdentifier path,
                                                      final NormalizedNode<?, ?> payload,
                                                      final SchemaContextRef schemaContextRef,
-                                                     final DOMDataReadWriteTransaction rWTransaction) {
+                                                     final DOMDataReadWriteTransaction rWTransaction,
+                                                     final ExistenceChecks existenceChecks) {
         LOG.trace("PUT {} within Restconf PATCH: {} with payload {}", dataStore.name(), path, payload);
-        createData(payload, schemaContextRef.get(), path, rWTransaction, dataStore, false);
+        createData(payload, schemaContextRef.get(), path, rWTransaction, dataStore, existenceChecks, false);
     }
 
     /**
@@ -246,49 +266,47 @@ public final class PatchDataTransactionUtil {
      * @param path Path for data to be created
      * @param rWTransaction Transaction
      * @param dataStore Datastore to write data to
+     * @param existenceChecks Existence of data checked by edits
      * @param errorIfExists Enable checking for existence of data (throws error if already exists)
      */
     private static void createData(final NormalizedNode<?, ?> payload, final SchemaContext schemaContext,
                                    final YangInstanceIdentifier path, final DOMDataReadWriteTransaction rWTransaction,
-                                   final LogicalDatastoreType dataStore, final boolean errorIfExists) {
+                                   final LogicalDatastoreType dataStore, final ExistenceChecks existenceChecks,
+                                   final boolean errorIfExists) {
         if (payload instanceof MapNode) {
             final NormalizedNode<?, ?> emptySubtree = ImmutableNodes.fromInstanceId(schemaContext, path);
             rWTransaction.merge(dataStore, YangInstanceIdentifier.create(emptySubtree.getIdentifier()), emptySubtree);
             TransactionUtil.ensureParentsByMerge(path, schemaContext, rWTransaction);
+            existenceChecks.parentsMerged(path);
             for (final MapEntryNode child : ((MapNode) payload).getValue()) {
                 final YangInstanceIdentifier childPath = path.node(child.getIdentifier());
 
                 if (errorIfExists) {
-                    checkItemDoesNotExistsWithinTransaction(rWTransaction, dataStore, childPath);
+                    checkItemDoesNotExist(existenceChecks, childPath);
                 }
 
                 rWTransaction.put(dataStore, childPath, child);
+                existenceChecks.modified(childPath);
             }
         } else {
             if (errorIfExists) {
-                checkItemDoesNotExistsWithinTransaction(rWTransaction, dataStore, path);
+                checkItemDoesNotExist(existenceChecks, path);
             }
 
             TransactionUtil.ensureParentsByMerge(path, schemaContext, rWTransaction);
             rWTransaction.put(dataStore, path, payload);
+            existenceChecks.modified(path);
         }
     }
 
     /**
      * Check if items already exists at specified {@code path}. Throws {@link RestconfDocumentedException} if
      * data does NOT already exists.
-     * @param rWTransaction Transaction
-     * @param store Datastore
+     * @param existenceChecks Existence of data checked by edits
      * @param path Path to be checked
      */
-    public static void checkItemExistsWithinTransaction(final DOMDataReadWriteTransaction rWTransaction,
-                                                        final LogicalDatastoreType store, final YangInstanceIdentifier path) {
-        final CheckedFuture<Boolean, ReadFailedException> future = rWTransaction.exists(store, path);
-        final FutureDataFactory<Boolean> response = new FutureDataFactory<>();
-
-        FutureCallbackTx.addCallback(future, PatchData.PATCH_TX_TYPE, response);
-
-        if (!response.result) {
+    private static void checkItemExists(final ExistenceChecks existenceChecks, final YangInstanceIdentifier path) {
+        if (!existenceChecks.exists(path)) {
             final String errMsg = "Operation via Restconf was not executed because data does not exist";
             LOG.trace("{}:{}", errMsg, path);
             throw new RestconfDocumentedException(
@@ -299,22 +317,87 @@ public final class PatchDataTransactionUtil {
     /**
      * Check if items do NOT already exists at specified {@code path}. Throws {@link RestconfDocumentedException} if
      * data already exists.
-     * @param rWTransaction Transaction
-     * @param store Datastore
+     * @param existenceChecks Existence of data checked by edits
      * @param path Path to be checked
      */
-    public static void checkItemDoesNotExistsWithinTransaction(final DOMDataReadWriteTransaction rWTransaction,
-                                                               final LogicalDatastoreType store, final YangInstanceIdentifier path) {
-        final CheckedFuture<Boolean, ReadFailedException> future = rWTransaction.exists(store, path);
-        final FutureDataFactory<Boolean> response = new FutureDataFactory<>();
-
-        FutureCallbackTx.addCallback(future, PatchData.PATCH_TX_TYPE, response);
-
-        if (response.result) {
+    private static void checkItemDoesNotExist(final ExistenceChecks existenceChecks,
+                                              final YangInstanceIdentifier path) {
+        if (existenceChecks.exists(path)) {
             final String errMsg = "Operation via Restconf was not executed because data already exists";
             LOG.trace("{}:{}", errMsg, path);
             throw new RestconfDocumentedException(
                     "Data already exists", ErrorType.PROTOCOL, ErrorTag.DATA_EXISTS, path);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Existence of data checked by edits of one PATCH. Existence of all data checked by CREATE and DELETE edits is
+     * read at once before edits are applied, so the checks do not wait for each other. Preceding edits of the same
+     * PATCH can change the answer, data overlapping with them are therefore read again within the transaction.
+     */
+    private static final class ExistenceChecks {
+        private final DOMDataReadWriteTransaction transaction;
+        private final LogicalDatastoreType store;
+        private final Map<YangInstanceIdentifier, CheckedFuture<Boolean, ReadFailedException>> prefetched =
+                new HashMap<>();
+        // data written or deleted by applied edits
+        private final List<YangInstanceIdentifier> modified = new ArrayList<>();
+        // parents created by merge of empty structure, data below them do not change
+        private final List<YangInstanceIdentifier> mergedParents = new ArrayList<>();
+
+        ExistenceChecks(final DOMDataReadWriteTransaction transaction, final LogicalDatastoreType store,
+                        final List<PATCHEntity> edits) {
+            this.transaction = transaction;
+            this.store = store;
+            for (final PATCHEntity edit : edits) {
+                if (PATCHEditOperation.CREATE.name().equalsIgnoreCase(edit.getOperation())) {
+                    if (edit.getNode() instanceof MapNode) {
+                        for (final MapEntryNode child : ((MapNode) edit.getNode()).getValue()) {
+                            prefetch(edit.getTargetNode().node(child.getIdentifier()));
+                        }
+                    } else {
+                        prefetch(edit.getTargetNode());
+                    }
+                } else if (PATCHEditOperation.DELETE.name().equalsIgnoreCase(edit.getOperation())) {
+                    prefetch(edit.getTargetNode());
+                }
+            }
+        }
+
+        private void prefetch(final YangInstanceIdentifier path) {
+            if (!this.prefetched.containsKey(path)) {
+                this.prefetched.put(path, this.transaction.exists(this.store, path));
+            }
+        }
+
+        boolean exists(final YangInstanceIdentifier path) {
+            CheckedFuture<Boolean, ReadFailedException> future = this.prefetched.get(path);
+            if (future == null || isModified(path)) {
+                future = this.transaction.exists(this.store, path);
+            }
+            return FutureCallbackTx.getResult(FutureCallbackTx.toResultFuture(future, PatchData.PATCH_TX_TYPE));
+        }
+
+        void modified(final YangInstanceIdentifier path) {
+            this.modified.add(path);
+        }
+
+        void parentsMerged(final YangInstanceIdentifier path) {
+            this.mergedParents.add(path);
+        }
+
+        private boolean isModified(final YangInstanceIdentifier path) {
+            for (final YangInstanceIdentifier modifiedPath : this.modified) {
+                if (modifiedPath.contains(path) || path.contains(modifiedPath)) {
+                    return true;
+                }
+            }
+            for (final YangInstanceIdentifier parentsPath : this.mergedParents) {
+                if (path.contains(parentsPath)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
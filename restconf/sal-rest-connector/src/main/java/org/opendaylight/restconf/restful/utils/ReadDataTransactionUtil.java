@@ -7,15 +7,15 @@
  */
 package org.opendaylight.restconf.restful.utils;
 
+import com.google.common.base.Function;
 import com.google.common.base.Optional;
 import com.google.common.primitives.Ints;
+import com.google.common.util.concurrent.AsyncFunction;
 import com.google.common.util.concurrent.CheckedFuture;
-import java.util.Collection;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
-import java.util.function.Function;
-import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import javax.ws.rs.core.UriInfo;
@@ -39,6 +39,7 @@ import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgum
 import org.opendaylight.yangtools.yang.data.api.schema.AugmentationNode;
 import org.opendaylight.yangtools.yang.data.api.schema.ChoiceNode;
 import org.opendaylight.yangtools.yang.data.api.schema.ContainerNode;
+import org.opendaylight.yangtools.yang.data.api.schema.DataContainerNode;
 import org.opendaylight.yangtools.yang.data.api.schema.DataContainerChild;
 import org.opendaylight.yangtools.yang.data.api.schema.LeafNode;
 import org.opendaylight.yangtools.yang.data.api.schema.MapEntryNode;
@@ -50,7 +51,6 @@ import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.CollectionNo
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContainerNodeAttrBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.DataContainerNodeBuilder;
 import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.NormalizedNodeAttrBuilder;
-import org.opendaylight.yangtools.yang.data.impl.schema.builder.api.NormalizedNodeContainerBuilder;
 import org.opendaylight.yangtools.yang.data.util.DataSchemaContextTree;
 import org.opendaylight.yangtools.yang.model.api.ContainerSchemaNode;
 import org.opendaylight.yangtools.yang.model.api.DataSchemaNode;
@@ -70,6 +70,9 @@ import org.opendaylight.yangtools.yang.model.api.SchemaContext;
  */
 public final class ReadDataTransactionUtil {
 
+    private static final Function<Optional<NormalizedNode<?, ?>>, NormalizedNode<?, ?>> OPTIONAL_DATA =
+            Optional::orNull;
+
     private ReadDataTransactionUtil() {
         throw new UnsupportedOperationException("Util class.");
     }
@@ -205,18 +208,27 @@ public final class ReadDataTransactionUtil {
      */
     public static @Nullable NormalizedNode<?, ?> readData(@Nonnull final String valueOfContent,
             @Nonnull final TransactionVarsWrapper transactionNode, final String withDefa) {
+        return FutureCallbackTx.getResult(readDataAsync(valueOfContent, transactionNode, withDefa));
+    }
+
+    /**
+     * Read specific type of data from data store via transaction without waiting for the result.
+     *
+     * @param valueOfContent
+     *            - type of data to read (config, state, all)
+     * @param transactionNode
+     *            - {@link TransactionVarsWrapper} - wrapper for variables
+     * @param withDefa
+     *            - vaule of with-defaults parameter
+     * @return {@link ListenableFuture} of {@link NormalizedNode}, completed with null if no data exists
+     */
+    public static @Nonnull ListenableFuture<NormalizedNode<?, ?>> readDataAsync(@Nonnull final String valueOfContent,
+            @Nonnull final TransactionVarsWrapper transactionNode, final String withDefa) {
         switch (valueOfContent) {
             case RestconfDataServiceConstant.ReadData.CONFIG:
-                transactionNode.setLogicalDatastoreType(LogicalDatastoreType.CONFIGURATION);
-                if (withDefa == null) {
-                    return readDataViaTransaction(transactionNode);
-                } else {
-                    return prepareDataByParamWithDef(readDataViaTransaction(transactionNode),
-                            transactionNode.getInstanceIdentifier().getInstanceIdentifier(), withDefa);
-                }
+                return readConfigData(transactionNode, withDefa);
             case RestconfDataServiceConstant.ReadData.NONCONFIG:
-                transactionNode.setLogicalDatastoreType(LogicalDatastoreType.OPERATIONAL);
-                return readDataViaTransaction(transactionNode);
+                return readDataViaTransaction(transactionNode, LogicalDatastoreType.OPERATIONAL);
 
             case RestconfDataServiceConstant.ReadData.ALL:
                 return readAllData(transactionNode, withDefa);
@@ -354,49 +366,66 @@ public final class ReadDataTransactionUtil {
     }
 
     /**
-     * If is set specific {@link LogicalDatastoreType} in
-     * {@link TransactionVarsWrapper}, then read this type of data from DS. If
-     * don't, we have to read all data from DS (state + config)
+     * Read specific type of data from DS.
      *
      * @param transactionNode
      *            - {@link TransactionVarsWrapper} - wrapper for variables
-     * @return {@link NormalizedNode}
+     * @param type
+     *            - {@link LogicalDatastoreType} of data
+     * @return {@link ListenableFuture} of {@link NormalizedNode}
      */
-    private static @Nullable NormalizedNode<?, ?> readDataViaTransaction(
-            @Nonnull final TransactionVarsWrapper transactionNode) {
+    private static ListenableFuture<NormalizedNode<?, ?>> readDataViaTransaction(
+            @Nonnull final TransactionVarsWrapper transactionNode, final LogicalDatastoreType type) {
         final CheckedFuture<Optional<NormalizedNode<?, ?>>, ReadFailedException> listenableFuture = transactionNode
-                .getTransactionChain().newReadOnlyTransaction().read(transactionNode.getLogicalDatastoreType(),
+                .getTransactionChain().newReadOnlyTransaction().read(type,
                         transactionNode.getInstanceIdentifier().getInstanceIdentifier());
-        final NormalizedNodeFactory dataFactory = new NormalizedNodeFactory();
-        FutureCallbackTx.addCallback(listenableFuture, RestconfDataServiceConstant.ReadData.READ_TYPE_TX,
-                dataFactory);
-        return dataFactory.build();
+        return Futures.transform(FutureCallbackTx.toResultFuture(listenableFuture,
+                RestconfDataServiceConstant.ReadData.READ_TYPE_TX), OPTIONAL_DATA);
     }
 
     /**
-     * Read config and state data, then map them.
+     * Read config data and apply with-defaults parameter to them.
      *
      * @param transactionNode
      *            - {@link TransactionVarsWrapper} - wrapper for variables
      * @param withDefa
-     * @return {@link NormalizedNode}
+     *            - vaule of with-defaults parameter
+     * @return {@link ListenableFuture} of {@link NormalizedNode}
      */
-    private static @Nullable NormalizedNode<?, ?> readAllData(@Nonnull final TransactionVarsWrapper transactionNode,
-            final String withDefa) {
-        // PREPARE STATE DATA NODE
-        transactionNode.setLogicalDatastoreType(LogicalDatastoreType.OPERATIONAL);
-        final NormalizedNode<?, ?> stateDataNode = readDataViaTransaction(transactionNode);
-
-        // PREPARE CONFIG DATA NODE
-        transactionNode.setLogicalDatastoreType(LogicalDatastoreType.CONFIGURATION);
-        final NormalizedNode<?, ?> configDataNode;
+    private static ListenableFuture<NormalizedNode<?, ?>> readConfigData(
+            @Nonnull final TransactionVarsWrapper transactionNode, final String withDefa) {
+        final ListenableFuture<NormalizedNode<?, ?>> configData =
+                readDataViaTransaction(transactionNode, LogicalDatastoreType.CONFIGURATION);
         if (withDefa == null) {
-            configDataNode = readDataViaTransaction(transactionNode);
-        } else {
-            configDataNode = prepareDataByParamWithDef(readDataViaTransaction(transactionNode),
-                    transactionNode.getInstanceIdentifier().getInstanceIdentifier(), withDefa);
+            return configData;
         }
+        final YangInstanceIdentifier path = transactionNode.getInstanceIdentifier().getInstanceIdentifier();
+        return Futures.transform(configData, (Function<NormalizedNode<?, ?>, NormalizedNode<?, ?>>)
+                node -> prepareDataByParamWithDef(node, path, withDefa));
+    }
 
+    /**
+     * Read config and state data concurrently, then map them.
+     *
+     * @param transactionNode
+     *            - {@link TransactionVarsWrapper} - wrapper for variables
+     * @param withDefa
+     *            - vaule of with-defaults parameter
+     * @return {@link ListenableFuture} of {@link NormalizedNode}
+     */
+    private static ListenableFuture<NormalizedNode<?, ?>> readAllData(
+            @Nonnull final TransactionVarsWrapper transactionNode, final String withDefa) {
+        // PREPARE STATE AND CONFIG DATA NODES
+        final ListenableFuture<NormalizedNode<?, ?>> stateData =
+                readDataViaTransaction(transactionNode, LogicalDatastoreType.OPERATIONAL);
+        final ListenableFuture<NormalizedNode<?, ?>> configData = readConfigData(transactionNode, withDefa);
+        return Futures.transform(Futures.allAsList(stateData, configData),
+                (Function<List<NormalizedNode<?, ?>>, NormalizedNode<?, ?>>)
+                        data -> mergeData(data.get(0), data.get(1)));
+    }
+
+    private static @Nullable NormalizedNode<?, ?> mergeData(@Nullable final NormalizedNode<?, ?> stateDataNode,
+            @Nullable final NormalizedNode<?, ?> configDataNode) {
         // if no data exists
         if ((stateDataNode == null) && (configDataNode == null)) {
             return null;
@@ -504,40 +533,35 @@ public final class ReadDataTransactionUtil {
             final CollectionNodeBuilder<MapEntryNode, MapNode> builder = ImmutableNodes
                     .mapNodeBuilder().withNodeIdentifier(((MapNode) configDataNode).getIdentifier());
 
-            mapValueToBuilder(
-                    ((MapNode) configDataNode).getValue(), ((MapNode) stateDataNode).getValue(), builder);
+            mapValueToBuilder((MapNode) configDataNode, (MapNode) stateDataNode, builder);
 
             return builder.build();
         } else if (configDataNode instanceof MapEntryNode) {
             final DataContainerNodeBuilder<NodeIdentifierWithPredicates, MapEntryNode> builder = ImmutableNodes
                     .mapEntryBuilder().withNodeIdentifier(((MapEntryNode) configDataNode).getIdentifier());
 
-            mapValueToBuilder(
-                    ((MapEntryNode) configDataNode).getValue(), ((MapEntryNode) stateDataNode).getValue(), builder);
+            mapValueToBuilder((MapEntryNode) configDataNode, (MapEntryNode) stateDataNode, builder);
 
             return builder.build();
         } else if (configDataNode instanceof ContainerNode) {
             final DataContainerNodeAttrBuilder<NodeIdentifier, ContainerNode> builder = Builders
                     .containerBuilder().withNodeIdentifier(((ContainerNode) configDataNode).getIdentifier());
 
-            mapValueToBuilder(
-                    ((ContainerNode) configDataNode).getValue(), ((ContainerNode) stateDataNode).getValue(), builder);
+            mapValueToBuilder((ContainerNode) configDataNode, (ContainerNode) stateDataNode, builder);
 
             return builder.build();
         } else if (configDataNode instanceof AugmentationNode) {
             final DataContainerNodeBuilder<AugmentationIdentifier, AugmentationNode> builder = Builders
                     .augmentationBuilder().withNodeIdentifier(((AugmentationNode) configDataNode).getIdentifier());
 
-            mapValueToBuilder(
-                    ((AugmentationNode) configDataNode).getValue(), ((AugmentationNode) stateDataNode).getValue(), builder);
+            mapValueToBuilder((AugmentationNode) configDataNode, (AugmentationNode) stateDataNode, builder);
 
             return builder.build();
         } else if (configDataNode instanceof ChoiceNode) {
             final DataContainerNodeBuilder<NodeIdentifier, ChoiceNode> builder = Builders
                     .choiceBuilder().withNodeIdentifier(((ChoiceNode) configDataNode).getIdentifier());
 
-            mapValueToBuilder(
-                    ((ChoiceNode) configDataNode).getValue(), ((ChoiceNode) stateDataNode).getValue(), builder);
+            mapValueToBuilder((ChoiceNode) configDataNode, (ChoiceNode) stateDataNode, builder);
 
             return builder.build();
         } else if (configDataNode instanceof LeafNode) {
@@ -548,70 +572,52 @@ public final class ReadDataTransactionUtil {
     }
 
     /**
-     * Map value from container node to builder.
+     * Map children of config and state data container node to builder. Children present in only one of them are
+     * added as they are, only children present in both are merged one level down with {@code prepareData} method.
      *
      * @param configData
-     *            - collection of config data nodes
+     *            - config data node
      * @param stateData
-     *            - collection of state data nodes
+     *            - state data node
      * @param builder
      *            - builder
      */
-    private static <T extends NormalizedNode<? extends PathArgument, ?>> void mapValueToBuilder(
-            @Nonnull final Collection<T> configData,
-            @Nonnull final Collection<T> stateData,
-            @Nonnull final NormalizedNodeContainerBuilder<?, PathArgument, T, ?> builder) {
-        final Map<PathArgument, T> configMap = configData.stream().collect(
-                Collectors.toMap(NormalizedNode::getIdentifier, Function.identity()));
-        final Map<PathArgument, T> stateMap = stateData.stream().collect(
-                Collectors.toMap(NormalizedNode::getIdentifier, Function.identity()));
-
-        // merge config and state data of children with different identifiers
-        mapDataToBuilder(configMap, stateMap, builder);
-
-        // merge config and state data of children with the same identifiers
-        mergeDataToBuilder(configMap, stateMap, builder);
-    }
-
-    /**
-     * Map data with different identifiers to builder. Data with different identifiers can be just added
-     * as childs to parent node.
-     *
-     * @param configMap
-     *            - map of config data nodes
-     * @param stateMap
-     *            - map of state data nodes
-     * @param builder
-     *           - builder
-     */
-    private static <T extends NormalizedNode<? extends PathArgument, ?>> void mapDataToBuilder(
-            @Nonnull final Map<PathArgument, T> configMap,
-            @Nonnull final Map<PathArgument, T> stateMap,
-            @Nonnull final NormalizedNodeContainerBuilder<?, PathArgument, T, ?> builder) {
-        configMap.entrySet().stream().filter(x -> !stateMap.containsKey(x.getKey())).forEach(
-                y -> builder.addChild(y.getValue()));
-        stateMap.entrySet().stream().filter(x -> !configMap.containsKey(x.getKey())).forEach(
-                y -> builder.addChild(y.getValue()));
+    private static void mapValueToBuilder(@Nonnull final DataContainerNode<?> configData,
+            @Nonnull final DataContainerNode<?> stateData, @Nonnull final DataContainerNodeBuilder<?, ?> builder) {
+        for (final DataContainerChild<? extends PathArgument, ?> configChild : configData.getValue()) {
+            final Optional<DataContainerChild<? extends PathArgument, ?>> stateChild =
+                    stateData.getChild(configChild.getIdentifier());
+            builder.withChild(stateChild.isPresent()
+                    ? (DataContainerChild<?, ?>) prepareData(configChild, stateChild.get()) : configChild);
+        }
+        for (final DataContainerChild<? extends PathArgument, ?> stateChild : stateData.getValue()) {
+            if (!configData.getChild(stateChild.getIdentifier()).isPresent()) {
+                builder.withChild(stateChild);
+            }
+        }
     }
 
     /**
-     * Map data with the same identifiers to builder. Data with the same identifiers cannot be just added but we need to
-     * go one level down with {@code prepareData} method.
+     * Map entries of config and state data list to builder, the same way as children of container nodes.
      *
-     * @param configMap
-     *            - immutable config data
-     * @param stateMap
-     *            - immutable state data
+     * @param configData
+     *            - config data list
+     * @param stateData
+     *            - state data list
      * @param builder
-     *           - builder
+     *            - builder
      */
-    @SuppressWarnings("unchecked")
-    private static <T extends NormalizedNode<? extends PathArgument, ?>> void mergeDataToBuilder(
-            @Nonnull final Map<PathArgument, T> configMap,
-            @Nonnull final Map<PathArgument, T> stateMap,
-            @Nonnull final NormalizedNodeContainerBuilder<?, PathArgument, T, ?> builder) {
-        // it is enough to process only config data because operational contains the same data
-        configMap.entrySet().stream().filter(x -> stateMap.containsKey(x.getKey())).forEach(
-                y -> builder.addChild((T) prepareData(y.getValue(), stateMap.get(y.getKey()))));
+    private static void mapValueToBuilder(@Nonnull final MapNode configData, @Nonnull final MapNode stateData,
+            @Nonnull final CollectionNodeBuilder<MapEntryNode, MapNode> builder) {
+        for (final MapEntryNode configEntry : configData.getValue()) {
+            final Optional<MapEntryNode> stateEntry = stateData.getChild(configEntry.getIdentifier());
+            builder.withChild(stateEntry.isPresent()
+                    ? (MapEntryNode) prepareData(configEntry, stateEntry.get()) : configEntry);
+        }
+        for (final MapEntryNode stateEntry : stateData.getValue()) {
+            if (!configData.getChild(stateEntry.getIdentifier()).isPresent()) {
+                builder.withChild(stateEntry);
+            }
+        }
     }
 }
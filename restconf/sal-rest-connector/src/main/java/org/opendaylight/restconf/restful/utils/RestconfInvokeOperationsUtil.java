@@ -9,6 +9,7 @@ package org.opendaylight.restconf.restful.utils;
 
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.CheckedFuture;
+import com.google.common.util.concurrent.ListenableFuture;
 import java.util.concurrent.CancellationException;
 import javax.ws.rs.core.Response.Status;
 import org.opendaylight.controller.md.sal.dom.api.DOMMountPoint;
@@ -49,6 +50,22 @@ public class RestconfInvokeOperationsUtil {
      */
     public static DOMRpcResult invokeRpcViaMountPoint(final DOMMountPoint mountPoint, final NormalizedNode<?, ?> data,
             final SchemaPath schemaPath) {
+        return FutureCallbackTx.getResult(invokeRpcViaMountPointAsync(mountPoint, data, schemaPath));
+    }
+
+    /**
+     * Invoking rpc via mount point without waiting for the result
+     *
+     * @param mountPoint
+     *            - mount point
+     * @param data
+     *            - input data
+     * @param schemaPath
+     *            - schema path of data
+     * @return {@link ListenableFuture} of result
+     */
+    public static ListenableFuture<DOMRpcResult> invokeRpcViaMountPointAsync(final DOMMountPoint mountPoint,
+            final NormalizedNode<?, ?> data, final SchemaPath schemaPath) {
         final Optional<DOMRpcService> mountPointService = mountPoint.getService(DOMRpcService.class);
         if (mountPointService.isPresent()) {
             final CheckedFuture<DOMRpcResult, DOMRpcException> rpc = mountPointService.get().invokeRpc(schemaPath,
@@ -73,6 +90,22 @@ public class RestconfInvokeOperationsUtil {
      */
     public static DOMRpcResult invokeRpc(final NormalizedNode<?, ?> data, final SchemaPath schemaPath,
             final RpcServiceHandler rpcServiceHandler) {
+        return FutureCallbackTx.getResult(invokeRpcAsync(data, schemaPath, rpcServiceHandler));
+    }
+
+    /**
+     * Invoke rpc without waiting for the result
+     *
+     * @param data
+     *            - input data
+     * @param schemaPath
+     *            - schema path of data
+     * @param rpcServiceHandler
+     *            - rpc service handler to invoke rpc
+     * @return {@link ListenableFuture} of result
+     */
+    public static ListenableFuture<DOMRpcResult> invokeRpcAsync(final NormalizedNode<?, ?> data,
+            final SchemaPath schemaPath, final RpcServiceHandler rpcServiceHandler) {
         final DOMRpcService rpcService = rpcServiceHandler.get();
         if (rpcService == null) {
             throw new RestconfDocumentedException(Status.SERVICE_UNAVAILABLE);
@@ -106,9 +139,8 @@ public class RestconfInvokeOperationsUtil {
         }
     }
 
-    private static DOMRpcResult prepareResult(final CheckedFuture<DOMRpcResult, DOMRpcException> rpc) {
-        final RpcResultFactory dataFactory = new RpcResultFactory();
-        FutureCallbackTx.addCallback(rpc, RestconfDataServiceConstant.PostData.POST_TX_TYPE, dataFactory);
-        return dataFactory.build();
+    private static ListenableFuture<DOMRpcResult> prepareResult(
+            final CheckedFuture<DOMRpcResult, DOMRpcException> rpc) {
+        return FutureCallbackTx.toResultFuture(rpc, RestconfDataServiceConstant.PostData.POST_TX_TYPE);
     }
 }
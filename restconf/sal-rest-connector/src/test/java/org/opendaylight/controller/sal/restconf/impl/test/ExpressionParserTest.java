@@ -7,17 +7,16 @@
  */
 package org.opendaylight.controller.sal.restconf.impl.test;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Collection;
+import javax.xml.parsers.DocumentBuilderFactory;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
 import org.opendaylight.controller.md.sal.rest.common.TestRestconfUtils;
+import org.opendaylight.netconf.sal.restconf.impl.RestconfDocumentedException;
 import org.opendaylight.netconf.sal.streams.listeners.ListenerAdapter;
 import org.opendaylight.netconf.sal.streams.listeners.Notificator;
 import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
@@ -25,6 +24,7 @@ import org.opendaylight.yangtools.yang.common.QName;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.NodeIdentifier;
 import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier.PathArgument;
+import org.w3c.dom.Document;
 
 public class ExpressionParserTest {
 
@@ -122,6 +122,12 @@ public class ExpressionParserTest {
         Assert.assertFalse(parser);
     }
 
+    @Test(expected = RestconfDocumentedException.class)
+    public void invalidFilterTest() throws Exception {
+        // filter is compiled when subscribing, not with every notification
+        parser("notification/data-changed-notification[", "data_change_notification_toaster_status_DOWN.xml");
+    }
+
     private boolean parser(final String filter, final String fileName) throws Exception {
         File xml = null;
         for (final File file : this.xmls) {
@@ -135,37 +141,16 @@ public class ExpressionParserTest {
         final ListenerAdapter listener = Notificator.createListener(path, "streamName", NotificationOutputType.JSON);
         listener.setQueryParams(null, null, filter);
         final Class<?> superclass = listener.getClass().getSuperclass().getSuperclass();
-        Method m = null;
-        for (final Method method : superclass.getDeclaredMethods()) {
-            if (method.getName().equals("parseFilterParam")) {
-                m = method;
-            }
-        }
-        if (m == null) {
-            throw new Exception("Methode parseFilterParam doesn't exist in " + superclass.getName());
-        }
+        final Method m = superclass.getDeclaredMethod("parseFilterParam", Document.class);
         m.setAccessible(true);
-        final Field xmlField = superclass.getDeclaredField("xml");
-        xmlField.setAccessible(true);
-        xmlField.set(listener, readFile(xml));
-        return (boolean) m.invoke(listener, null);
-    }
-
-    private String readFile(final File xml) throws Exception {
-        final BufferedReader br = new BufferedReader(new FileReader(xml));
-        try {
-            final StringBuilder sb = new StringBuilder();
-            String line = br.readLine();
-
-            while (line != null) {
-                sb.append(line);
-                sb.append("\n");
-                line = br.readLine();
-            }
-            return sb.toString();
-        } finally {
-            br.close();
-        }
+        return (boolean) m.invoke(listener, readFile(xml));
+    }
+
+    private Document readFile(final File xml) throws Exception {
+        // notifications are evaluated in the form they are generated, with namespaces
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(xml);
     }
 
 }
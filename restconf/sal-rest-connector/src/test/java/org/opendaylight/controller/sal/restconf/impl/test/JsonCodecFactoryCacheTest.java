@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.restconf.impl.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.CacheStats;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.dom.api.DOMMountPoint;
+import org.opendaylight.controller.md.sal.dom.api.DOMMountPointService;
+import org.opendaylight.netconf.sal.restconf.impl.JsonCodecFactoryCache;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.codec.gson.JSONCodecFactory;
+import org.opendaylight.yangtools.yang.model.api.SchemaContext;
+
+public class JsonCodecFactoryCacheTest {
+
+    @Test
+    public void testCodecFactoryIsReused() throws Exception {
+        final SchemaContext schemaContext = TestUtils.loadSchemaContext("/modules");
+
+        final JSONCodecFactory codecs = JsonCodecFactoryCache.get(schemaContext);
+        assertSame(codecs, JsonCodecFactoryCache.get(schemaContext));
+
+        JsonCodecFactoryCache.invalidate(schemaContext);
+        assertNotSame(codecs, JsonCodecFactoryCache.get(schemaContext));
+    }
+
+    @Test
+    public void testStats() throws Exception {
+        final SchemaContext schemaContext = TestUtils.loadSchemaContext("/modules");
+        final CacheStats before = JsonCodecFactoryCache.stats();
+
+        JsonCodecFactoryCache.get(schemaContext);
+        JsonCodecFactoryCache.get(schemaContext);
+
+        final CacheStats stats = JsonCodecFactoryCache.stats().minus(before);
+        assertEquals(1, stats.missCount());
+        assertEquals(1, stats.hitCount());
+    }
+
+    @Test
+    public void testCodecFactoryOfRemovedMountPointIsInvalidated() throws Exception {
+        final SchemaContext schemaContext = TestUtils.loadSchemaContext("/modules");
+        final YangInstanceIdentifier path = YangInstanceIdentifier.of(QName.create("urn:test", "2017-01-01", "mount"));
+
+        final DOMMountPoint mountPoint = mock(DOMMountPoint.class);
+        doReturn(schemaContext).when(mountPoint).getSchemaContext();
+        final DOMMountPointService mountService = mock(DOMMountPointService.class);
+        doReturn(Optional.of(mountPoint)).when(mountService).getMountPoint(path);
+
+        final JsonCodecFactoryCache.MountPointListener listener =
+                new JsonCodecFactoryCache.MountPointListener(mountService);
+        listener.onMountPointCreated(path);
+
+        final JSONCodecFactory codecs = JsonCodecFactoryCache.get(schemaContext);
+        assertSame(codecs, JsonCodecFactoryCache.get(schemaContext));
+
+        listener.onMountPointRemoved(path);
+        assertNotSame(codecs, JsonCodecFactoryCache.get(schemaContext));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.controller.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.netty.buffer.ByteBuf;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Map.Entry;
+import org.junit.Before;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.common.api.data.AsyncDataChangeEvent;
+import org.opendaylight.controller.sal.restconf.impl.test.TestUtils;
+import org.opendaylight.netconf.sal.restconf.impl.ControllerContext;
+import org.opendaylight.netconf.sal.streams.listeners.ListenerAdapter;
+import org.opendaylight.netconf.sal.streams.listeners.Notificator;
+import org.opendaylight.yang.gen.v1.urn.sal.restconf.event.subscription.rev140708.NotificationOutputTypeGrouping.NotificationOutputType;
+import org.opendaylight.yangtools.yang.common.QName;
+import org.opendaylight.yangtools.yang.common.QNameModule;
+import org.opendaylight.yangtools.yang.data.api.YangInstanceIdentifier;
+import org.opendaylight.yangtools.yang.data.api.schema.NormalizedNode;
+import org.opendaylight.yangtools.yang.data.impl.schema.ImmutableNodes;
+
+public class ListenerAdapterTest {
+
+    private static final String DESCRIPTION = "say \"hi\" & </bye> \\ done";
+
+    private QName cont;
+    private QName lst;
+    private QName name;
+    private QName descr;
+    private QName lf;
+
+    @Before
+    public void init() throws Exception {
+        ControllerContext.getInstance().setGlobalSchema(TestUtils.loadSchemaContext("/listeners"));
+        final QNameModule module =
+                QNameModule.create(new URI("list:test"), new SimpleDateFormat("yyyy-MM-dd").parse("2017-02-01"));
+        this.cont = QName.create(module, "cont");
+        this.lst = QName.create(module, "lst");
+        this.name = QName.create(module, "name");
+        this.descr = QName.create(module, "descr");
+        this.lf = QName.create(module, "lf");
+    }
+
+    /**
+     * JSON events used to be converted from XML events by org.json. Events written by the JSON writer use module
+     * qualified names and do not carry xml namespaces, but have to keep the same paths, operations and values.
+     */
+    @Test
+    public void testJsonMatchesOrgJsonOutput() throws Exception {
+        final YangInstanceIdentifier createdPath = YangInstanceIdentifier.builder().node(this.cont).node(this.lst)
+                .nodeWithKey(this.lst, this.name, "a").build();
+        final YangInstanceIdentifier updatedPath = YangInstanceIdentifier.builder().node(this.cont).node(this.lf)
+                .build();
+        final YangInstanceIdentifier removedPath = YangInstanceIdentifier.builder().node(this.cont).node(this.lst)
+                .nodeWithKey(this.lst, this.name, "b").build();
+
+        @SuppressWarnings("unchecked")
+        final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> change =
+                mock(AsyncDataChangeEvent.class);
+        when(change.getCreatedData()).thenReturn(ImmutableMap.of(createdPath,
+                ImmutableNodes.mapEntryBuilder(this.lst, this.name, "a")
+                        .withChild(ImmutableNodes.leafNode(this.descr, DESCRIPTION)).build()));
+        when(change.getUpdatedData()).thenReturn(ImmutableMap.of(updatedPath,
+                ImmutableNodes.leafNode(this.lf, "new value")));
+        when(change.getRemovedPaths()).thenReturn(ImmutableSet.of(removedPath));
+
+        final JsonObject notification = parse(prepareJson(createdPath, change))
+                .getAsJsonObject("ietf-restconf:notification");
+        assertTrue(notification.has("event-time"));
+        final JsonArray events = notification.getAsJsonObject("sal-remote:data-changed-notification")
+                .getAsJsonArray("data-change-event");
+
+        final JsonArray expectedEvents = parse(TestUtils.loadTextFile(ListenerAdapterTest.class
+                .getResource("/listeners/json/data-change-event-org-json.json").getPath()))
+                .getAsJsonObject("notification").getAsJsonObject("data-changed-notification")
+                .getAsJsonArray("data-change-event");
+
+        assertEquals(expectedEvents.size(), events.size());
+        for (int i = 0; i < expectedEvents.size(); i++) {
+            final JsonObject expected = expectedEvents.get(i).getAsJsonObject();
+            final JsonObject actual = events.get(i).getAsJsonObject();
+            assertEquals(expected.get("path"), actual.get("path"));
+            assertEquals(expected.get("operation"), actual.get("operation"));
+            assertEquals(expected.has("data"), actual.has("data"));
+            if (expected.has("data")) {
+                assertSameData(expected.getAsJsonObject("data"), actual.getAsJsonObject("data"));
+            }
+        }
+
+        // values are escaped, not only carried over
+        assertEquals(DESCRIPTION, events.get(0).getAsJsonObject().getAsJsonObject("data")
+                .getAsJsonArray("list-test:lst").get(0).getAsJsonObject().get("descr").getAsString());
+    }
+
+    /**
+     * org.json kept xml namespaces as attributes and text of elements with attributes as content, while the JSON
+     * writer qualifies top level nodes with module name and writes list entries as arrays.
+     */
+    private static void assertSameData(final JsonObject expected, final JsonObject actual) {
+        assertEquals(expected.entrySet().size(), actual.entrySet().size());
+        for (final Entry<String, JsonElement> entry : expected.entrySet()) {
+            final JsonElement actualValue = actual.get("list-test:" + entry.getKey());
+            final JsonObject expectedValue = entry.getValue().getAsJsonObject();
+            if (expectedValue.has("content")) {
+                assertEquals(expectedValue.get("content"), actualValue);
+                continue;
+            }
+
+            assertTrue(actualValue.isJsonArray());
+            assertEquals(1, actualValue.getAsJsonArray().size());
+            final JsonObject actualEntry = actualValue.getAsJsonArray().get(0).getAsJsonObject();
+            assertFalse(actualEntry.has("xmlns"));
+            assertEquals(expectedValue.entrySet().size() - 1, actualEntry.entrySet().size());
+            for (final Entry<String, JsonElement> leaf : expectedValue.entrySet()) {
+                if (!leaf.getKey().equals("xmlns")) {
+                    assertEquals(leaf.getValue(), actualEntry.get(leaf.getKey()));
+                }
+            }
+        }
+    }
+
+    private static JsonObject parse(final String json) {
+        return new JsonParser().parse(json).getAsJsonObject();
+    }
+
+    private static String prepareJson(final YangInstanceIdentifier path,
+            final AsyncDataChangeEvent<YangInstanceIdentifier, NormalizedNode<?, ?>> change) throws Exception {
+        final ListenerAdapter listener = Notificator.createListener(path, "list-test-stream",
+                NotificationOutputType.JSON);
+
+        final Field changeField = ListenerAdapter.class.getDeclaredField("change");
+        changeField.setAccessible(true);
+        changeField.set(listener, change);
+
+        final Method prepareJson = ListenerAdapter.class.getDeclaredMethod("prepareJson");
+        prepareJson.setAccessible(true);
+        final ByteBuf result = (ByteBuf) prepareJson.invoke(listener);
+        try {
+            return result.toString(StandardCharsets.UTF_8);
+        } finally {
+            result.release();
+        }
+    }
+}
@@ -14,9 +14,11 @@ import static org.mockito.Mockito.when;
 import com.google.common.base.Optional;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
+import io.netty.buffer.ByteBuf;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -253,8 +255,12 @@ public class NotificationListenerTest {
         schema.setAccessible(true);
         schema.set(notifi, this.schmeaCtx);
 
-        final String result = (String) prepareJsonM.invoke(notifi, null);
+        final ByteBuf result = (ByteBuf) prepareJsonM.invoke(notifi, null);
         Preconditions.checkNotNull(result);
-        return result;
+        try {
+            return result.toString(StandardCharsets.UTF_8);
+        } finally {
+            result.release();
+        }
     }
 }
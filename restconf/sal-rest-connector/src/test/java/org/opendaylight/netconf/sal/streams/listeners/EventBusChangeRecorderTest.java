@@ -0,0 +1,168 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.netty.util.ReferenceCountUtil;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import org.junit.Before;
+import org.junit.Test;
+
+public class EventBusChangeRecorderTest {
+
+    private final Set<Channel> subscribers = new CopyOnWriteArraySet<>();
+    private EventBusChangeRecorder<BaseListenerInterface> recorder;
+
+    @Before
+    public void setUp() throws Exception {
+        final BaseListenerInterface listener = mock(BaseListenerInterface.class);
+        doReturn(this.subscribers).when(listener).getSubscribers();
+        doReturn(true).when(listener).hasSubscribers();
+        doReturn("stream").when(listener).getStreamName();
+        this.recorder = new EventBusChangeRecorder<>(listener);
+    }
+
+    @Test
+    public void testFailedWriteReleasesData() throws Exception {
+        // fails writes the way transports do, releasing the message
+        final EmbeddedChannel channel = new EmbeddedChannel(new ChannelOutboundHandlerAdapter() {
+            @Override
+            public void write(final ChannelHandlerContext ctx, final Object msg, final ChannelPromise promise) {
+                ReferenceCountUtil.release(msg);
+                promise.setFailure(new IOException("Write failed"));
+            }
+        });
+        register(channel);
+
+        final ByteBuf data = postNotification("event");
+        this.recorder.flush();
+        assertNull(channel.readOutbound());
+        assertEquals(0, data.refCnt());
+    }
+
+    @Test
+    public void testFlushThreshold() throws Exception {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        register(channel);
+
+        for (int i = 0; i < EventBusChangeRecorder.MAX_UNFLUSHED_EVENTS - 1; i++) {
+            postNotification(String.valueOf(i));
+        }
+        assertTrue(channel.outboundMessages().isEmpty());
+
+        // frames are flushed once the threshold is reached
+        postNotification("last");
+        assertEquals(EventBusChangeRecorder.MAX_UNFLUSHED_EVENTS, channel.outboundMessages().size());
+        for (int i = 0; i < EventBusChangeRecorder.MAX_UNFLUSHED_EVENTS - 1; i++) {
+            assertEquals(String.valueOf(i), readFrame(channel));
+        }
+        assertEquals("last", readFrame(channel));
+
+        // and the count starts again
+        postNotification("next");
+        assertTrue(channel.outboundMessages().isEmpty());
+        this.recorder.flush();
+        assertEquals("next", readFrame(channel));
+    }
+
+    @Test
+    public void testDropWhenNotWritable() throws Exception {
+        final EmbeddedChannel channel = createSlowSubscriber();
+        register(channel);
+
+        // the first frame is not flushed and exceeds the high watermark
+        final ByteBuf written = postNotification("written");
+        assertFalse(channel.isWritable());
+        assertEquals(1, written.refCnt());
+
+        // frame of the dropped event is not created, its data are released
+        final ByteBuf dropped = postNotification("dropped");
+        assertEquals(0, dropped.refCnt());
+        assertTrue(this.subscribers.contains(channel));
+
+        // the subscriber caught up, it gets frames again
+        this.recorder.flush();
+        assertTrue(channel.isWritable());
+        postNotification("caught-up");
+        this.recorder.flush();
+
+        assertEquals("written", readFrame(channel));
+        assertEquals("caught-up", readFrame(channel));
+        assertNull(channel.readOutbound());
+        assertEquals(0, written.refCnt());
+    }
+
+    @Test
+    public void testCloseAfterDroppedFrames() throws Exception {
+        final EmbeddedChannel channel = createSlowSubscriber();
+        register(channel);
+        final ByteBuf written = postNotification("written");
+        assertFalse(channel.isWritable());
+
+        for (int i = 0; i < EventBusChangeRecorder.MAX_DROPPED_FRAMES; i++) {
+            assertEquals(0, postNotification("dropped").refCnt());
+        }
+        assertTrue(channel.isOpen());
+        assertTrue(this.subscribers.contains(channel));
+
+        // subscriber not reading any data is disconnected, its pending frame is released
+        assertEquals(0, postNotification("disconnected").refCnt());
+        assertFalse(channel.isOpen());
+        assertFalse(this.subscribers.contains(channel));
+        assertEquals(0, written.refCnt());
+    }
+
+    private static EmbeddedChannel createSlowSubscriber() {
+        final EmbeddedChannel channel = new EmbeddedChannel();
+        // low watermark goes first, the high one must not drop below it
+        channel.config().setWriteBufferLowWaterMark(1);
+        channel.config().setWriteBufferHighWaterMark(2);
+        return channel;
+    }
+
+    private static String readFrame(final EmbeddedChannel subscriber) {
+        final TextWebSocketFrame frame = (TextWebSocketFrame) subscriber.readOutbound();
+        try {
+            return frame.text();
+        } finally {
+            frame.release();
+        }
+    }
+
+    private void register(final Channel subscriber) {
+        final Event event = new Event(EventType.REGISTER);
+        event.setSubscriber(subscriber);
+        this.recorder.recordCustomerChange(event);
+    }
+
+    private ByteBuf postNotification(final String text) {
+        final ByteBuf data = PooledByteBufAllocator.DEFAULT.buffer();
+        data.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+        final Event event = new Event(EventType.NOTIFY);
+        event.setData(data);
+        this.recorder.recordCustomerChange(event);
+        return data;
+    }
+}
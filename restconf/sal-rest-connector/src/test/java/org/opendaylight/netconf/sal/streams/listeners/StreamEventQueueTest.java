@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.opendaylight.netconf.sal.streams.listeners;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StreamEventQueueTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private final Set<Channel> subscribers = new CopyOnWriteArraySet<>();
+    private StreamEventQueue queue;
+
+    @Before
+    public void setUp() throws Exception {
+        final BaseListenerInterface listener = mock(BaseListenerInterface.class);
+        doReturn(this.subscribers).when(listener).getSubscribers();
+        doReturn(true).when(listener).hasSubscribers();
+        doReturn("stream").when(listener).getStreamName();
+
+        this.queue = new StreamEventQueue(() -> this.tasks::add);
+        this.queue.setRecorder(new EventBusChangeRecorder<>(listener));
+    }
+
+    @After
+    public void tearDown() {
+        StreamEventQueue.shutdownDispatcher();
+    }
+
+    @Test
+    public void testOverflow() throws Exception {
+        final EmbeddedChannel subscriber = new EmbeddedChannel();
+        register(subscriber);
+
+        for (int i = 0; i < StreamEventQueue.MAX_QUEUED_NOTIFICATIONS; i++) {
+            post(String.valueOf(i));
+        }
+        // the queue is full, new notifications are dropped and released
+        final ByteBuf dropped = post("dropped");
+        assertEquals(0, dropped.refCnt());
+        assertEquals(StreamEventQueue.MAX_QUEUED_NOTIFICATIONS, this.queue.getQueuedNotifications());
+        assertEquals(1, this.queue.getDroppedNotifications());
+
+        // a single task drains the whole queue
+        assertEquals(1, this.tasks.size());
+        this.tasks.remove(0).run();
+        assertEquals(0, this.queue.getQueuedNotifications());
+        for (int i = 0; i < StreamEventQueue.MAX_QUEUED_NOTIFICATIONS; i++) {
+            assertEquals(String.valueOf(i), readFrame(subscriber));
+        }
+        assertNull(subscriber.readOutbound());
+
+        // once drained, notifications are accepted again
+        post("accepted");
+        this.tasks.remove(0).run();
+        assertEquals("accepted", readFrame(subscriber));
+        assertEquals(1, this.queue.getDroppedNotifications());
+    }
+
+    @Test
+    public void testOrderPerSubscriber() throws Exception {
+        final EmbeddedChannel first = new EmbeddedChannel();
+        final EmbeddedChannel second = new EmbeddedChannel();
+        register(first);
+        post("1");
+        register(second);
+        post("2");
+        post("3");
+        this.tasks.remove(0).run();
+
+        // the queue was drained, the next notification is dispatched by a new task
+        post("4");
+        assertEquals(1, this.tasks.size());
+        this.tasks.remove(0).run();
+
+        assertEquals("1", readFrame(first));
+        assertEquals("2", readFrame(first));
+        assertEquals("3", readFrame(first));
+        assertEquals("4", readFrame(first));
+        assertNull(first.readOutbound());
+
+        // the second subscriber gets notifications posted after its registration
+        assertEquals("2", readFrame(second));
+        assertEquals("3", readFrame(second));
+        assertEquals("4", readFrame(second));
+        assertNull(second.readOutbound());
+    }
+
+    @Test
+    public void testDispatcherShutdown() throws Exception {
+        final EventBusChangeRecorder<?> recorder = mock(EventBusChangeRecorder.class);
+        final StreamEventQueue sharedQueue = new StreamEventQueue();
+        sharedQueue.setRecorder(recorder);
+
+        final Event first = new Event(EventType.NOTIFY);
+        first.setData(Unpooled.buffer());
+        sharedQueue.post(first);
+        verify(recorder, timeout(5000)).recordCustomerChange(first);
+
+        StreamEventQueue.shutdownDispatcher();
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (isDispatcherRunning() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(isDispatcherRunning());
+
+        // the next event starts the dispatcher again
+        final Event second = new Event(EventType.NOTIFY);
+        second.setData(Unpooled.buffer());
+        sharedQueue.post(second);
+        verify(recorder, timeout(5000)).recordCustomerChange(second);
+    }
+
+    private static boolean isDispatcherRunning() {
+        for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getName().startsWith("restconf-stream-dispatcher-") && thread.isAlive()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void register(final Channel subscriber) {
+        final Event event = new Event(EventType.REGISTER);
+        event.setSubscriber(subscriber);
+        this.queue.post(event);
+    }
+
+    private ByteBuf post(final String text) {
+        final ByteBuf data = Unpooled.copiedBuffer(text, StandardCharsets.UTF_8);
+        final Event event = new Event(EventType.NOTIFY);
+        event.setData(data);
+        this.queue.post(event);
+        return data;
+    }
+
+    private static String readFrame(final EmbeddedChannel subscriber) {
+        final TextWebSocketFrame frame = (TextWebSocketFrame) subscriber.readOutbound();
+        try {
+            return frame.text();
+        } finally {
+            frame.release();
+        }
+    }
+}
@@ -13,6 +13,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
@@ -21,11 +22,14 @@ import static org.mockito.Mockito.mock;
 import com.google.common.base.Optional;
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import java.lang.reflect.Field;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import javax.ws.rs.core.MultivaluedHashMap;
 import javax.ws.rs.core.MultivaluedMap;
 import javax.ws.rs.core.Response;
@@ -37,6 +41,7 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opendaylight.controller.md.sal.common.api.data.LogicalDatastoreType;
+import org.opendaylight.controller.md.sal.common.api.data.ReadFailedException;
 import org.opendaylight.controller.md.sal.common.api.data.TransactionChainListener;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataBroker;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataReadOnlyTransaction;
@@ -209,6 +214,38 @@ public class RestconfDataServiceImplTest {
         assertEquals(this.buildBaseCont, ((NormalizedNodeContext) response.getEntity()).getData());
     }
 
+    @Test
+    public void testReadDataAsync() throws Exception {
+        doReturn(new MultivaluedHashMap<String, String>()).when(this.uriInfo).getQueryParameters();
+        final SettableFuture<Optional<NormalizedNode<?, ?>>> configData = SettableFuture.create();
+        doReturn(Futures.makeChecked(configData, ReadFailedException.MAPPER)).when(this.read)
+                .read(LogicalDatastoreType.CONFIGURATION, this.iidBase);
+        doReturn(Futures.immediateCheckedFuture(Optional.absent())).when(this.read).read(LogicalDatastoreType.OPERATIONAL, this.iidBase);
+        final ListenableFuture<Response> future = this.dataService.readDataAsync("example-jukebox:jukebox", this.uriInfo);
+
+        // response is not created until data are read
+        assertFalse(future.isDone());
+        configData.set(Optional.of(this.buildBaseCont));
+        assertTrue(future.isDone());
+        assertEquals(200, future.get().getStatus());
+        assertEquals(this.buildBaseCont, ((NormalizedNodeContext) future.get().getEntity()).getData());
+    }
+
+    @Test
+    public void testReadDataAsyncFailed() throws Exception {
+        doReturn(new MultivaluedHashMap<String, String>()).when(this.uriInfo).getQueryParameters();
+        doReturn(Futures.immediateFailedCheckedFuture(new ReadFailedException("read failed"))).when(this.read)
+                .read(LogicalDatastoreType.CONFIGURATION, this.iidBase);
+        doReturn(Futures.immediateCheckedFuture(Optional.absent())).when(this.read).read(LogicalDatastoreType.OPERATIONAL, this.iidBase);
+        final ListenableFuture<Response> future = this.dataService.readDataAsync("example-jukebox:jukebox", this.uriInfo);
+        try {
+            future.get();
+            fail("Expected exception " + RestconfDocumentedException.class);
+        } catch (final ExecutionException e) {
+            assertTrue(e.getCause() instanceof RestconfDocumentedException);
+        }
+    }
+
     /**
      * Test read data from mount point when both {@link LogicalDatastoreType#CONFIGURATION} and
      * {@link LogicalDatastoreType#OPERATIONAL} contains the same data and some additional data to be merged.
@@ -10,6 +10,8 @@ package org.opendaylight.restconf.restful.services.impl;
 
 import com.google.common.util.concurrent.CheckedFuture;
 import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
 import javax.ws.rs.core.UriInfo;
 import org.junit.Assert;
 import org.junit.Before;
@@ -19,6 +21,7 @@ import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.opendaylight.controller.md.sal.dom.api.DOMDataWriteTransaction;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcException;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcImplementationNotAvailableException;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
 import org.opendaylight.controller.md.sal.dom.api.DOMRpcService;
 import org.opendaylight.controller.md.sal.dom.api.DOMTransactionChain;
@@ -79,6 +82,29 @@ public class RestconfInvokeOperationsServiceImplTest {
         Assert.assertEquals(result, rpc.getData());
     }
 
+    @Test
+    public void testInvokeRpcAsync() throws Exception {
+        final String identifier = "invoke-rpc-module:rpcTest";
+        final NormalizedNode result = Mockito.mock(NormalizedNode.class);
+        final NormalizedNodeContext payload = prepNNC(result);
+        final SettableFuture<DOMRpcResult> rpcFuture = SettableFuture.create();
+        final SchemaPath schemaPath = payload.getInstanceIdentifierContext().getSchemaNode().getPath();
+        Mockito.when(this.rpcService.invokeRpc(schemaPath, payload.getData()))
+                .thenReturn(Futures.makeChecked(rpcFuture, e -> new DOMRpcImplementationNotAvailableException(e,
+                        "rpc failed")));
+        final UriInfo uriInfo = Mockito.mock(UriInfo.class);
+
+        final ListenableFuture<NormalizedNodeContext> future =
+                this.invokeOperationsService.invokeRpcAsync(identifier, payload, uriInfo);
+        // result is not created until rpc completes
+        Assert.assertFalse(future.isDone());
+        final DOMRpcResult domRpcResult = Mockito.mock(DOMRpcResult.class);
+        Mockito.when(domRpcResult.getResult()).thenReturn(result);
+        rpcFuture.set(domRpcResult);
+        Assert.assertTrue(future.isDone());
+        Assert.assertEquals(result, future.get().getData());
+    }
+
     private NormalizedNodeContext prepNNC(final NormalizedNode result) {
         final InstanceIdentifierContext context = Mockito.mock(InstanceIdentifierContext.class);
         final RpcDefinition schemaNode = Mockito.mock(RpcDefinition.class);
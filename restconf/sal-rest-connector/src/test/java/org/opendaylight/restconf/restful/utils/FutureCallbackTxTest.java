@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017 Cisco Systems, Inc. and others.  All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v1.0 which accompanies this distribution,
+ * and is available at http://www.eclipse.org/legal/epl-v10.html
+ */
+
+package org.opendaylight.restconf.restful.utils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.Test;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcImplementationNotAvailableException;
+import org.opendaylight.controller.md.sal.dom.api.DOMRpcResult;
+import org.opendaylight.netconf.sal.restconf.impl.RestconfDocumentedException;
+import org.opendaylight.yangtools.yang.common.RpcError;
+
+public class FutureCallbackTxTest {
+
+    @Test
+    public void testToResultFutureSuccess() throws Exception {
+        final SettableFuture<String> future = SettableFuture.create();
+        final ListenableFuture<String> result = FutureCallbackTx.toResultFuture(future, "READ");
+        assertFalse(result.isDone());
+        future.set("data");
+        assertEquals("data", result.get());
+    }
+
+    @Test
+    public void testToResultFutureRpcException() throws Exception {
+        final ListenableFuture<DOMRpcResult> result = FutureCallbackTx.toResultFuture(
+                Futures.immediateFailedFuture(new DOMRpcImplementationNotAvailableException("not available")),
+                "RPC");
+        // rpc failure is reported as rpc result with error
+        final DOMRpcResult rpcResult = result.get();
+        assertEquals(1, rpcResult.getErrors().size());
+        final RpcError error = rpcResult.getErrors().iterator().next();
+        assertEquals(RpcError.ErrorType.RPC, error.getErrorType());
+        assertEquals("operation-failed", error.getTag());
+        assertEquals("not available", error.getMessage());
+    }
+
+    @Test
+    public void testToResultFutureRestconfDocumentedException() throws Exception {
+        final RestconfDocumentedException exception = new RestconfDocumentedException("failed");
+        final ListenableFuture<Object> result =
+                FutureCallbackTx.toResultFuture(Futures.immediateFailedFuture(exception), "READ");
+        assertSame(exception, getFailure(result));
+    }
+
+    @Test
+    public void testToResultFutureOtherException() throws Exception {
+        final IllegalStateException exception = new IllegalStateException("failed");
+        final ListenableFuture<Object> result =
+                FutureCallbackTx.toResultFuture(Futures.immediateFailedFuture(exception), "READ");
+        final Throwable failure = getFailure(result);
+        assertTrue(failure instanceof RestconfDocumentedException);
+        assertSame(exception, failure.getCause());
+    }
+
+    @Test
+    public void testGetResultRethrowsRestconfDocumentedException() {
+        final RestconfDocumentedException exception = new RestconfDocumentedException("failed");
+        try {
+            FutureCallbackTx.getResult(Futures.immediateFailedFuture(exception));
+            fail("Expected exception " + RestconfDocumentedException.class);
+        } catch (final RestconfDocumentedException e) {
+            assertSame(exception, e);
+        }
+    }
+
+    private static Throwable getFailure(final ListenableFuture<?> future) throws InterruptedException {
+        assertTrue(future.isDone());
+        try {
+            future.get();
+            fail("Expected failed future");
+            return null;
+        } catch (final ExecutionException e) {
+            return e.getCause();
+        }
+    }
+}
@@ -13,6 +13,9 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.MockitoAnnotations.initMocks;
 
 import com.google.common.util.concurrent.Futures;
@@ -215,6 +218,9 @@ public class PatchDataTransactionUtilTest {
             assertTrue(entity.isOk());
         }
         assertTrue(patchStatusContext.isOk());
+        // read once for both edits before they are applied, again by delete after data was created
+        verify(this.rWTransaction, times(2))
+                .exists(LogicalDatastoreType.CONFIGURATION, this.targetNodeForCreateAndDelete);
     }
 
     @Test
@@ -241,6 +247,65 @@ public class PatchDataTransactionUtilTest {
                 patchStatusContext.getEditCollection().get(0).getEditErrors().get(0).getErrorTag());
     }
 
+    @Test
+    public void testCreateExistingDataFails() throws Exception {
+        doReturn(Futures.immediateCheckedFuture(true))
+                .when(this.rWTransaction).exists(LogicalDatastoreType.CONFIGURATION, this.targetNodeForCreateAndDelete);
+
+        final List<PATCHEntity> entities = new ArrayList<>();
+        entities.add(new PATCHEntity("edit1", "MERGE", this.targetNodeMerge, this.buildArtistList));
+        entities.add(new PATCHEntity("edit2", "CREATE", this.targetNodeForCreateAndDelete,
+                this.buildBaseContainerForTests));
+        entities.add(new PATCHEntity("edit3", "DELETE", this.targetNodeForCreateAndDelete));
+
+        final PATCHStatusContext patchStatusContext = patch(entities, "patchMCD");
+
+        // edits following the failed one are not applied and have no status
+        assertFalse(patchStatusContext.isOk());
+        final List<PATCHStatusEntity> statuses = patchStatusContext.getEditCollection();
+        assertEquals(2, statuses.size());
+        assertEquals("edit1", statuses.get(0).getEditId());
+        assertTrue(statuses.get(0).isOk());
+        assertEquals("edit2", statuses.get(1).getEditId());
+        assertFalse(statuses.get(1).isOk());
+        assertEquals(RestconfError.ErrorType.PROTOCOL, statuses.get(1).getEditErrors().get(0).getErrorType());
+        assertEquals(RestconfError.ErrorTag.DATA_EXISTS, statuses.get(1).getEditErrors().get(0).getErrorTag());
+
+        verify(this.rWTransaction).cancel();
+        verify(this.rWTransaction, never()).submit();
+        verify(this.rWTransaction, never()).delete(LogicalDatastoreType.CONFIGURATION,
+                this.targetNodeForCreateAndDelete);
+    }
+
+    @Test
+    public void testDeleteMissingDataFails() throws Exception {
+        doReturn(Futures.immediateCheckedFuture(false))
+                .when(this.rWTransaction).exists(LogicalDatastoreType.CONFIGURATION, this.targetNodeForCreateAndDelete);
+        doReturn(Futures.immediateCheckedFuture(false))
+                .when(this.rWTransaction).exists(LogicalDatastoreType.CONFIGURATION, this.targetNodeMerge);
+
+        final List<PATCHEntity> entities = new ArrayList<>();
+        entities.add(new PATCHEntity("edit1", "CREATE", this.targetNodeForCreateAndDelete,
+                this.buildBaseContainerForTests));
+        entities.add(new PATCHEntity("edit2", "DELETE", this.targetNodeMerge));
+        entities.add(new PATCHEntity("edit3", "REMOVE", this.targetNodeForCreateAndDelete));
+
+        final PATCHStatusContext patchStatusContext = patch(entities, "patchCDR");
+
+        assertFalse(patchStatusContext.isOk());
+        final List<PATCHStatusEntity> statuses = patchStatusContext.getEditCollection();
+        assertEquals(2, statuses.size());
+        assertEquals("edit1", statuses.get(0).getEditId());
+        assertTrue(statuses.get(0).isOk());
+        assertEquals("edit2", statuses.get(1).getEditId());
+        assertFalse(statuses.get(1).isOk());
+        assertEquals(RestconfError.ErrorTag.DATA_MISSING, statuses.get(1).getEditErrors().get(0).getErrorTag());
+
+        verify(this.rWTransaction).cancel();
+        verify(this.rWTransaction, never()).submit();
+        verify(this.rWTransaction, never()).delete(LogicalDatastoreType.CONFIGURATION, this.targetNodeMerge);
+    }
+
     @Test
     public void testPatchMergePutContainer() throws Exception {
         doReturn(Futures.immediateCheckedFuture(false)).doReturn(Futures.immediateCheckedFuture(true))
@@ -263,4 +328,12 @@ public class PatchDataTransactionUtilTest {
         }
         assertTrue(patchStatusContext.isOk());
     }
-}
\ No newline at end of file
+
+    private PATCHStatusContext patch(final List<PATCHEntity> entities, final String patchId) {
+        final InstanceIdentifierContext<? extends SchemaNode> iidContext =
+                new InstanceIdentifierContext<>(this.iIDCreateAndDelete, null, null, this.refSchemaCtx.get());
+        final PATCHContext patchContext = new PATCHContext(iidContext, entities, patchId);
+        final TransactionVarsWrapper wrapper = new TransactionVarsWrapper(iidContext, null, this.transactionChain);
+        return PatchDataTransactionUtil.patchData(patchContext, wrapper, this.refSchemaCtx);
+    }
+}